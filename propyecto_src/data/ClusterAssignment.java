@@ -0,0 +1,190 @@
+/** @file ClusterAssignment.java
+ *  @brief Contiene la clase ClusterAssignment
+ */
+
+package fxsrc.propyecto.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/** \class ClusterAssignment
+ *   \brief Índice del grupo de KMeans de cada usuario, junto con las listas de usuarios de cada grupo.
+ *
+ *   Guarda en arrays indexados por el índice interno del usuario (el de IdDictionary) en qué grupo está y en qué posición de la lista de su grupo,
+ *   así que buscar el grupo de un usuario, meterlo en un grupo o sacarlo de él se hace en tiempo constante (al sacar un usuario, el último
+ *   usuario de la lista ocupa su posición, así que el orden de los usuarios dentro de un grupo no se mantiene).
+ *   Trabaja directamente sobre las listas de grupos que recibe, que son las que se guardan en el fichero del modelo.
+ */
+public class ClusterAssignment {
+
+    /** \brief Diccionario de IDs de usuario a índices internos
+     */
+    private final IdDictionary usersDictionary;
+
+    /** \brief Usuarios de cada grupo
+     */
+    private final ArrayList<ArrayList<Integer>> groups;
+
+    /** \brief Grupo de cada usuario (por índice interno), o -1 si no está en ningún grupo
+     */
+    private int[] clusterOfUser;
+
+    /** \brief Posición de cada usuario (por índice interno) dentro de la lista de su grupo
+     */
+    private int[] positionInCluster;
+
+    /** \brief Número de veces que ha cambiado cada grupo (entra o sale un usuario)
+     */
+    private int[] modificationsOfCluster;
+
+    /** \brief Constructor de ClusterAssignment
+     *
+     * \param ArrayList<ArrayList<Integer>> groups Corresponde a los grupos de usuarios
+     * \param IdDictionary usersDictionary Corresponde al diccionario de IDs de usuario a índices internos
+     * \pre Ningún usuario está en dos grupos
+     * \post Se indexan los usuarios de \a groups (los que no estaban en \a usersDictionary se añaden)
+     */
+    public ClusterAssignment(ArrayList<ArrayList<Integer>> groups, IdDictionary usersDictionary) {
+        this.groups = groups;
+        this.usersDictionary = usersDictionary;
+        clusterOfUser = new int[0];
+        positionInCluster = new int[0];
+        modificationsOfCluster = new int[groups.size()];
+        for(int c = 0; c < groups.size(); ++c) {
+            ArrayList<Integer> group = groups.get(c);
+            for(int p = 0; p < group.size(); ++p) {
+                int index = IndexOf(group.get(p));
+                clusterOfUser[index] = c;
+                positionInCluster[index] = p;
+            }
+        }
+    }
+
+    /** \brief Devuelve el índice interno de un usuario, ampliando los arrays si hace falta
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \pre <em>Cierto</em>
+     * \post Devuelve el índice interno de \a userID (añadiéndolo al diccionario si no estaba) y los arrays tienen sitio para él
+     */
+    private int IndexOf(int userID) {
+        int index = usersDictionary.Add(userID);
+        if(index >= clusterOfUser.length) {
+            int oldLength = clusterOfUser.length;
+            int newLength = Math.max(index + 1, Math.max(usersDictionary.Size(), oldLength * 2));
+            clusterOfUser = Arrays.copyOf(clusterOfUser, newLength);
+            positionInCluster = Arrays.copyOf(positionInCluster, newLength);
+            Arrays.fill(clusterOfUser, oldLength, newLength, -1);
+        }
+        return index;
+    }
+
+    /** \brief Devuelve el grupo de un usuario
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \pre <em>Cierto</em>
+     * \post Devuelve el índice del grupo de \a userID, o -1 si no está en ningún grupo
+     */
+    public int GetCluster(int userID) {
+        int index = usersDictionary.GetIndex(userID);
+        if(index == -1 || index >= clusterOfUser.length) {
+            return -1;
+        }
+        return clusterOfUser[index];
+    }
+
+    /** \brief Devuelve la lista de usuarios de un grupo
+     *
+     * \param int cluster Corresponde al índice del grupo
+     * \pre 0 <= \a cluster < GetNumberOfClusters()
+     * \post Devuelve la lista de usuarios del grupo (la misma que se guarda, así que solo se debe leer)
+     */
+    public ArrayList<Integer> GetGroup(int cluster) {
+        return groups.get(cluster);
+    }
+
+    /** \brief Devuelve las listas de usuarios de todos los grupos
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve las listas de usuarios de todos los grupos (las mismas que se guardan, así que solo se deben leer)
+     */
+    public ArrayList<ArrayList<Integer>> GetGroups() {
+        return groups;
+    }
+
+    /** \brief Devuelve el número de grupos
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de grupos
+     */
+    public int GetNumberOfClusters() {
+        return groups.size();
+    }
+
+    /** \brief Devuelve cuántas veces ha cambiado un grupo
+     *
+     * \param int cluster Corresponde al índice del grupo
+     * \pre 0 <= \a cluster < GetNumberOfClusters()
+     * \post Devuelve el número de veces que ha entrado o salido un usuario del grupo desde que se creó la asignación (sirve para saber si lo calculado a partir del grupo sigue al día)
+     */
+    public int GetModificationCount(int cluster) {
+        return modificationsOfCluster[cluster];
+    }
+
+    /** \brief Mete a un usuario en un grupo
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \param int cluster Corresponde al índice del grupo
+     * \pre 0 <= \a cluster < GetNumberOfClusters()
+     * \post Si el usuario estaba en otro grupo sale de él, y queda al final de la lista de \a cluster
+     */
+    public void Add(int userID, int cluster) {
+        int index = IndexOf(userID);
+        if(clusterOfUser[index] == cluster) {
+            return;
+        }
+        if(clusterOfUser[index] != -1) {
+            RemoveIndex(index);
+        }
+        ArrayList<Integer> group = groups.get(cluster);
+        clusterOfUser[index] = cluster;
+        positionInCluster[index] = group.size();
+        group.add(userID);
+        ++modificationsOfCluster[cluster];
+    }
+
+    /** \brief Saca a un usuario de su grupo
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \pre <em>Cierto</em>
+     * \post El usuario deja de estar en su grupo (el último usuario del grupo pasa a su posición). Devuelve el grupo en el que estaba, o -1 si no estaba en ninguno
+     */
+    public int Remove(int userID) {
+        int index = usersDictionary.GetIndex(userID);
+        if(index == -1 || index >= clusterOfUser.length || clusterOfUser[index] == -1) {
+            return -1;
+        }
+        int cluster = clusterOfUser[index];
+        RemoveIndex(index);
+        return cluster;
+    }
+
+    /** \brief Saca de su grupo al usuario con índice interno \a index
+     *
+     * \param int index Corresponde al índice interno del usuario
+     * \pre El usuario está en algún grupo
+     * \post El usuario deja de estar en su grupo y el último usuario del grupo pasa a su posición
+     */
+    private void RemoveIndex(int index) {
+        ArrayList<Integer> group = groups.get(clusterOfUser[index]);
+        int position = positionInCluster[index];
+        int last = group.size() - 1;
+        if(position != last) {
+            Integer moved = group.get(last);
+            group.set(position, moved);
+            positionInCluster[usersDictionary.GetIndex(moved)] = position;
+        }
+        group.remove(last);
+        ++modificationsOfCluster[clusterOfUser[index]];
+        clusterOfUser[index] = -1;
+    }
+}
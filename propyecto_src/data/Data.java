@@ -1,163 +1,429 @@
-/** @file Data.java
- *  @brief Contiene la clase Data
- */
-
-package fxsrc.propyecto.data;
-
-import fxsrc.propyecto.domain.Item;
-import fxsrc.propyecto.domain.ParserCSV;
-
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
-import java.util.ArrayList;
-import java.util.Scanner;
-
-/** \class Data
- *   \brief Clase abstracta para la gestión de los datos en la Capa de Datos
- *
- *   Ofrece una base para todas las clases de la capa de datos para cargar y guardar sus datos en formato CSV en los ficheros.
- */
-
-public abstract class Data {
-
-    /** \brief Path del fichero
-     */
-    protected String filePath;
-
-    /** \brief Línea actual de lectura
-     */
-    protected int currentLine;
-
-    /** \brief Nombre de los atributos
-     */
-    protected String attributesNames;
-
-    /** \brief Constructor por defecto de Data
-     *
-     * \pre <em>Cierto</em>
-     * \post Crea una instancia de Data y Llama a la función Init para inicializar la informacion de sus clases hijas
-     */
-    Data(){
-        Init();
-    }
-
-    /** \brief Función abstracta para inicializar la subclase
-     *
-     * \pre <em>Cierto</em>
-     * \post Hay que redifinarla en las subclases
-     */
-    public abstract void Init();
-
-    /** \brief Función abstracta para resetear la información de la subclase
-     *
-     * \pre <em>Cierto</em>
-     * \post Hay que redefinirla en las subclases
-     */
-    public abstract void ClearData();
-
-    /** \brief Funión abstracta que parsea una linea CSV
-     * \param String[] attributesNames Corresponde al nombre de los atributos
-     * \param String lineRead Corresponde a la linea CSV que hace referencia a los campos del dato deseado
-     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Item y \a lineRead no es vacío.
-     * \post Hay que redefinirla en las subclases
-     */
-    public abstract void ParseAndAddData(String attributesNames[], String lineRead);
-
-    /** \brief Lee un fichero CSV y trata sus campos para parsearlo y convertirlo en datos usables para el programa
-     * \param String path Corresponde al path del fichero que se desea leer
-     * \pre <em>Cierto</em>
-     * \post Carga el fichero CSV y los parsea a los tipos de datos que se deseen (a saber en ParseAndAddData)
-     */
-    public void LoadCSV(String path) {
-        try {
-            File tempFile = new File(path);
-            Scanner myReader = new Scanner(tempFile);
-            ClearData();
-            filePath = path;
-            //leo la primera linea sin usarla ya que no me interesa al ser el nombre de los campos
-            String line = myReader.nextLine();
-            attributesNames = line;
-            String[] attributesNames = line.split(",");
-            while (myReader.hasNextLine()) {
-                line = ReadNextLineCSV(myReader);
-                ParseAndAddData(attributesNames, line);
-            }
-            myReader.close();
-        } catch (FileNotFoundException e) {
-            System.out.println("An error occurred.");
-            e.printStackTrace();
-        }
-    }
-
-    /** \brief Para obtener la siguiente fila del CSV
-     * \param Scanner reader Corresponde al Scanner del fichero que estamos leyendo
-     * \pre \a reader no es null
-     * \post Lee y devuelve la siguiente fila del fichero CSV (no necesariamente la siguiente linea del fichero)
-     */
-    public String ReadNextLineCSV(Scanner reader) {
-        String temp = "";
-        boolean found = false;
-        boolean isQuote = false;
-        while(!found && reader.hasNextLine()) {
-            String currentLine = reader.nextLine();
-
-            for(int i = 0; i < currentLine.length(); ++i) {
-                if(currentLine.charAt(i) == '"') {
-                    isQuote = !isQuote;
-                }
-            }
-            temp += currentLine;
-            found = !isQuote;
-        }
-
-        return temp;
-    }
-
-    /** \brief Funcion abstracta que devuelve si hay una línea más por guardar
-     * \pre Cierto
-     * \post Devuelve si hay alguna línea más por guardar
-     */
-    protected abstract boolean HasNextLine();
-
-    /** \brief Funcion abstracta que devuelve la siguiente línea a guardar
-     * \pre Cierto
-     * \post Devuelve la siguiente línea a guardar
-     */
-    protected abstract String GetNextLine();
-
-
-    /** \brief Guarda toda la información en un fichero CSV con el path por defecto
-     * \pre <em>Cierto</em>
-     * \post Parsea la información a CSV y lo guarda en el fichero CSV del pathh por defecto borrando el contenido que tenía antes
-     */
-    public void StoreCSV() {
-        StoreCSV(filePath);
-    }
-
-    /** \brief Guarda toda la información en un fichero CSV con nombre \a path
-     * \param String path Corresponde al path del fichero que se desea guardar
-     * \pre <em>Cierto</em>
-     * \post Parsea la información a CSV y lo guarda en el fichero CSV con nombre \a path borrando el contenido que tenía antes
-     */
-    public void StoreCSV(String path) {
-        try {
-            currentLine = 0;
-            FileWriter fw = new FileWriter(path, false);
-            BufferedWriter bw = new BufferedWriter(fw);
-            bw.write(attributesNames);
-            bw.newLine();
-            while (HasNextLine()) {
-                bw.write(GetNextLine());
-                bw.newLine();
-            }
-            bw.close();
-        }
-        catch (Exception e) {
-
-        }
-
-    }
-
-}
+/** @file Data.java
+ *  @brief Contiene la clase Data
+ */
+
+package fxsrc.propyecto.data;
+
+import fxsrc.propyecto.domain.ParserCSV;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/** \class Data
+ *   \brief Clase abstracta para la gestión de los datos en la Capa de Datos
+ *
+ *   Ofrece una base para todas las clases de la capa de datos para cargar y guardar sus datos en formato CSV en los ficheros.
+ *   \a T es el tipo de dato que se obtiene al parsear cada fila del CSV. Los ficheros grandes se cargan en paralelo: se parsean por trozos
+ *   en varios hilos (ParseData) y después se añaden en orden en un solo hilo (AddParsedData).
+ */
+
+public abstract class Data<T> {
+
+    /** \brief Tamaño en bytes a partir del cual un CSV se carga en paralelo
+     */
+    protected static final long PARALLEL_LOAD_MIN_BYTES = 1 << 20;
+
+    /** \brief Tamaño mínimo en bytes de cada trozo de la carga en paralelo
+     */
+    private static final int MIN_CHUNK_BYTES = 1 << 18;
+
+    /** \brief Path del fichero
+     */
+    protected String filePath;
+
+    /** \brief Línea actual de lectura
+     */
+    protected int currentLine;
+
+    /** \brief Nombre de los atributos
+     */
+    protected String attributesNames;
+
+    /** \brief Constructor por defecto de Data
+     *
+     * \pre <em>Cierto</em>
+     * \post Crea una instancia de Data y Llama a la función Init para inicializar la informacion de sus clases hijas
+     */
+    Data(){
+        Init();
+    }
+
+    /** \brief Función abstracta para inicializar la subclase
+     *
+     * \pre <em>Cierto</em>
+     * \post Hay que redifinarla en las subclases
+     */
+    public abstract void Init();
+
+    /** \brief Función abstracta para resetear la información de la subclase
+     *
+     * \pre <em>Cierto</em>
+     * \post Hay que redefinirla en las subclases
+     */
+    public abstract void ClearData();
+
+    /** \brief Función abstracta que parsea una linea CSV sin añadirla a los datos
+     * \param String[] attributesNames Corresponde al nombre de los atributos
+     * \param String lineRead Corresponde a la linea CSV que hace referencia a los campos del dato deseado
+     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Item y \a lineRead no es vacío.
+     * \post Hay que redefinirla en las subclases. No puede modificar la instancia, porque se llama desde varios hilos a la vez
+     */
+    protected abstract T ParseData(String attributesNames[], String lineRead);
+
+    /** \brief Función abstracta que añade a los datos un elemento ya parseado
+     * \param T data Corresponde al elemento devuelto por ParseData
+     * \pre \a data no es null
+     * \post Hay que redefinirla en las subclases
+     */
+    protected abstract void AddParsedData(T data);
+
+    /** \brief Prepara lo que haga falta a partir de la cabecera antes de parsear las filas de un fichero
+     * \param String[] attributesNames Corresponde al nombre de los atributos de la cabecera
+     * \pre <em>Cierto</em>
+     * \post Por defecto no hace nada. Las subclases la redefinen para traducir la cabecera una sola vez por fichero en lugar de en cada fila
+     */
+    protected void CompileHeader(String attributesNames[]) {
+    }
+
+    /** \brief Parsea una linea CSV y la añade a los datos
+     * \param String[] attributesNames Corresponde al nombre de los atributos
+     * \param String lineRead Corresponde a la linea CSV que hace referencia a los campos del dato deseado
+     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Item y \a lineRead no es vacío.
+     * \post Se parsea la línea con ParseData y se añade con AddParsedData
+     */
+    public void ParseAndAddData(String attributesNames[], String lineRead) {
+        AddParsedData(ParseData(attributesNames, lineRead));
+    }
+
+    /** \brief Lee un fichero CSV y trata sus campos para parsearlo y convertirlo en datos usables para el programa
+     * \param String path Corresponde al path del fichero que se desea leer
+     * \pre <em>Cierto</em>
+     * \post Carga el fichero CSV y los parsea a los tipos de datos que se deseen (a saber en ParseAndAddData). Si el fichero es grande se carga en paralelo
+     */
+    public void LoadCSV(String path) {
+        if(new File(path).length() >= PARALLEL_LOAD_MIN_BYTES && LoadCSVParallel(path)) {
+            return;
+        }
+        try {
+            File tempFile = new File(path);
+            Scanner myReader = new Scanner(tempFile);
+            ClearData();
+            filePath = path;
+            //leo la primera linea sin usarla ya que no me interesa al ser el nombre de los campos
+            String line = myReader.nextLine();
+            attributesNames = line;
+            String[] attributesNames = line.split(",");
+            CompileHeader(attributesNames);
+            while (myReader.hasNextLine()) {
+                line = ReadNextLineCSV(myReader);
+                ParseAndAddData(attributesNames, line);
+            }
+            myReader.close();
+        } catch (FileNotFoundException e) {
+            System.out.println("An error occurred.");
+            e.printStackTrace();
+        }
+    }
+
+    /** \brief Para obtener la siguiente fila del CSV
+     * \param Scanner reader Corresponde al Scanner del fichero que estamos leyendo
+     * \pre \a reader no es null
+     * \post Lee y devuelve la siguiente fila del fichero CSV (no necesariamente la siguiente linea del fichero)
+     */
+    public String ReadNextLineCSV(Scanner reader) {
+        String temp = "";
+        boolean found = false;
+        boolean isQuote = false;
+        while(!found && reader.hasNextLine()) {
+            String currentLine = reader.nextLine();
+
+            for(int i = 0; i < currentLine.length(); ++i) {
+                if(currentLine.charAt(i) == '"') {
+                    isQuote = !isQuote;
+                }
+            }
+            temp += currentLine;
+            found = !isQuote;
+        }
+
+        return temp;
+    }
+
+    /** \brief Carga un fichero CSV en paralelo, con el mismo resultado que la carga secuencial
+     *
+     * El fichero se divide en trozos de bytes que empiezan en un inicio de fila: una fila acaba en un salto de línea solo si hasta ahí
+     * hay un número par de comillas, igual que en ReadNextLineCSV (y por tanto una fila puede ocupar varias líneas del fichero).
+     * Primero se cuentan en paralelo las comillas de cada trozo para saber la paridad al inicio de cada uno, después cada trozo busca su primer
+     * inicio de fila y parsea sus filas con ParseData, y por último se añaden todos los elementos en el orden del fichero con AddParsedData.
+     * El fichero se lee mapeado en memoria (MappedCSV) y las posiciones son long, así que no se copia entero al heap ni tiene límite de 2 GB.
+     *
+     * \param String path Corresponde al path del fichero que se desea leer
+     * \pre <em>Cierto</em>
+     * \post Devuelve false si no se ha podido leer el fichero (sin tocar los datos). Si no, carga el fichero y devuelve true
+     */
+    protected boolean LoadCSVParallel(String path) {
+        MappedCSV bytes;
+        try {
+            bytes = new MappedCSV(new File(path));
+        }
+        catch (IOException e) {
+            return false;
+        }
+        ParserCSV.GetInstance(); //se crea la instancia antes de usarla desde varios hilos
+        Charset charset = Charset.defaultCharset(); //el mismo que usa Scanner en la carga secuencial
+        long length = bytes.Length();
+
+        //la primera línea son los nombres de los campos
+        long headerEnd = 0;
+        while(headerEnd < length && bytes.Get(headerEnd) != '\n' && bytes.Get(headerEnd) != '\r') {
+            ++headerEnd;
+        }
+        String header = bytes.Decode(0, headerEnd, charset, new byte[0]);
+        long dataStart = NextLineStart(bytes, headerEnd);
+
+        int numberOfChunks = (int) Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4L, (length - dataStart) / MIN_CHUNK_BYTES));
+        long[] chunkStart = new long[numberOfChunks + 1];
+        for(int i = 0; i <= numberOfChunks; ++i) {
+            chunkStart[i] = dataStart + (length - dataStart) * i / numberOfChunks;
+        }
+
+        //paridad de comillas de cada trozo y al inicio de cada trozo
+        int[] quotes = new int[numberOfChunks];
+        ForEachChunk(0, numberOfChunks, i -> {
+            int count = 0;
+            for(long b = chunkStart[i]; b < chunkStart[i + 1]; ++b) {
+                if(bytes.Get(b) == '"') count ^= 1;
+            }
+            quotes[i] = count;
+        });
+        int[] parity = new int[numberOfChunks];
+        for(int i = 1; i < numberOfChunks; ++i) {
+            parity[i] = parity[i - 1] ^ quotes[i - 1];
+        }
+
+        //cada trozo empieza en el primer inicio de fila a partir de su posición
+        long[] recordStart = new long[numberOfChunks + 1];
+        recordStart[numberOfChunks] = length;
+        ForEachChunk(1, numberOfChunks, i -> {
+            long b = chunkStart[i];
+            int p = parity[i];
+            while(b < length && !(p == 0 && IsLineStart(bytes, b))) {
+                if(bytes.Get(b) == '"') p ^= 1;
+                ++b;
+            }
+            recordStart[i] = b;
+        });
+        recordStart[0] = dataStart;
+
+        String[] attributesNamesArray = header.split(",");
+        CompileHeader(attributesNamesArray);
+        ArrayList<ArrayList<T>> parsed = new ArrayList<>();
+        for(int i = 0; i < numberOfChunks; ++i) {
+            parsed.add(new ArrayList<>());
+        }
+        ForEachChunk(0, numberOfChunks, i -> {
+            ArrayList<T> result = parsed.get(i);
+            StringBuilder record = new StringBuilder();
+            byte[] lineBytes = new byte[256];
+            boolean isQuote = false;
+            boolean pending = false;
+            long b = recordStart[i];
+            long end = Math.max(b, recordStart[i + 1]);
+            while(b < end) {
+                long lineEnd = b;
+                while(lineEnd < end && bytes.Get(lineEnd) != '\n' && bytes.Get(lineEnd) != '\r') {
+                    if(bytes.Get(lineEnd) == '"') isQuote = !isQuote;
+                    ++lineEnd;
+                }
+                if(lineEnd - b > lineBytes.length) {
+                    lineBytes = new byte[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(lineEnd - b, 2L * lineBytes.length))];
+                }
+                record.append(bytes.Decode(b, lineEnd, charset, lineBytes));
+                pending = true;
+                b = NextLineStart(bytes, lineEnd);
+                if(!isQuote) {
+                    result.add(ParseData(attributesNamesArray, record.toString()));
+                    record.setLength(0);
+                    pending = false;
+                }
+            }
+            if(pending) { //fichero acabado con unas comillas sin cerrar
+                result.add(ParseData(attributesNamesArray, record.toString()));
+            }
+        });
+
+        ClearData();
+        filePath = path;
+        attributesNames = header;
+        for(ArrayList<T> chunk : parsed) {
+            for(T data : chunk) {
+                AddParsedData(data);
+            }
+        }
+        return true;
+    }
+
+    /** \brief Devuelve la posición justo después del salto de línea que empieza en \a position
+     *
+     * \param MappedCSV bytes Corresponde al contenido del fichero
+     * \param long position Corresponde a la posición de un salto de línea (o al final del fichero)
+     * \pre <em>Cierto</em>
+     * \post Devuelve la posición donde empieza la siguiente línea (tratando "\r\n" como un solo salto de línea)
+     */
+    private static long NextLineStart(MappedCSV bytes, long position) {
+        if(position < bytes.Length() && bytes.Get(position) == '\r' && position + 1 < bytes.Length() && bytes.Get(position + 1) == '\n') {
+            return position + 2;
+        }
+        return Math.min(position + 1, bytes.Length());
+    }
+
+    /** \brief Indica si en la posición \a position empieza una línea del fichero
+     *
+     * \param MappedCSV bytes Corresponde al contenido del fichero
+     * \param long position Corresponde a una posición mayor que 0
+     * \pre 0 < \a position < bytes.Length()
+     * \post Devuelve true si el byte anterior es un salto de línea (y no estamos entre "\r" y "\n")
+     */
+    private static boolean IsLineStart(MappedCSV bytes, long position) {
+        return bytes.Get(position - 1) == '\n' || (bytes.Get(position - 1) == '\r' && bytes.Get(position) != '\n');
+    }
+
+    /** \class MappedCSV
+     *   \brief Fichero mapeado en memoria de solo lectura, en segmentos de 1 GB (un MappedByteBuffer no puede pasar de 2 GB), con posiciones long.
+     *   Las lecturas son absolutas, así que se puede leer desde varios hilos a la vez
+     */
+    private static class MappedCSV {
+        private static final int SEGMENT_BITS = 30;
+        private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+        private final MappedByteBuffer[] segments;
+        private final long length;
+
+        MappedCSV(File file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                length = channel.size();
+                segments = new MappedByteBuffer[(int) ((length + SEGMENT_MASK) >>> SEGMENT_BITS)];
+                for(int s = 0; s < segments.length; ++s) {
+                    long start = (long) s << SEGMENT_BITS;
+                    segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_MASK + 1, length - start));
+                }
+            }
+        }
+
+        long Length() {
+            return length;
+        }
+
+        byte Get(long position) {
+            return segments[(int) (position >>> SEGMENT_BITS)].get((int) (position & SEGMENT_MASK));
+        }
+
+        /** \brief Decodifica los bytes de \a from a \a to (una línea), usando \a buffer si cabe */
+        String Decode(long from, long to, Charset charset, byte[] buffer) {
+            int size = (int) (to - from);
+            byte[] lineBytes = size <= buffer.length ? buffer : new byte[size];
+            for(int k = 0; k < size; ++k) {
+                lineBytes[k] = Get(from + k);
+            }
+            return new String(lineBytes, 0, size, charset);
+        }
+    }
+
+    /** \brief Ejecuta \a action para cada trozo entre \a from y \a to con un fork-join
+     *
+     * \param int from Corresponde al primer trozo
+     * \param int to Corresponde al trozo siguiente al último
+     * \param IntConsumer action Corresponde a lo que se hace con cada trozo
+     * \pre \a action se puede ejecutar a la vez para trozos distintos
+     * \post Se ha ejecutado \a action para todos los trozos
+     */
+    private static void ForEachChunk(int from, int to, IntConsumer action) {
+        if(from < to) {
+            ForkJoinPool.commonPool().invoke(new ChunkAction(from, to, action));
+        }
+    }
+
+    /** \class ChunkAction
+     *   \brief Tarea de fork-join que divide un rango de trozos por la mitad hasta llegar a un solo trozo
+     */
+    private static class ChunkAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        ChunkAction(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from == 1) {
+                action.accept(from);
+            }
+            else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkAction(from, middle, action), new ChunkAction(middle, to, action));
+            }
+        }
+    }
+
+    /** \brief Funcion abstracta que devuelve si hay una línea más por guardar
+     * \pre Cierto
+     * \post Devuelve si hay alguna línea más por guardar
+     */
+    protected abstract boolean HasNextLine();
+
+    /** \brief Funcion abstracta que devuelve la siguiente línea a guardar
+     * \pre Cierto
+     * \post Devuelve la siguiente línea a guardar
+     */
+    protected abstract String GetNextLine();
+
+
+    /** \brief Guarda toda la información en un fichero CSV con el path por defecto
+     * \pre <em>Cierto</em>
+     * \post Parsea la información a CSV y lo guarda en el fichero CSV del pathh por defecto borrando el contenido que tenía antes
+     */
+    public void StoreCSV() {
+        StoreCSV(filePath);
+    }
+
+    /** \brief Guarda toda la información en un fichero CSV con nombre \a path
+     * \param String path Corresponde al path del fichero que se desea guardar
+     * \pre <em>Cierto</em>
+     * \post Parsea la información a CSV y lo guarda en el fichero CSV con nombre \a path borrando el contenido que tenía antes
+     */
+    public void StoreCSV(String path) {
+        try {
+            currentLine = 0;
+            FileWriter fw = new FileWriter(path, false);
+            BufferedWriter bw = new BufferedWriter(fw);
+            bw.write(attributesNames);
+            bw.newLine();
+            while (HasNextLine()) {
+                bw.write(GetNextLine());
+                bw.newLine();
+            }
+            bw.close();
+        }
+        catch (Exception e) {
+
+        }
+
+    }
+
+}
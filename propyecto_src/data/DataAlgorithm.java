@@ -1,238 +1,354 @@
-/** @file DataAlgorithm.java
- *  @brief Contiene la clase DataAlgorithm
- */
-
-package fxsrc.propyecto.data;
-
-import fxsrc.propyecto.domain.ParserCSV;
-import fxsrc.propyecto.domain.Rating;
-
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
-import java.lang.reflect.Array;
-import java.util.ArrayList;
-import java.util.Scanner;
-
-/** \class DataAlgorithm
- *   \brief Clase que contiene los datos de los cálculos del algoritmo KMeans.
- *
- *   Ofrece operaciones para que el DataManager pueda acceder a información precargada del algoritmo KMeans y para poder guardar una nueva configuración de éste.
- */
-public class DataAlgorithm extends Data {
-
-    /** \brief Correpsonde a los kGroups del algoritmo KMeans
-     */
-
-    private ArrayList<ArrayList<Integer>> dataKgroups;
-    /** \brief Correpsonde a los Centroids del algoritmo KMeans
-     */
-
-    private ArrayList<ArrayList<Rating>> centroids;
-
-    /** \brief Correpsonde a la k del algoritmo KMeans
-     */
-    private int k;
-
-    /** \brief Correpsonde al dataset del algoritmo KMeans
-     */
-    private int dataset;
-
-    /** \brief Indica si el dataset es correcto o no
-     */
-    private boolean isDirty;
-
-    /** \brief Función que devuelve si el dataset es correcto o no
-     *
-     * \pre <em>Cierto</em>
-     * \post Devuelve si el dataset cargado es correcto o no
-     */
-    public boolean IsDirty() {
-        return isDirty;
-    }
-
-    /** \brief Función que asigna si el dataset es correcto o no
-     *
-     * \param boolean dirty Corresponde a si el dataset cargado es correcto o no
-     * \pre <em>Cierto</em>
-     * \post Asigna si el dataset es correcto o no
-     */
-    public void SetDirty(boolean dirty) {
-        isDirty = dirty;
-    }
-
-
-
-    /** \brief Función para inicializar la información del algoritmo KMeans
-     *
-     * \pre <em>Cierto</em>
-     * \post Se incializa \a dataKgroups y \a centroids y se pone a 0 \a dataset y \a k
-     */
-    @Override
-    public void Init() {
-        dataKgroups = new ArrayList<>();
-        centroids = new ArrayList<>();
-        dataset = 0;
-        k = 0;
-    }
-
-    /** \brief Función para inicializar los conjuntos de datos.
-     *
-     * \pre \a dataKgroups no es null.
-     * \pre \a centroids no es null.
-     * \post Se resetea los conjuntos de datos y se ponen a 0 \a dataset y \a k
-     */
-    @Override
-    public void ClearData() {
-        dataKgroups.clear();
-        centroids.clear();
-        dataset = 0;
-        k = 0;
-    }
-
-    /** \brief Parsea una linea CSV a KGroup
-     * \param String[] attributesNames Corresponde al nombre de los atributos
-     * \param String lineRead Corresponde a la linea CSV que hace referencia al KGroup deseado
-     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Item y \a lineRead no es vacío.
-     * \pre Ningun conjunto es null
-     * \post Se parsean los atributos de KGroup y finalmente se añade al conjunto.
-     */
-    @Override
-    public void ParseAndAddData(String[] attributesNames, String lineRead) {
-        dataKgroups.add(ParserCSV.GetInstance().ParseKGroup(lineRead));
-    }
-
-    /** \brief Funcion que devuelve si hay una línea más por guardar
-     * \pre systemUsers no es null
-     * \post Devuelve si hay alguna línea más por guardar
-     */
-    @Override
-    protected boolean HasNextLine() {
-        return currentLine < dataKgroups.size();
-    }
-
-    /** \brief Funcion que devuelve la siguiente línea a guardar
-     * \pre usersArray no es null
-     * \post Devuelve la siguiente línea a guardar
-     */
-    @Override
-    protected String GetNextLine() {
-        String temp = ParserCSV.GetInstance().ParseKGroupToCSV(dataKgroups.get(currentLine));
-        currentLine++;
-        return temp;
-    }
-
-    /** \brief Función que modifica los datos del algoritmo de KMeans a guardar
-     *
-     * \param int newK Corresponde a la nueva K
-     * \param int newDataset Corresponde al nuevo dataset
-     * \param ArrayList<ArrayList<Intger>> kmeans Corresponde al nuevo kmeans
-     * \param ArrayList<ArrayList<Rating>> cent Corresponde a los nuevos centroids
-     * \post Función que modifica los datos del algoritmo de KMeans a guardar y después los guarda en formato CSV
-     */
-    public void SetKGroups(int newK, int newDataset, ArrayList<ArrayList<Integer>> kmeans, ArrayList<ArrayList<Rating>> cent) {
-        k = newK;
-        dataset = newDataset;
-        attributesNames = "" + k + "," + newDataset;
-        dataKgroups = kmeans;
-        centroids = cent;
-        filePath = "res/algorithm/kmeans.csv";
-        isDirty = false;
-        StoreCSV();
-    }
-
-    /** \brief Función que devuelve los KGroup guardados si los parametros corresponden con la inforación almacenada
-     * \param int newK correpsonde a la k del algoritmo KMeans deseado
-     * \param int newDataset correpsonde al dataset del algoritmo KMeans deseado
-     * \pre Cierto
-     * \post Devuelve los KGroup guardados si los paramtros corresponden con la información almacenada, sino devuelve null
-     */
-    public ArrayList<ArrayList<Integer>> GetKGroups(int newK, int newDataset) {
-        if(isDirty) {
-            return null;
-        }
-        if(k == newK && dataset == newDataset) {
-            return dataKgroups;
-        }
-
-        LoadCSV("res/algorithm/kmeans.csv");
-        if(dataKgroups.isEmpty()) { //el fichero no existe
-            return null;
-        }
-
-        String temp = "" + newK + "," + newDataset;
-        if(attributesNames.equals(temp)) {
-            return dataKgroups;
-        }
-        else {
-            return null; //el fichero no coincide con el kmeans que nos han pedido
-        }
-
-    }
-
-    /** \brief Función que devuelve los centroides guardados
-     * \pre Cierto
-     * \post Devuelve los centroides guardados.
-     */
-    public ArrayList<ArrayList<Rating>> GetCentroids() {
-        return centroids;
-    }
-
-    /** \brief Lee un fichero CSV y trata sus campos para parsearlo y convertirlo en datos usables para el programa
-     * \param String path Corresponde al path del fichero que se desea leer
-     * \pre <em>Cierto</em>
-     * \post Carga el fichero CSV y los parsea a los tipos de datos que se deseen (a saber en ParseAndAddData)
-     */
-    @Override
-    public void LoadCSV(String path) {
-        try { //fichero de kgroup
-            File tempFile = new File(path);
-            Scanner myReader = new Scanner(tempFile);
-            ClearData();
-            filePath = path;
-            //leo la primera linea sin usarla ya que no me interesa al ser el nombre de los campos
-            String line = myReader.nextLine();
-            attributesNames = line;
-            String[] attributesNames = line.split(",");
-            k = Integer.parseInt(attributesNames[0]);
-            dataset = Integer.parseInt(attributesNames[1]);
-
-            line = myReader.nextLine();
-            centroids = ParserCSV.GetInstance().ParseCentroids(line);
-            while (myReader.hasNextLine()) {
-                line = ReadNextLineCSV(myReader);
-                ParseAndAddData(attributesNames, line);
-            }
-            myReader.close();
-        } catch (FileNotFoundException e) {
-
-        }
-    }
-
-    /** \brief Guarda toda la información en un fichero CSV con nombre \a path
-     * \param String path Corresponde al path del fichero que se desea guardar
-     * \pre <em>Cierto</em>
-     * \post Parsea la información a CSV y lo guarda en el fichero CSV con nombre \a path borrando el contenido que tenía antes
-     */
-    @Override
-    public void StoreCSV(String path) {
-        try {
-            currentLine = 0;
-            FileWriter fw = new FileWriter(path, false);
-            BufferedWriter bw = new BufferedWriter(fw);
-            bw.write(attributesNames);
-            bw.newLine();
-            bw.write(ParserCSV.GetInstance().ParseCentroidsToCSV(centroids));
-            bw.newLine();
-            while (HasNextLine()) {
-                bw.write(GetNextLine());
-                bw.newLine();
-            }
-            bw.close();
-        }
-        catch (Exception e) {
-
-        }
-    }
+/** @file DataAlgorithm.java
+ *  @brief Contiene la clase DataAlgorithm
+ */
+
+package fxsrc.propyecto.data;
+
+import fxsrc.propyecto.domain.ParserCSV;
+import fxsrc.propyecto.domain.Rating;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+
+/** \class DataAlgorithm
+ *   \brief Clase que contiene los datos de los cálculos del algoritmo KMeans.
+ *
+ *   Ofrece operaciones para que el DataManager pueda acceder a información precargada del algoritmo KMeans y para poder guardar una nueva configuración de éste.
+ *   Cada DataAlgorithm corresponde al modelo de una K guardado en su propio fichero binario (KMeansModelFile); KMeansRegistry decide cuáles están en memoria.
+ *   La versión del modelo es la huella de los Rating con los que corresponde (DataRating.GetFingerprint): el modelo solo se usa si los Rating actuales tienen la misma huella.
+ *   El formato CSV solo se usa para exportar un modelo.
+ */
+public class DataAlgorithm extends Data<ArrayList<Integer>> {
+
+    /** \brief Correpsonde a los kGroups del algoritmo KMeans
+     */
+
+    private ArrayList<ArrayList<Integer>> dataKgroups;
+    /** \brief Correpsonde a los Centroids del algoritmo KMeans
+     */
+
+    private ArrayList<ArrayList<Rating>> centroids;
+
+    /** \brief Correpsonde al grupo de cada usuario según \a dataKgroups (null si aún no se ha construido)
+     */
+    private ClusterAssignment assignment;
+
+    /** \brief Correpsonde a la k del algoritmo KMeans
+     */
+    private int k;
+
+    /** \brief Correpsonde a la versión del algoritmo KMeans: la huella de los Rating con los que corresponde (DataRating.GetFingerprint)
+     */
+    private long version;
+
+    /** \brief Correpsonde al número de Rating que había cuando se entrenó el KMeans
+     */
+    private int ratingsAtTraining;
+
+    /** \brief Correpsonde al número de cambios de Rating aplicados de forma incremental desde que se entrenó el KMeans
+     */
+    private int changesSinceTraining;
+
+    /** \brief Indica si los KGroup o los centroides se han modificado de forma incremental y aún no se han guardado
+     */
+    private boolean modified;
+
+    /** \brief Constructor de DataAlgorithm
+     *
+     * \param String path Corresponde al fichero del modelo
+     * \pre <em>Cierto</em>
+     * \post Se crea un modelo vacío que se cargará de \a path cuando se pida
+     */
+    public DataAlgorithm(String path) {
+        filePath = path;
+    }
+
+    /** \brief Función que devuelve el fichero del modelo
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el path del fichero donde se guarda el modelo
+     */
+    public String GetFilePath() {
+        return filePath;
+    }
+
+    /** \brief Función que devuelve la versión del modelo
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve la huella de los Rating con los que corresponde el modelo en memoria
+     */
+    public long GetVersion() {
+        return version;
+    }
+
+    /** \brief Función que carga el KMeans guardado si aún no hay ninguno en memoria
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve true si hay un KMeans en memoria (cargándolo del fichero si hace falta) y false si no hay ninguno. Hay que comprobar su versión con GetVersion
+     */
+    public boolean LoadStoredModel() {
+        if(dataKgroups.isEmpty()) {
+            Load();
+        }
+        return !dataKgroups.isEmpty();
+    }
+
+    /** \brief Función que devuelve el grupo de cada usuario según los KGroup que hay en memoria
+     *
+     * \param IdDictionary usersDictionary Corresponde al diccionario de IDs de usuario a índices internos
+     * \pre <em>Cierto</em>
+     * \post Devuelve el ClusterAssignment de los KGroup en memoria (construyéndolo la primera vez que se pide)
+     */
+    public ClusterAssignment GetClusterAssignment(IdDictionary usersDictionary) {
+        if(assignment == null) {
+            assignment = new ClusterAssignment(dataKgroups, usersDictionary);
+        }
+        return assignment;
+    }
+
+    /** \brief Función que devuelve el número de Rating que había cuando se entrenó el KMeans
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de Rating del entrenamiento (0 si no se sabe)
+     */
+    public int GetRatingsAtTraining() {
+        return ratingsAtTraining;
+    }
+
+    /** \brief Función que asigna el número de Rating con el que se entrena el próximo KMeans
+     *
+     * \param int ratings Corresponde al número de Rating
+     * \pre Se llama justo antes de SetKGroups
+     * \post Asigna el número de Rating del entrenamiento
+     */
+    public void SetRatingsAtTraining(int ratings) {
+        ratingsAtTraining = ratings;
+    }
+
+    /** \brief Función que devuelve el número de cambios de Rating aplicados de forma incremental desde el entrenamiento
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de cambios
+     */
+    public int GetChangesSinceTraining() {
+        return changesSinceTraining;
+    }
+
+    /** \brief Función que apunta cambios de Rating aplicados de forma incremental a los KGroup y centroides en memoria
+     *
+     * \param int changedRatings Corresponde al número de Rating que han cambiado
+     * \param long newVersion Corresponde a la huella de los Rating después del cambio
+     * \pre Los KGroup y centroides en memoria ya se han actualizado, \a changedRatings >= 0
+     * \post Se suman \a changedRatings cambios, el modelo pasa a tener la versión \a newVersion y se marca que hay que guardarlo (se guarda la próxima vez que se pida con GetKGroups)
+     */
+    public void AddIncrementalChange(int changedRatings, long newVersion) {
+        changesSinceTraining += changedRatings;
+        version = newVersion;
+        modified = true;
+    }
+
+    /** \brief Función que guarda el modelo si se ha modificado de forma incremental
+     *
+     * \pre <em>Cierto</em>
+     * \post Si había cambios sin guardar se guardan en su fichero
+     */
+    public void Flush() {
+        if(modified) {
+            Store();
+        }
+    }
+
+    /** \brief Función para inicializar la información del algoritmo KMeans
+     *
+     * \pre <em>Cierto</em>
+     * \post Se incializa \a dataKgroups y \a centroids y se pone a 0 \a version y \a k
+     */
+    @Override
+    public void Init() {
+        dataKgroups = new ArrayList<>();
+        centroids = new ArrayList<>();
+        assignment = null;
+        version = 0;
+        k = 0;
+        ratingsAtTraining = 0;
+        changesSinceTraining = 0;
+        modified = false;
+    }
+
+    /** \brief Función para inicializar los conjuntos de datos.
+     *
+     * \pre \a dataKgroups no es null.
+     * \pre \a centroids no es null.
+     * \post Se resetea los conjuntos de datos y se ponen a 0 \a version y \a k (las listas anteriores no se vacían, ya que las puede estar usando CollaborativeFiltering)
+     */
+    @Override
+    public void ClearData() {
+        dataKgroups = new ArrayList<>();
+        centroids = new ArrayList<>();
+        assignment = null;
+        version = 0;
+        k = 0;
+        ratingsAtTraining = 0;
+        changesSinceTraining = 0;
+        modified = false;
+    }
+
+    /** \brief Parsea una linea CSV a KGroup
+     * \param String[] attributesNames Corresponde al nombre de los atributos
+     * \param String lineRead Corresponde a la linea CSV que hace referencia al KGroup deseado
+     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Item y \a lineRead no es vacío.
+     * \pre Ningun conjunto es null
+     * \post Se parsean los atributos de KGroup y se devuelve sin añadirlo al conjunto.
+     */
+    @Override
+    protected ArrayList<Integer> ParseData(String[] attributesNames, String lineRead) {
+        return ParserCSV.GetInstance().ParseKGroup(lineRead);
+    }
+
+    /** \brief Añade un KGroup ya parseado al conjunto
+     * \param ArrayList<Integer> kgroup Corresponde a los usuarios del KGroup
+     * \pre Ningun conjunto es null
+     * \post Se añade \a kgroup al conjunto.
+     */
+    @Override
+    protected void AddParsedData(ArrayList<Integer> kgroup) {
+        dataKgroups.add(kgroup);
+    }
+
+    /** \brief Funcion que devuelve si hay una línea más por guardar
+     * \pre systemUsers no es null
+     * \post Devuelve si hay alguna línea más por guardar
+     */
+    @Override
+    protected boolean HasNextLine() {
+        return currentLine < dataKgroups.size();
+    }
+
+    /** \brief Funcion que devuelve la siguiente línea a guardar
+     * \pre usersArray no es null
+     * \post Devuelve la siguiente línea a guardar
+     */
+    @Override
+    protected String GetNextLine() {
+        String temp = ParserCSV.GetInstance().ParseKGroupToCSV(dataKgroups.get(currentLine));
+        currentLine++;
+        return temp;
+    }
+
+    /** \brief Función que modifica los datos del algoritmo de KMeans a guardar
+     *
+     * \param int newK Corresponde a la nueva K
+     * \param long newVersion Corresponde a la huella de los Rating con los que se ha entrenado
+     * \param ClusterAssignment kmeans Corresponde al nuevo kmeans (los grupos y el grupo de cada usuario)
+     * \param ArrayList<ArrayList<Rating>> cent Corresponde a los nuevos centroids
+     * \post Función que modifica los datos del algoritmo de KMeans a guardar y después los guarda en el fichero binario del modelo
+     */
+    public void SetKGroups(int newK, long newVersion, ClusterAssignment kmeans, ArrayList<ArrayList<Rating>> cent) {
+        k = newK;
+        version = newVersion;
+        changesSinceTraining = 0;
+        dataKgroups = kmeans.GetGroups();
+        assignment = kmeans;
+        centroids = cent;
+        Store();
+    }
+
+    /** \brief Función que devuelve los KGroup guardados si los parametros corresponden con la inforación almacenada
+     * \param int newK correpsonde a la k del algoritmo KMeans deseado
+     * \param long newVersion correpsonde a la huella de los Rating actuales
+     * \pre Cierto
+     * \post Devuelve los KGroup guardados si los paramtros corresponden con la información almacenada, sino devuelve null.
+     * Si se habían modificado de forma incremental, antes se guardan en el fichero
+     */
+    public ArrayList<ArrayList<Integer>> GetKGroups(int newK, long newVersion) {
+        if(modified) { //se guardan los cambios incrementales antes de devolverlos
+            Store();
+        }
+        if(dataKgroups.isEmpty()) {
+            Load();
+        }
+
+        if(!dataKgroups.isEmpty() && k == newK && version == newVersion) {
+            return dataKgroups;
+        }
+        else {
+            return null; //no hay fichero o no coincide con los Rating actuales: hay que volver a entrenar
+        }
+    }
+
+    /** \brief Función que devuelve los centroides guardados
+     * \pre Cierto
+     * \post Devuelve los centroides guardados.
+     */
+    public ArrayList<ArrayList<Rating>> GetCentroids() {
+        return centroids;
+    }
+
+    /** \brief Carga el modelo de su fichero binario
+     *
+     * \pre <em>Cierto</em>
+     * \post Si el fichero existe y es correcto, se sustituyen los datos en memoria por los del fichero; si no, los datos quedan vacíos
+     */
+    private void Load() {
+        KMeansModelFile file = new KMeansModelFile(filePath);
+        ClearData();
+        if(file.Open()) {
+            k = file.GetK();
+            version = file.GetVersion();
+            ratingsAtTraining = file.GetRatingsAtTraining();
+            changesSinceTraining = file.GetChangesSinceTraining();
+            centroids = file.GetCentroids();
+            dataKgroups = file.GetKGroups();
+        }
+    }
+
+    /** \brief Guarda el modelo en su fichero binario
+     *
+     * \pre <em>Cierto</em>
+     * \post Se guarda el modelo en su fichero y, si se ha podido, deja de haber cambios sin guardar
+     */
+    private void Store() {
+        if(new KMeansModelFile(filePath).Store(k, version, ratingsAtTraining, changesSinceTraining, centroids, dataKgroups)) {
+            modified = false;
+        }
+    }
+
+    /** \brief Función que exporta el modelo a un fichero CSV
+     *
+     * \param String path Corresponde al path del CSV
+     * \pre <em>Cierto</em>
+     * \post Se escribe el modelo en formato CSV (cabecera k,version,ratingsAtTraining,changes, línea de centroides y un KGroup por línea). El fichero binario del modelo no cambia
+     */
+    public void ExportCSV(String path) {
+        StoreCSV(path);
+    }
+
+    /** \brief Guarda toda la información en un fichero CSV con nombre \a path
+     * \param String path Corresponde al path del fichero que se desea guardar
+     * \pre <em>Cierto</em>
+     * \post Parsea la información a CSV y lo guarda en el fichero CSV con nombre \a path borrando el contenido que tenía antes
+     */
+    @Override
+    public void StoreCSV(String path) {
+        try {
+            currentLine = 0;
+            attributesNames = "" + k + "," + version + "," + ratingsAtTraining + "," + changesSinceTraining;
+            FileWriter fw = new FileWriter(path, false);
+            BufferedWriter bw = new BufferedWriter(fw);
+            bw.write(attributesNames);
+            bw.newLine();
+            bw.write(ParserCSV.GetInstance().ParseCentroidsToCSV(centroids));
+            bw.newLine();
+            while (HasNextLine()) {
+                bw.write(GetNextLine());
+                bw.newLine();
+            }
+            bw.close();
+        }
+        catch (Exception e) {
+
+        }
+    }
 }
\ No newline at end of file
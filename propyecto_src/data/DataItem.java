@@ -1,249 +1,327 @@
-/** @file DataItem.java
- *  @brief Contiene la clase DataItem
- */
-
-package fxsrc.propyecto.data;
-import fxsrc.propyecto.domain.ExistingActiveUserException;
-import fxsrc.propyecto.domain.Item;
-import fxsrc.propyecto.domain.ItemDoesNotExistException;
-import fxsrc.propyecto.domain.ParserCSV;
-import javafx.scene.image.Image;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Locale;
-
-/** \class DataItem
- *   \brief Clase que contiene los datos de todos los Item del sistema.
- *
- *   Ofrece operaciones para que el DataManager pueda añadir Items nuevos a partir de un String que sería la representación del Item a añadir en formato CSV.
- *   También ofrece operaciones para que el DataManager pida todos los Items, un Item en concreto a partir de la posición del Array (útil para bucles) o incluso un Item a partir de su ID.
- */
-public class DataItem extends Data{
-
-    /** \brief \a items es un array de Item donde se guardan todos los Item del sistema.
-     */
-    private ArrayList<Item> items;
-    /** \brief HashMap de los items con su id como key
-     */
-    private HashMap<Integer, Item> itemsMap;
-    /** \brief Lista de los nombres de todos los items
-     */
-    private ArrayList<String> itemsNames;
-
-    /** \brief HashMap de los items con su id como key
-     */
-    private HashMap<String, Item> itemsNameMap;
-
-    /** \brief Lista de los items mejor valorados del sistema
-     */
-    private ArrayList<Item> topRated;
-
-    /** \brief Constructor por defecto de DataItem
-     *
-     * \pre <em>Cierto</em>
-     * \post Crea una instanncia de DataItem y llama a la constructora por defecto de Data
-     */
-    public DataItem () {
-        super();
-    }
-
-    /** \brief Función para inicializar \a items
-     *
-     * \pre <em>Cierto</em>
-     * \post Se incializa el array \a items a un array vacío,
-     */
-    public void Init() {
-        items = new ArrayList<Item>();
-        itemsMap = new HashMap<>();
-        itemsNames = new ArrayList<>();
-        itemsNameMap = new HashMap<>();
-        topRated = new ArrayList<>();
-    }
-
-    /** \brief Función para inicializar el \a items.
-     *
-     * \pre \a items no es null.
-     * \pre \a itemsMap no es null.
-     * \pre \a itemsNames no es null.
-     * \pre \a itemsNameMap no es null.
-     * \post Se resetea el array \a items.
-     */
-    public void ClearData() {
-        items.clear();
-        itemsMap.clear();
-        itemsNames.clear();
-        itemsNameMap.clear();
-        topRated.clear();
-    }
-
-    /** \brief Parsea una linea CSV a un Item y lo añade a \a items
-     * \param String[] attributesNames Corresponde al nombre de los atributos
-     * \param String lineRead Corresponde a la linea CSV que hace referencia al Item deseado
-     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Item y \a lineRead no es vacío.
-     * \post Se parsean los atributos de Item y finalmente se añade a \a items.
-     */
-    public void ParseAndAddData(String attributesNames[], String lineRead) {
-        Item temp = ParserCSV.GetInstance().ParseItem(attributesNames, lineRead);
-        items.add(temp);
-        itemsMap.put(temp.GetItemId(), temp);
-        itemsNames.add(temp.GetName());
-        itemsNameMap.put(temp.GetName(), temp);
-    }
-
-    /** \brief Debuelve todos los Item dentro de \a items
-     *
-     * \pre <em>Cierto</em>
-     * \post Devuelve todos los Item dentro de \a items.
-     */
-    public ArrayList<Item> GetAllItems() {
-        return items;
-    }
-
-
-    /** \brief Devuelve el Item en la posición \a pos
-     *
-     * @throws ItemDoesNotExistException
-     * \param int pos Corresponde a la posición a la que se quiere acceder del array \a items
-     * \pre <em>Cierto</em>
-     * \post Devuelve el Item en posición \a pos
-     */
-    public Item GetItemByPosition(int pos) {
-        try {
-            return items.get(pos);
-        }
-        catch (Exception e) {
-            e.printStackTrace();
-            System.exit(0);
-            return null;
-        }
-    }
-
-    public Item GetItemByNameLC(String s) {
-        for(int i = 0; i < items.size(); ++i) {
-            if(items.get(i).GetName().toLowerCase().equals(s.toLowerCase())) {
-                return items.get(i);
-            }
-        }
-        return null;
-    }
-
-    /** \brief Devuelve el Item con ID \a id
-     *
-     * @throws ItemDoesNotExistException
-     *
-     * \param int id Corresponde a la ID del Item deseado
-     * \pre <em>Cierto</em>
-     * \post Devuelve el Item con ID = \a id
-     */
-    public Item GetItemByID(int id) throws ItemDoesNotExistException {
-        Item temp = itemsMap.get(id);
-        if(temp == null) {
-            throw new ItemDoesNotExistException();
-        }
-        else {
-            return temp;
-        }
-    }
-
-    /** \brief Devuelve el Item con nombre \a name
-     *
-     * @throws ItemDoesNotExistException
-     *
-     * \param String name Corresponde al nombre de un Item
-     * \pre <em>Cierto</em>
-     * \post Devuelve el Item con nombre = name
-     */
-    public Item GetItemByName(String name) throws ItemDoesNotExistException {
-        Item temp = itemsNameMap.get(name);
-        if(temp == null) {
-            throw  new ItemDoesNotExistException();
-        }
-        else {
-            return temp;
-        }
-    }
-
-    /** \brief Funcion que devuelve si hay una línea más por guardar
-     * \pre \a items no es null
-     * \post Devuelve si hay alguna línea más por guardar
-     */
-    protected boolean HasNextLine() {
-        return currentLine < items.size();
-    }
-
-    /** \brief Funcion que devuelve la siguiente línea a guardar
-     * \pre Cierto
-     * \post Devuelve la siguiente línea a guardar
-     */
-    protected String GetNextLine() {
-        String temp = ParserCSV.GetInstance().ParseItemToCSV((items.get(currentLine)));
-        currentLine++;
-        return temp;
-    }
-
-    /** \brief Devuelve los nombres de todos los Item
-     *
-     *
-     * \pre <em>Cierto</em>
-     * \post Devuelve los nombres de todos los Item
-     */
-    public ArrayList<String> GetAllItemsNames() {
-        return itemsNames;
-    }
-
-    /** \brief Devuelve la puntuación del Item con id = \a id
-     *
-     * @throws ItemDoesNotExistException
-     *
-     * \param int id Corresponde a la ID del Item deseado
-     * \pre <em>Cierto</em>
-     * \post Devuelve la puntuación del Item con ID = \a id
-     */
-    public float GetScore(int id) throws ItemDoesNotExistException {
-        return GetItemByID(id).GetScore();
-    }
-
-    /** \brief Devuelve la puntuación del Item con nombre = \a name
-     *
-     * @throws ItemDoesNotExistException
-     *
-     * \param String name Corresponde al nombre del Item deseado
-     * \pre <em>Cierto</em>
-     * \post Devuelve la puntuación del Item con nombre = \a name
-     */
-    public float GetScore(String name) throws ItemDoesNotExistException {
-        return GetItemByName(name).GetScore();
-    }
-
-    /** \brief Devuelve los \a r Items mejor punutados del sistema
-     *
-     * @throws ItemDoesNotExistException
-     *
-     * \param int r Corresponde a la cantidad de Items que queremos
-     * \pre <em>Cierto</em>
-     * \post Devuelve los \a r Items mejor punutados del sistema
-     */
-    public ArrayList<Item> GetTopRated(int r) {
-        if(topRated.size() == r) {
-            return topRated;
-        }
-        ArrayList<Item> temp = items;
-
-        for(int i = 0; i < temp.size(); ++i) {
-            for(int j = 0; j < temp.size()-1; ++j) {
-                if(temp.get(j).GetScore() < temp.get(j+1).GetScore()) {
-                    Item tempItem = temp.get(j);
-                    temp.set(j, temp.get(j+1));
-                    temp.set(j+1, tempItem);
-                }
-            }
-        }
-
-        for(int i = 0; i < r; ++i) {
-            topRated.add(temp.get(i));
-        }
-
-        return topRated;
-    }
-}
+/** @file DataItem.java
+ *  @brief Contiene la clase DataItem
+ */
+
+package fxsrc.propyecto.data;
+import fxsrc.propyecto.domain.ExistingActiveUserException;
+import fxsrc.propyecto.domain.Item;
+import fxsrc.propyecto.domain.ItemDoesNotExistException;
+import fxsrc.propyecto.domain.ItemSchema;
+import fxsrc.propyecto.domain.ParserCSV;
+import javafx.scene.image.Image;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Scanner;
+
+/** \class DataItem
+ *   \brief Clase que contiene los datos de todos los Item del sistema.
+ *
+ *   Ofrece operaciones para que el DataManager pueda añadir Items nuevos a partir de un String que sería la representación del Item a añadir en formato CSV.
+ *   También ofrece operaciones para que el DataManager pida todos los Items, un Item en concreto a partir de la posición del Array (útil para bucles) o incluso un Item a partir de su ID.
+ */
+public class DataItem extends Data<Item>{
+
+    /** \brief Número de filas del CSV que se miran para inferir el tipo de cada columna
+     */
+    private static final int SCHEMA_SAMPLE_ROWS = 100;
+
+    /** \brief \a items es un array de Item donde se guardan todos los Item del sistema.
+     */
+    private ArrayList<Item> items;
+    /** \brief Diccionario entre la ID de cada item y su índice interno. Los items del CSV tienen como índice su posición en \a items
+     */
+    private IdDictionary itemsDictionary;
+    /** \brief Lista de los nombres de todos los items
+     */
+    private ArrayList<String> itemsNames;
+
+    /** \brief HashMap de los items con su id como key
+     */
+    private HashMap<String, Item> itemsNameMap;
+
+    /** \brief Lista de los items mejor valorados del sistema
+     */
+    private ArrayList<Item> topRated;
+
+    /** \brief Tipos de las columnas del CSV que se está cargando (null si no se ha cargado ninguno)
+     */
+    private ItemSchema schema;
+
+    /** \brief Constructor por defecto de DataItem
+     *
+     * \pre <em>Cierto</em>
+     * \post Crea una instanncia de DataItem y llama a la constructora por defecto de Data
+     */
+    public DataItem () {
+        super();
+    }
+
+    /** \brief Función para inicializar \a items
+     *
+     * \pre <em>Cierto</em>
+     * \post Se incializa el array \a items a un array vacío,
+     */
+    public void Init() {
+        items = new ArrayList<Item>();
+        itemsDictionary = new IdDictionary();
+        itemsNames = new ArrayList<>();
+        itemsNameMap = new HashMap<>();
+        topRated = new ArrayList<>();
+    }
+
+    /** \brief Función para inicializar el \a items.
+     *
+     * \pre \a items no es null.
+     * \pre \a itemsDictionary no es null.
+     * \pre \a itemsNames no es null.
+     * \pre \a itemsNameMap no es null.
+     * \post Se resetea el array \a items.
+     */
+    public void ClearData() {
+        items.clear();
+        itemsDictionary.Clear();
+        itemsNames.clear();
+        itemsNameMap.clear();
+        topRated.clear();
+    }
+
+    /** \brief Parsea una linea CSV a un Item
+     * \param String[] attributesNames Corresponde al nombre de los atributos
+     * \param String lineRead Corresponde a la linea CSV que hace referencia al Item deseado
+     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Item y \a lineRead no es vacío.
+     * \post Se parsean los atributos de Item y se devuelve sin añadirlo a \a items.
+     */
+    @Override
+    protected Item ParseData(String attributesNames[], String lineRead) {
+        if(schema == null) {
+            return ParserCSV.GetInstance().ParseItem(attributesNames, lineRead);
+        }
+        return ParserCSV.GetInstance().ParseItem(schema, lineRead);
+    }
+
+    /** \brief Carga los Item de un fichero CSV
+     *
+     * \param String path Corresponde al path del fichero que se desea leer
+     * \pre <em>Cierto</em>
+     * \post Se infiere el tipo de cada columna con las primeras filas y se cargan los Item con esos tipos. Si alguna celda obliga a ensanchar
+     * el tipo de una columna, se vuelve a cargar el fichero para que todos los Item tengan los mismos tipos
+     */
+    @Override
+    public void LoadCSV(String path) {
+        schema = InferSchema(path);
+        super.LoadCSV(path);
+        if(schema != null && schema.HasWidened()) {
+            schema.ClearWidened();
+            super.LoadCSV(path);
+        }
+    }
+
+    /** \brief Infiere los tipos de las columnas de un fichero CSV de Item
+     *
+     * \param String path Corresponde al path del fichero
+     * \pre <em>Cierto</em>
+     * \post Devuelve el esquema inferido de las primeras \a SCHEMA_SAMPLE_ROWS filas, o null si no se puede leer el fichero
+     */
+    private ItemSchema InferSchema(String path) {
+        try {
+            Scanner myReader = new Scanner(new File(path));
+            if(!myReader.hasNextLine()) {
+                myReader.close();
+                return null;
+            }
+            String[] attributesNames = myReader.nextLine().split(",");
+            ArrayList<String> sample = new ArrayList<>();
+            while(sample.size() < SCHEMA_SAMPLE_ROWS && myReader.hasNextLine()) {
+                sample.add(ReadNextLineCSV(myReader));
+            }
+            myReader.close();
+            return ParserCSV.GetInstance().InferItemSchema(attributesNames, sample);
+        }
+        catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+
+    /** \brief Añade un Item ya parseado a \a items
+     * \param Item temp Corresponde al Item parseado
+     * \pre \a temp no es null
+     * \post Se añade \a temp a \a items y a los diccionarios de IDs y nombres.
+     */
+    @Override
+    protected void AddParsedData(Item temp) {
+        items.add(temp);
+        itemsDictionary.Add(temp.GetItemId());
+        itemsNames.add(temp.GetName());
+        itemsNameMap.put(temp.GetName(), temp);
+    }
+
+    /** \brief Debuelve todos los Item dentro de \a items
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve todos los Item dentro de \a items.
+     */
+    public ArrayList<Item> GetAllItems() {
+        return items;
+    }
+
+
+    /** \brief Devuelve el Item en la posición \a pos
+     *
+     * @throws ItemDoesNotExistException
+     * \param int pos Corresponde a la posición a la que se quiere acceder del array \a items
+     * \pre <em>Cierto</em>
+     * \post Devuelve el Item en posición \a pos
+     */
+    public Item GetItemByPosition(int pos) {
+        try {
+            return items.get(pos);
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+            System.exit(0);
+            return null;
+        }
+    }
+
+    public Item GetItemByNameLC(String s) {
+        for(int i = 0; i < items.size(); ++i) {
+            if(items.get(i).GetName().toLowerCase().equals(s.toLowerCase())) {
+                return items.get(i);
+            }
+        }
+        return null;
+    }
+
+    /** \brief Devuelve el Item con ID \a id
+     *
+     * @throws ItemDoesNotExistException
+     *
+     * \param int id Corresponde a la ID del Item deseado
+     * \pre <em>Cierto</em>
+     * \post Devuelve el Item con ID = \a id
+     */
+    public Item GetItemByID(int id) throws ItemDoesNotExistException {
+        int index = itemsDictionary.GetIndex(id);
+        if(index == -1 || index >= items.size()) {
+            throw new ItemDoesNotExistException();
+        }
+        else {
+            return items.get(index);
+        }
+    }
+
+    /** \brief Devuelve el diccionario entre la ID de cada Item y su índice interno
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el diccionario de IDs de Item. Los índices 0..GetAllItems().size()-1 corresponden a la posición de cada Item en \a items,
+     * y los índices posteriores (si los hay) a items que aparecen en los Rating pero no en el CSV de items
+     */
+    public IdDictionary GetItemsDictionary() {
+        return itemsDictionary;
+    }
+
+    /** \brief Devuelve el Item con nombre \a name
+     *
+     * @throws ItemDoesNotExistException
+     *
+     * \param String name Corresponde al nombre de un Item
+     * \pre <em>Cierto</em>
+     * \post Devuelve el Item con nombre = name
+     */
+    public Item GetItemByName(String name) throws ItemDoesNotExistException {
+        Item temp = itemsNameMap.get(name);
+        if(temp == null) {
+            throw  new ItemDoesNotExistException();
+        }
+        else {
+            return temp;
+        }
+    }
+
+    /** \brief Funcion que devuelve si hay una línea más por guardar
+     * \pre \a items no es null
+     * \post Devuelve si hay alguna línea más por guardar
+     */
+    protected boolean HasNextLine() {
+        return currentLine < items.size();
+    }
+
+    /** \brief Funcion que devuelve la siguiente línea a guardar
+     * \pre Cierto
+     * \post Devuelve la siguiente línea a guardar
+     */
+    protected String GetNextLine() {
+        String temp = ParserCSV.GetInstance().ParseItemToCSV((items.get(currentLine)));
+        currentLine++;
+        return temp;
+    }
+
+    /** \brief Devuelve los nombres de todos los Item
+     *
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve los nombres de todos los Item
+     */
+    public ArrayList<String> GetAllItemsNames() {
+        return itemsNames;
+    }
+
+    /** \brief Devuelve la puntuación del Item con id = \a id
+     *
+     * @throws ItemDoesNotExistException
+     *
+     * \param int id Corresponde a la ID del Item deseado
+     * \pre <em>Cierto</em>
+     * \post Devuelve la puntuación del Item con ID = \a id
+     */
+    public float GetScore(int id) throws ItemDoesNotExistException {
+        return GetItemByID(id).GetScore();
+    }
+
+    /** \brief Devuelve la puntuación del Item con nombre = \a name
+     *
+     * @throws ItemDoesNotExistException
+     *
+     * \param String name Corresponde al nombre del Item deseado
+     * \pre <em>Cierto</em>
+     * \post Devuelve la puntuación del Item con nombre = \a name
+     */
+    public float GetScore(String name) throws ItemDoesNotExistException {
+        return GetItemByName(name).GetScore();
+    }
+
+    /** \brief Devuelve los \a r Items mejor punutados del sistema
+     *
+     * @throws ItemDoesNotExistException
+     *
+     * \param int r Corresponde a la cantidad de Items que queremos
+     * \pre <em>Cierto</em>
+     * \post Devuelve los \a r Items mejor punutados del sistema
+     */
+    public ArrayList<Item> GetTopRated(int r) {
+        if(topRated.size() == r) {
+            return topRated;
+        }
+        ArrayList<Item> temp = new ArrayList<>(items); //copia: el orden de items tiene que coincidir con los índices de itemsDictionary
+
+        for(int i = 0; i < temp.size(); ++i) {
+            for(int j = 0; j < temp.size()-1; ++j) {
+                if(temp.get(j).GetScore() < temp.get(j+1).GetScore()) {
+                    Item tempItem = temp.get(j);
+                    temp.set(j, temp.get(j+1));
+                    temp.set(j+1, tempItem);
+                }
+            }
+        }
+
+        for(int i = 0; i < r; ++i) {
+            topRated.add(temp.get(i));
+        }
+
+        return topRated;
+    }
+}
@@ -1,371 +1,696 @@
-/** @file DataRating.java
- *  @brief Contiene la clase DataRating
- */
-
-package fxsrc.propyecto.data;
-
-import fxsrc.propyecto.domain.*;
-import javafx.util.Pair;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-
-/** \class DataRating
- *   \brief Clase que contiene los datos de todos los Rating del sistema.
- *
- *   Ofrece operaciones para que el DataManager pueda añadir Rating nuevos a partir de un String que sería la representación del Rating a añadir en formato CSV.
- *   También ofrece operaciones para que el DataManager pida todos los Rating, un Rating en concreto a partir de la posición del Array (útil para bucles) o incluso un Rating a partir de sus IDs.
- */
-public class DataRating extends Data{
-
-    /** \brief rating maximo (5, 10, 100) sobre el que se están puntuando los items
-     */
-    static float maxRating;
-
-    /** \brief Son los nombres de las columnas leidas en CSV
-     */
-    private String[] atNames;
-
-    /** \brief \a ratings es un array de Rating donde se guardan todos los Rating del sistema.
-     */
-    private ArrayList<Rating> ratings;
-    /** \brief HashMap de los Rating del sistema (para buscar un valor concreto)
-     */
-    private HashMap<Pair<Integer, Integer>, Float> ratingsMap;
-
-    /** \brief HashMap de los Rating del sistema agrupados por usuario (para buscar todos los rating de un User)
-     */
-    private HashMap<Integer, ArrayList<Rating>> allRatingsUser;
-
-    /** \brief HashMap de los Rating del sistema agrupados por item (para buscar todos los rating de un Item)
-     */
-    private HashMap<Integer, ArrayList<Rating>> allRatingsItem;
-
-    /** \brief Constructor por defecto de DataRating
-     *
-     * \pre <em>Cierto</em>
-     * \post Se crea una instancia de DataRating y se llama a la constructora por defecto de Data
-     */
-    public DataRating() {
-        super();
-    }
-
-    /** \brief Llamada a la carga de CSV de la clase data
-     *
-     * \param String path Es el path del csv
-     * \pre <em>Cierto</em>
-     * \post Se llama a la carga de CSV de la clase data  y se le da valor a maxRating
-     */
-    @Override
-    public void LoadCSV(String path) {
-        maxRating = 5;
-        super.LoadCSV(path);
-    }
-
-    /** \brief Función para inicializar \a ratings
-     *
-     * \pre <em>Cierto</em>
-     * \post Se incializa el array \a ratings a un array vacío,
-     */
-    public void Init() {
-        ratings = new ArrayList<Rating>();
-        ratingsMap = new HashMap<>();
-        allRatingsUser = new HashMap<>();
-        allRatingsItem = new HashMap<>();
-    }
-
-
-    /** \brief Función para inicializar el \a ratings.
-     *
-     * \pre \a ratings no es null.
-     * \post Se resetea el array \a ratings.
-     */
-    public void ClearData() {
-        ratings.clear();
-        ratingsMap.clear();
-        allRatingsItem.clear();
-        allRatingsUser.clear();
-    }
-
-    /** \brief Parsea una linea CSV a un Rating y lo añade a \a ratings
-     * \param String[] attributesNames Corresponde al nombre de los atributos
-     * \param String lineRead Corresponde a la linea CSV que hace referencia al Rating deseado
-     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Rating y \a lineRead no es vacío.
-     * \post Se parsean los atributos de Rating y finalmente se añade a \a ratings.
-     */
-    public void ParseAndAddData(String attributesNames[], String lineRead) {
-        atNames = attributesNames;
-        Rating tempRating = ParserCSV.GetInstance().ParseRating(attributesNames, lineRead);
-        ratings.add(tempRating);
-        if(tempRating.GetRating() > maxRating) {
-            if(tempRating.GetRating() > 10) {
-                maxRating = 100;
-            }
-            else if(tempRating.GetRating() > 5) {
-                maxRating = 10;
-            }
-        }
-
-        //añadimos el rating al ratingMap principal
-        ratingsMap.put(new Pair(tempRating.GetUserID(), tempRating.GetItemID()), tempRating.GetRating());
-
-        //añadimos el rating a los ratings de cada User
-        if(allRatingsUser.containsKey(tempRating.GetUserID())) {
-            allRatingsUser.get(tempRating.GetUserID()).add(tempRating);
-        }
-        else {
-            ArrayList<Rating> tempList = new ArrayList<>();
-            tempList.add(tempRating);
-            allRatingsUser.put(tempRating.GetUserID(), tempList);
-        }
-
-        //añadimos el rating a los ratings de cada Item
-        if(allRatingsItem.containsKey(tempRating.GetItemID())) {
-            allRatingsItem.get(tempRating.GetItemID()).add(tempRating);
-        }
-        else {
-            ArrayList<Rating> tempList = new ArrayList<>();
-            tempList.add(tempRating);
-            allRatingsItem.put(tempRating.GetItemID(), tempList);
-        }
-    }
-
-    /** \brief Devuelve todos los Rating dentro de \a ratings
-     *
-     * \pre <em>Cierto</em>
-     * \post Devuelve todos los Rating dentro de \a ratigns.
-     */
-    public ArrayList<Rating> GetAllRatings() {
-        return ratings;
-    }
-
-    /** \brief Devuelve todos los Rating agrupados por usuario
-     *
-     * \pre <em>Cierto</em>
-     * \post Devuelve todos los Rating agrupados por usuario
-     */
-    public HashMap<Integer, ArrayList<Rating>> GetAllRatingsUsersMap() {
-        return allRatingsUser;
-    }
-
-    /** \brief Devuelve todos los Ratings
-     *
-     * \pre <em>Cierto</em>
-     * \post Devuelve todos los Ratings
-     */
-    public HashMap<Pair<Integer, Integer>, Float> GetAllRatingsMap() {
-        return ratingsMap;
-    }
-
-    /** \brief Devuelve el valor de Rating con id de usuario \a userID y id de item \itemID
-     *
-     * @throws RatingDoesNotExistException
-     *
-     * \param int userID Corresponde a la ID del usuario del rating deseado
-     * \param int itemID Corresponde a la ID del item del rating deseado
-     * \pre <em>Cierto</em>
-     * \post Devuelve el valor Rating con id de usuario \a userID y id de item \itemID
-     */
-    public float GetRatingValueByID(int userID, int itemID) throws RatingDoesNotExistException {
-        Float temp = ratingsMap.get(new Pair<>(userID, itemID));
-        if(temp == null) {
-            throw new RatingDoesNotExistException();
-        }
-        else {
-            return temp;
-        }
-    }
-
-    /** \brief Devuelve todos los Rating guardados en \a ratings
-     *
-     * \pre <em>Cierto</em>
-     * \post Devuelve todos los Rating guardados en \a ratings
-     */
-    public ArrayList<Integer> GetAllUsersID() {
-        ArrayList<Integer> usersID = new ArrayList<Integer>();
-        for (Rating rating : ratings) {
-            boolean found = false;
-            for(int i = 0; i < usersID.size(); ++i) {
-                if(rating.GetUserID() == usersID.get(i)) {
-                    found = true;
-                    break;
-                }
-            }
-            if(!found) {
-                usersID.add(rating.GetUserID());
-            }
-        }
-        return usersID;
-    }
-
-    /** \brief Devuelve el valor de todos los Rating que el usuario con id \a userID ha realizado
-     *
-     * @throws RatingDoesNotExistException
-     *
-     * \param int userID Corresponde a la ID del usuario deseado
-     * \pre <em>Cierto</em>
-     * \post Devuelve el valor de todos los Rating que el usuario con id \a userID ha realizado
-     */
-    public ArrayList<Rating> GetUserRatings(int userID) throws NoExistingUserIDException{
-
-        ArrayList<Rating> temp = allRatingsUser.get(userID);
-
-        if(temp == null || temp.isEmpty()) {
-            throw new NoExistingUserIDException();
-        }
-        return temp;
-    }
-
-    /** \brief Devuelve el valor de todos los Rating que tiene el item con id \a itemID
-     *
-     * @throws ItemDoesNotExistException
-     *
-     * \param int itemID Corresponde a la ID del item deseado
-     * \pre <em>Cierto</em>
-     * \post Devuelve el valor de todos los Rating que tiene el item con id \a itemID
-     */
-    public ArrayList<Rating> GetItemRatings(int itemID) throws ItemDoesNotExistException{
-        ArrayList<Rating> temp = allRatingsUser.get(itemID);
-
-        if(temp.isEmpty()) {
-            throw new ItemDoesNotExistException();
-        }
-        return temp;
-    }
-
-    /** \brief Devuelve el valor sobre que están los ratings puntuados (5,10,100)
-     *
-     *
-     * \pre <em>Cierto</em>
-     * \post Devuelve el valor sobre que están los ratings puntuados (5,10,100)
-     */
-    public static float GetMaxRating() {
-        return maxRating;
-    }
-
-    /** \brief Devuelve el valor sobre que están los ratings puntuados (5,10,100)
-     *
-     *
-     * \pre <em>Cierto</em>
-     * \post Devuelve el valor sobre que están los ratings puntuados (5,10,100)
-     */
-    protected boolean HasNextLine() {
-        return currentLine < ratings.size();
-    }
-
-    /** \brief Funcion que devuelve la siguiente línea a guardar
-     * \pre Cierto
-     * \post Devuelve la siguiente línea a guardar
-     */
-    protected String GetNextLine() {
-        String temp = ParserCSV.GetInstance().ParseRatingToCSV(atNames, ratings.get(currentLine));
-        currentLine++;
-        return temp;
-    }
-
-    /** \brief Funcion que añade un Rating a las diferentes listas
-     * \param Rating tempRating corresponde al Rating a añadir
-     * \pre ratings, ratingsMap, allRatingsItem y allRatingsUser no son null
-     * \post Añade \a tempRating a todas las listas de almacenamiento
-     */
-    public void AddRating(Rating tempRating) {
-        ratings.add(tempRating);
-        if(tempRating.GetRating() > maxRating) {
-            if(tempRating.GetRating() > 10) {
-                maxRating = 100;
-            }
-            else if(tempRating.GetRating() > 5) {
-                maxRating = 10;
-            }
-        }
-
-        //añadimos el rating al ratingMap principal
-        ratingsMap.put(new Pair(tempRating.GetUserID(), tempRating.GetItemID()), tempRating.GetRating());
-
-        //añadimos el rating a los ratings de cada User
-        if(allRatingsUser.containsKey(tempRating.GetUserID())) {
-            allRatingsUser.get(tempRating.GetUserID()).add(tempRating);
-        }
-        else {
-            ArrayList<Rating> tempList = new ArrayList<>();
-            tempList.add(tempRating);
-            allRatingsUser.put(tempRating.GetUserID(), tempList);
-        }
-
-        //añadimos el rating a los ratings de cada Item
-        if(allRatingsItem.containsKey(tempRating.GetItemID())) {
-            allRatingsItem.get(tempRating.GetItemID()).add(tempRating);
-        }
-        else {
-            ArrayList<Rating> tempList = new ArrayList<>();
-            tempList.add(tempRating);
-            allRatingsItem.put(tempRating.GetItemID(), tempList);
-        }
-        StoreCSV();
-    }
-
-    /** \brief Funcion que modifica un Rating en las diferentes listas
-     * \param Rating tempRating corresponde al Rating a modificar
-     * \pre ratings, ratingsMap, allRatingsItem y allRatingsUser no son null
-     * \post Modifica \a tempRating en todas las listas de almacenamiento
-     */
-    public void ModifyItemRating(Rating r) {
-        //ratingsMap.get(new Pair(r.GetUserID(), r.GetItemID())) = r.GetRating();
-        DeleteRating(r.GetUserID(), r.GetItemID());
-        AddRating(r);
-    }
-
-    /** \brief Funcion que elimina un Rating de las diferentes listas
-     * \param int userID Corresponde al ID del usuario del Rating a eliminar
-     * \param int itemID Corresponde al ID del item del Rating a eliminar
-     * \pre ratings, ratingsMap, allRatingsItem y allRatingsUser no son null
-     * \pre \a userID corresponde a la ID de un usuario existente
-     * \pre \a itemID corresponde a la ID de un Item existente
-     * \post Elimina \a tempRating de todas las listas de almacenamiento
-     */
-    public void DeleteRating(int userID, int itemID) {
-        ratingsMap.remove(new Pair(userID, itemID));
-
-        for(int i = 0; i < ratings.size(); ++i) {
-            if(ratings.get(i).GetUserID() == userID && ratings.get(i).GetItemID() == itemID) {
-                ratings.remove(i);
-                break;
-            }
-        }
-
-        for(int i = 0; i < allRatingsItem.get(itemID).size(); ++i) {
-            if(allRatingsItem.get(itemID).get(i).GetUserID() == userID && allRatingsItem.get(itemID).get(i).GetItemID() == itemID) {
-                allRatingsItem.get(itemID).remove(i);
-                break;
-            }
-        }
-
-        for(int i = 0; i < allRatingsUser.get(userID).size(); ++i) {
-            if(allRatingsUser.get(userID).get(i).GetUserID() == userID && allRatingsUser.get(userID).get(i).GetItemID() == itemID) {
-                allRatingsUser.get(userID).remove(i);
-                break;
-            }
-        }
-
-        StoreCSV();
-    }
-
-    /** \brief Funcion que elimina todos los Rating de un usuario en las diferentes listas
-     * \param int userID Corresponde al ID del usuario que queremos eliminar todos sus Rating
-     * \pre ratings, ratingsMap, allRatingsItem y allRatingsUser no son null
-     * \pre \a userID corresponde a la ID de un usuario existente
-     * \post Elimina \a tempRating de todas las listas de almacenamiento
-     */
-    public void DeleteRatingsOfUser(int userID){
-
-        try {
-            ArrayList<Rating> temp = GetUserRatings(userID);
-            for(int i = 0; i < temp.size(); ++i) {
-                DeleteRating(userID, temp.get(i).GetItemID());
-            }
-        } catch (NoExistingUserIDException e) {
-            e.printStackTrace();
-        }
-
-    }
-}
+/** @file DataRating.java
+ *  @brief Contiene la clase DataRating
+ */
+
+package fxsrc.propyecto.data;
+
+import fxsrc.propyecto.domain.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/** \class DataRating
+ *   \brief Clase que contiene los datos de todos los Rating del sistema.
+ *
+ *   Ofrece operaciones para que el DataManager pueda añadir Rating nuevos a partir de un String que sería la representación del Rating a añadir en formato CSV.
+ *   También ofrece operaciones para que el DataManager pida todos los Rating, un Rating en concreto a partir de la posición del Array (útil para bucles) o incluso un Rating a partir de sus IDs.
+ */
+public class DataRating extends Data<Rating>{
+
+    /** \brief rating maximo (5, 10, 100) sobre el que se están puntuando los items
+     */
+    static float maxRating;
+
+    /** \brief Son los nombres de las columnas leidas en CSV
+     */
+    private String[] atNames;
+
+    /** \brief Cabecera compilada del CSV que se está cargando
+     */
+    private HeaderCSV ratingsHeader;
+
+    /** \brief \a ratings es un array de Rating donde se guardan todos los Rating del sistema.
+     */
+    private ArrayList<Rating> ratings;
+    /** \brief Índice (usuario, item) -> valor de los Rating del sistema (para buscar un valor concreto sin crear objetos)
+     */
+    private RatingIndex ratingsIndex;
+
+    /** \brief HashMap de los Rating del sistema agrupados por usuario (para buscar todos los rating de un User)
+     */
+    private HashMap<Integer, ArrayList<Rating>> allRatingsUser;
+
+    /** \brief HashMap de los Rating del sistema agrupados por item (para buscar todos los rating de un Item)
+     */
+    private HashMap<Integer, ArrayList<Rating>> allRatingsItem;
+
+    /** \brief Diario donde se guardan los cambios en lugar de reescribir el CSV. Es null si no se usa (cada cambio reescribe el CSV)
+     */
+    private RatingJournal journal;
+
+    /** \brief Matriz dispersa (CSR/CSC) de los Rating del sistema. Es null si hay que volver a construirla
+     */
+    private RatingMatrix matrix;
+
+    /** \brief Columnas (usuario, item y valor) de la copia binaria cargada, para construir \a matrix sin recorrer los Rating. Son null si ha habido cambios desde la carga
+     */
+    private int[] loadedUsers;
+    private int[] loadedItems;
+    private float[] loadedValues;
+
+    /** \brief Suma de los hash de todos los Rating del sistema. Como es una suma no depende del orden, y se actualiza en cada alta, modificación o eliminación
+     */
+    private long contentHash;
+
+    /** \brief Constructor por defecto de DataRating
+     *
+     * \pre <em>Cierto</em>
+     * \post Se crea una instancia de DataRating y se llama a la constructora por defecto de Data
+     */
+    public DataRating() {
+        super();
+    }
+
+    /** \brief Llamada a la carga de CSV de la clase data
+     *
+     * \param String path Es el path del csv
+     * \pre <em>Cierto</em>
+     * \post Se le da valor a maxRating y se cargan los Rating desde la copia binaria del CSV (RatingSnapshot) si está al día.
+     * Si no, se llama a la carga de CSV de la clase data y se vuelve a generar la copia binaria
+     */
+    @Override
+    public void LoadCSV(String path) {
+        maxRating = 5;
+        RatingSnapshot snapshot = new RatingSnapshot(path);
+        if(snapshot.Open()) {
+            LoadSnapshot(path, snapshot);
+        }
+        else {
+            super.LoadCSV(path);
+            if(path.equals(filePath)) { //el CSV existía y se ha cargado
+                atNames = attributesNames.split(",");
+                snapshot.Store(attributesNames, ratings);
+            }
+        }
+    }
+
+    /** \brief Carga los Rating desde la copia binaria del CSV
+     *
+     * Las listas e índices se construyen directamente de las columnas (copiadas en bloque) y del índice por usuario de la copia, sin pasar por
+     * InsertRating: cada lista de usuario se crea con su tamaño exacto y se llena con las posiciones agrupadas, \a ratingsIndex se reserva de una vez
+     * y se llena con sus posiciones, y la matriz dispersa sale de las mismas columnas. Lo único que se sigue creando por fila es el objeto Rating,
+     * porque las listas de Rating son lo que usa el resto del programa. La matriz dispersa se construye con estas columnas la primera vez que se pide,
+     * si antes no ha cambiado ningún Rating (por ejemplo al aplicar el diario).
+     *
+     * \param String path Es el path del csv
+     * \param RatingSnapshot snapshot Es la copia binaria ya abierta del csv
+     * \pre \a snapshot se ha abierto correctamente
+     * \post Se cargan todos los Rating de \a snapshot, en el mismo orden que en el CSV, igual que si se hubiese leído el CSV
+     */
+    private void LoadSnapshot(String path, RatingSnapshot snapshot) {
+        ClearData();
+        filePath = path;
+        attributesNames = snapshot.GetHeader();
+        atNames = attributesNames.split(",");
+        int numberOfRatings = snapshot.GetNumberOfRatings();
+        int[] users = new int[numberOfRatings];
+        int[] items = new int[numberOfRatings];
+        float[] values = new float[numberOfRatings];
+        snapshot.GetColumns(users, items, values);
+
+        //lista con todos los Rating y listas de cada item, en el orden del CSV
+        Rating[] rows = new Rating[numberOfRatings];
+        int[] itemPositions = new int[numberOfRatings];
+        ratings.ensureCapacity(numberOfRatings);
+        for(int i = 0; i < numberOfRatings; ++i) {
+            rows[i] = new Rating(users[i], items[i], values[i]);
+            ratings.add(rows[i]);
+            ArrayList<Rating> itemList = allRatingsItem.get(items[i]);
+            if(itemList == null) {
+                itemList = new ArrayList<>();
+                allRatingsItem.put(items[i], itemList);
+            }
+            itemPositions[i] = itemList.size();
+            itemList.add(rows[i]);
+            UpdateMaxRating(values[i]);
+            contentHash += RatingHash(users[i], items[i], values[i]);
+        }
+
+        //listas de cada usuario (posiciones crecientes, así que también en el orden del CSV) e índice principal
+        ratingsIndex.Reserve(numberOfRatings);
+        for(int u = 0; u < snapshot.GetNumberOfUsers(); ++u) {
+            int userID = snapshot.GetUserIDByPosition(u);
+            int numberOfUserRatings = snapshot.GetUserNumberOfRatings(u);
+            ArrayList<Rating> userList = new ArrayList<>(numberOfUserRatings);
+            for(int k = 0; k < numberOfUserRatings; ++k) {
+                int i = snapshot.GetUserRatingPosition(u, k);
+                userList.add(rows[i]);
+                int slot = ratingsIndex.Put(userID, items[i], values[i]);
+                ratingsIndex.SetPositions(slot, i, k, itemPositions[i]);
+            }
+            allRatingsUser.put(userID, userList);
+        }
+
+        if(ratingsIndex.Size() != numberOfRatings) {
+            //la copia sale de una lista sin Rating repetidos, así que esto solo pasa si está mal: cargamos Rating a Rating, como el CSV
+            ClearData();
+            for(int i = 0; i < numberOfRatings; ++i) {
+                InsertRating(new Rating(users[i], items[i], values[i]));
+            }
+            return;
+        }
+        loadedUsers = users;
+        loadedItems = items;
+        loadedValues = values;
+    }
+
+    /** \brief Empieza a usar un diario de cambios para el CSV cargado
+     *
+     * \pre Se ha cargado el CSV con LoadCSV
+     * \post Se aplican los cambios pendientes del diario del CSV y a partir de ahora los cambios se añaden al diario en lugar de reescribir el CSV
+     */
+    public void OpenJournal() {
+        journal = new RatingJournal(filePath);
+        journal.Replay(this);
+    }
+
+    /** \brief Aplica una línea de alta o modificación del diario
+     *
+     * \param int userID Corresponde a la ID del usuario del Rating
+     * \param int itemID Corresponde a la ID del item del Rating
+     * \param float rating Corresponde al valor del Rating
+     * \pre <em>Cierto</em>
+     * \post El Rating queda con el valor \a rating, sin escribir nada en disco
+     */
+    void ApplyJournalAdd(int userID, int itemID, float rating) {
+        InsertRating(new Rating(userID, itemID, rating));
+    }
+
+    /** \brief Aplica una línea de eliminación del diario
+     *
+     * \param int userID Corresponde a la ID del usuario del Rating
+     * \param int itemID Corresponde a la ID del item del Rating
+     * \pre <em>Cierto</em>
+     * \post Si el Rating existía se elimina, sin escribir nada en disco
+     */
+    void ApplyJournalDelete(int userID, int itemID) {
+        RemoveRating(userID, itemID);
+    }
+
+    /** \brief Guarda un cambio en disco
+     *
+     * \param char op Corresponde al tipo de cambio (RatingJournal.ADD, MODIFY o DELETE)
+     * \param int userID Corresponde a la ID del usuario del Rating
+     * \param int itemID Corresponde a la ID del item del Rating
+     * \param float rating Corresponde al valor del Rating
+     * \pre El cambio ya se ha hecho en memoria
+     * \post Si no hay diario se reescribe el CSV. Si hay, se añade el cambio al diario (sin escribirlo hasta llamar a FlushChanges)
+     */
+    private void SaveChange(char op, int userID, int itemID, float rating) {
+        if(journal == null) {
+            StoreCSV();
+        }
+        else {
+            journal.Append(op, userID, itemID, rating);
+        }
+    }
+
+    /** \brief Escribe en disco los cambios guardados con SaveChange
+     *
+     * \pre <em>Cierto</em>
+     * \post Si hay diario se escriben sus líneas pendientes y, si el diario es demasiado grande, se compacta en segundo plano
+     */
+    private void FlushChanges() {
+        if(journal != null) {
+            journal.Flush();
+            if(journal.NeedsCompaction()) {
+                journal.Compact(attributesNames, attributesNames.split(","), new ArrayList<>(ratings));
+            }
+        }
+    }
+
+    /** \brief Función para inicializar \a ratings
+     *
+     * \pre <em>Cierto</em>
+     * \post Se incializa el array \a ratings a un array vacío,
+     */
+    public void Init() {
+        ratings = new ArrayList<Rating>();
+        ratingsIndex = new RatingIndex();
+        allRatingsUser = new HashMap<>();
+        allRatingsItem = new HashMap<>();
+        contentHash = 0;
+    }
+
+
+    /** \brief Función para inicializar el \a ratings.
+     *
+     * \pre \a ratings no es null.
+     * \post Se resetea el array \a ratings.
+     */
+    public void ClearData() {
+        ratings.clear();
+        ratingsIndex.Clear();
+        allRatingsItem.clear();
+        allRatingsUser.clear();
+        InvalidateMatrix();
+        contentHash = 0;
+    }
+
+    /** \brief Parsea una linea CSV a un Rating y lo añade a \a ratings
+     * \param String[] attributesNames Corresponde al nombre de los atributos
+     * \param String lineRead Corresponde a la linea CSV que hace referencia al Rating deseado
+     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Rating y \a lineRead no es vacío.
+     * \post Se parsean los atributos de Rating y finalmente se añade a \a ratings.
+     */
+    @Override
+    public void ParseAndAddData(String attributesNames[], String lineRead) {
+        atNames = attributesNames;
+        super.ParseAndAddData(attributesNames, lineRead);
+    }
+
+    /** \brief Parsea una linea CSV a un Rating
+     * \param String[] attributesNames Corresponde al nombre de los atributos
+     * \param String lineRead Corresponde a la linea CSV que hace referencia al Rating deseado
+     * \pre \a attributesNames tiene el tamaño exacto de parametros que tenga el Rating y \a lineRead no es vacío.
+     * \post Se parsean los atributos de Rating y se devuelve sin añadirlo a \a ratings.
+     */
+    @Override
+    protected Rating ParseData(String attributesNames[], String lineRead) {
+        HeaderCSV header = ratingsHeader;
+        if(header == null || header.GetAttributesNames() != attributesNames) { //fila suelta que no viene de LoadCSV
+            header = HeaderCSV.ForRatings(attributesNames);
+        }
+        return ParserCSV.GetInstance().ParseRating(header, lineRead);
+    }
+
+    /** \brief Compila la cabecera del CSV que se está cargando
+     * \param String[] attributesNames Corresponde al nombre de los atributos de la cabecera
+     * \pre <em>Cierto</em>
+     * \post \a ratingsHeader pasa a ser la cabecera compilada de \a attributesNames
+     */
+    @Override
+    protected void CompileHeader(String attributesNames[]) {
+        ratingsHeader = HeaderCSV.ForRatings(attributesNames);
+    }
+
+    /** \brief Añade un Rating ya parseado a \a ratings
+     * \param Rating tempRating Corresponde al Rating parseado
+     * \pre \a tempRating no es null
+     * \post Se añade \a tempRating igual que con InsertRating.
+     */
+    @Override
+    protected void AddParsedData(Rating tempRating) {
+        InsertRating(tempRating);
+    }
+
+    /** \brief Devuelve todos los Rating dentro de \a ratings
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve todos los Rating dentro de \a ratigns.
+     */
+    public ArrayList<Rating> GetAllRatings() {
+        return ratings;
+    }
+
+    /** \brief Devuelve todos los Rating agrupados por usuario
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve todos los Rating agrupados por usuario
+     */
+    public HashMap<Integer, ArrayList<Rating>> GetAllRatingsUsersMap() {
+        return allRatingsUser;
+    }
+
+    /** \brief Devuelve la matriz dispersa con todos los Rating
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve la matriz dispersa con todos los Rating. Si ha habido cambios desde la última vez se vuelve a construir
+     */
+    public RatingMatrix GetRatingMatrix() {
+        if(matrix == null && loadedUsers != null) {
+            matrix = new RatingMatrix(loadedUsers, loadedItems, loadedValues, loadedUsers.length);
+            loadedUsers = null;
+            loadedItems = null;
+            loadedValues = null;
+        }
+        if(matrix == null) {
+            int size = ratings.size();
+            int[] users = new int[size];
+            int[] items = new int[size];
+            float[] values = new float[size];
+            for(int i = 0; i < size; ++i) {
+                Rating r = ratings.get(i);
+                users[i] = r.GetUserID();
+                items[i] = r.GetItemID();
+                values[i] = r.GetRating();
+            }
+            matrix = new RatingMatrix(users, items, values, size);
+        }
+        return matrix;
+    }
+
+    /** \brief Devuelve el valor de Rating con id de usuario \a userID y id de item \itemID
+     *
+     * @throws RatingDoesNotExistException
+     *
+     * \param int userID Corresponde a la ID del usuario del rating deseado
+     * \param int itemID Corresponde a la ID del item del rating deseado
+     * \pre <em>Cierto</em>
+     * \post Devuelve el valor Rating con id de usuario \a userID y id de item \itemID
+     */
+    public float GetRatingValueByID(int userID, int itemID) throws RatingDoesNotExistException {
+        int slot = ratingsIndex.Find(userID, itemID);
+        if(slot == -1) {
+            throw new RatingDoesNotExistException();
+        }
+        else {
+            return ratingsIndex.GetValue(slot);
+        }
+    }
+
+    /** \brief Devuelve todos los Rating guardados en \a ratings
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve todos los Rating guardados en \a ratings
+     */
+    public ArrayList<Integer> GetAllUsersID() {
+        ArrayList<Integer> usersID = new ArrayList<Integer>();
+        for (Rating rating : ratings) {
+            boolean found = false;
+            for(int i = 0; i < usersID.size(); ++i) {
+                if(rating.GetUserID() == usersID.get(i)) {
+                    found = true;
+                    break;
+                }
+            }
+            if(!found) {
+                usersID.add(rating.GetUserID());
+            }
+        }
+        return usersID;
+    }
+
+    /** \brief Devuelve el valor de todos los Rating que el usuario con id \a userID ha realizado
+     *
+     * @throws RatingDoesNotExistException
+     *
+     * \param int userID Corresponde a la ID del usuario deseado
+     * \pre <em>Cierto</em>
+     * \post Devuelve una copia de la lista con todos los Rating que el usuario con id \a userID ha realizado
+     * (la lista interna no se puede modificar desde fuera porque \a ratingsIndex guarda las posiciones de sus elementos)
+     */
+    public ArrayList<Rating> GetUserRatings(int userID) throws NoExistingUserIDException{
+
+        ArrayList<Rating> temp = allRatingsUser.get(userID);
+
+        if(temp == null || temp.isEmpty()) {
+            throw new NoExistingUserIDException();
+        }
+        return new ArrayList<>(temp);
+    }
+
+    /** \brief Devuelve los Rating que el usuario con id \a userID tiene guardados, con las notas guardadas
+     *
+     * \param int userID Corresponde a la ID del usuario deseado
+     * \pre <em>Cierto</em>
+     * \post Devuelve Rating nuevos con la nota que guarda \a ratingsIndex para cada item del usuario (vacío si no tiene ninguno). Aunque alguien
+     * haya cambiado con SetRating un Rating de GetUserRatings sin pasar por ModifyItemRating, la nota devuelta es la de la última vez que se guardó
+     */
+    public ArrayList<Rating> GetStoredUserRatings(int userID) {
+        ArrayList<Rating> temp = allRatingsUser.get(userID);
+        ArrayList<Rating> stored = new ArrayList<>(temp == null ? 0 : temp.size());
+        if(temp != null) {
+            for(Rating rating : temp) {
+                int slot = ratingsIndex.Find(userID, rating.GetItemID());
+                stored.add(new Rating(userID, rating.GetItemID(), ratingsIndex.GetValue(slot)));
+            }
+        }
+        return stored;
+    }
+
+    /** \brief Devuelve el valor de todos los Rating que tiene el item con id \a itemID
+     *
+     * @throws ItemDoesNotExistException
+     *
+     * \param int itemID Corresponde a la ID del item deseado
+     * \pre <em>Cierto</em>
+     * \post Devuelve el valor de todos los Rating que tiene el item con id \a itemID
+     */
+    public ArrayList<Rating> GetItemRatings(int itemID) throws ItemDoesNotExistException{
+        ArrayList<Rating> temp = allRatingsUser.get(itemID);
+
+        if(temp.isEmpty()) {
+            throw new ItemDoesNotExistException();
+        }
+        return temp;
+    }
+
+    /** \brief Devuelve el valor sobre que están los ratings puntuados (5,10,100)
+     *
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el valor sobre que están los ratings puntuados (5,10,100)
+     */
+    public static float GetMaxRating() {
+        return maxRating;
+    }
+
+    /** \brief Devuelve el valor sobre que están los ratings puntuados (5,10,100)
+     *
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el valor sobre que están los ratings puntuados (5,10,100)
+     */
+    protected boolean HasNextLine() {
+        return currentLine < ratings.size();
+    }
+
+    /** \brief Funcion que devuelve la siguiente línea a guardar
+     * \pre Cierto
+     * \post Devuelve la siguiente línea a guardar
+     */
+    protected String GetNextLine() {
+        String temp = ParserCSV.GetInstance().ParseRatingToCSV(atNames, ratings.get(currentLine));
+        currentLine++;
+        return temp;
+    }
+
+    /** \brief Funcion que añade un Rating a las diferentes listas
+     * \param Rating tempRating corresponde al Rating a añadir
+     * \pre ratings, ratingsIndex, allRatingsItem y allRatingsUser no son null
+     * \post Añade \a tempRating a todas las listas de almacenamiento y se guarda en disco
+     */
+    public void AddRating(Rating tempRating) {
+        InsertRating(tempRating);
+        SaveChange(RatingJournal.ADD, tempRating.GetUserID(), tempRating.GetItemID(), tempRating.GetRating());
+        FlushChanges();
+    }
+
+    /** \brief Funcion que marca que la matriz dispersa se tiene que volver a construir
+     * \pre <em>Cierto</em>
+     * \post \a matrix y las columnas de la copia binaria cargada quedan a null
+     */
+    private void InvalidateMatrix() {
+        matrix = null;
+        loadedUsers = null;
+        loadedItems = null;
+        loadedValues = null;
+    }
+
+    /** \brief Funcion que actualiza la nota máxima con el valor de un Rating
+     * \param float rating corresponde al valor del Rating
+     * \pre <em>Cierto</em>
+     * \post Si \a rating pasa de la nota máxima actual, la nota máxima pasa a ser 10 o 100
+     */
+    private static void UpdateMaxRating(float rating) {
+        if(rating > maxRating) {
+            if(rating > 10) {
+                maxRating = 100;
+            }
+            else if(rating > 5) {
+                maxRating = 10;
+            }
+        }
+    }
+
+    /** \brief Funcion que añade un Rating a las diferentes listas sin guardar el CSV
+     * \param Rating tempRating corresponde al Rating a añadir
+     * \pre ratings, ratingsIndex, allRatingsItem y allRatingsUser no son null
+     * \post Añade \a tempRating a todas las listas de almacenamiento y guarda sus posiciones en \a ratingsIndex.
+     * Si ya existía un Rating del mismo usuario al mismo item, se sustituye en las mismas posiciones
+     */
+    private void InsertRating(Rating tempRating) {
+        InvalidateMatrix();
+        UpdateMaxRating(tempRating.GetRating());
+
+        int slot = ratingsIndex.Find(tempRating.GetUserID(), tempRating.GetItemID());
+        contentHash += RatingHash(tempRating.GetUserID(), tempRating.GetItemID(), tempRating.GetRating());
+        if(slot != -1) {
+            //ya existía: lo sustituimos sin mover nada
+            contentHash -= RatingHash(tempRating.GetUserID(), tempRating.GetItemID(), ratingsIndex.GetValue(slot));
+            ratingsIndex.Put(tempRating.GetUserID(), tempRating.GetItemID(), tempRating.GetRating());
+            ratings.set(ratingsIndex.GetRatingsPosition(slot), tempRating);
+            allRatingsUser.get(tempRating.GetUserID()).set(ratingsIndex.GetUserPosition(slot), tempRating);
+            allRatingsItem.get(tempRating.GetItemID()).set(ratingsIndex.GetItemPosition(slot), tempRating);
+            return;
+        }
+
+        ratings.add(tempRating);
+
+        //añadimos el rating a los ratings de cada User
+        ArrayList<Rating> userList = allRatingsUser.get(tempRating.GetUserID());
+        if(userList == null) {
+            userList = new ArrayList<>();
+            allRatingsUser.put(tempRating.GetUserID(), userList);
+        }
+        userList.add(tempRating);
+
+        //añadimos el rating a los ratings de cada Item
+        ArrayList<Rating> itemList = allRatingsItem.get(tempRating.GetItemID());
+        if(itemList == null) {
+            itemList = new ArrayList<>();
+            allRatingsItem.put(tempRating.GetItemID(), itemList);
+        }
+        itemList.add(tempRating);
+
+        //añadimos el rating al índice principal junto con sus posiciones
+        slot = ratingsIndex.Put(tempRating.GetUserID(), tempRating.GetItemID(), tempRating.GetRating());
+        ratingsIndex.SetPositions(slot, ratings.size() - 1, userList.size() - 1, itemList.size() - 1);
+    }
+
+    /** \brief Devuelve la huella de los Rating del sistema
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve un long que depende solo del conjunto de Rating (usuario, item y valor) y no del orden en que se han añadido:
+     * dos conjuntos iguales tienen la misma huella y, en la práctica, dos distintos la tienen distinta. Se calcula en tiempo constante
+     */
+    public long GetFingerprint() {
+        return Mix(contentHash + Mix(ratingsIndex.Size()));
+    }
+
+    /** \brief Devuelve el hash de un Rating para \a contentHash
+     *
+     * \param int userID Corresponde a la ID del usuario del Rating
+     * \param int itemID Corresponde a la ID del item del Rating
+     * \param float rating Corresponde al valor del Rating
+     * \pre <em>Cierto</em>
+     * \post Devuelve el hash de (\a userID, \a itemID, \a rating)
+     */
+    private static long RatingHash(int userID, int itemID, float rating) {
+        return Mix(Mix(RatingIndex.Key(userID, itemID)) + Float.floatToIntBits(rating));
+    }
+
+    /** \brief Mezcla los bits de un long (finalizador de SplitMix64)
+     *
+     * \param long x Corresponde al valor a mezclar
+     * \pre <em>Cierto</em>
+     * \post Devuelve un long en el que cada bit depende de todos los bits de \a x
+     */
+    private static long Mix(long x) {
+        x += 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    /** \brief Funcion que modifica un Rating en las diferentes listas
+     * \param Rating tempRating corresponde al Rating a modificar
+     * \pre ratings, ratingsIndex, allRatingsItem y allRatingsUser no son null
+     * \post Modifica \a tempRating en todas las listas de almacenamiento y se guarda en disco una sola vez
+     */
+    public void ModifyItemRating(Rating r) {
+        RemoveRating(r.GetUserID(), r.GetItemID());
+        InsertRating(r);
+        SaveChange(RatingJournal.MODIFY, r.GetUserID(), r.GetItemID(), r.GetRating());
+        FlushChanges();
+    }
+
+    /** \brief Funcion que elimina un Rating de las diferentes listas
+     * \param int userID Corresponde al ID del usuario del Rating a eliminar
+     * \param int itemID Corresponde al ID del item del Rating a eliminar
+     * \pre ratings, ratingsIndex, allRatingsItem y allRatingsUser no son null
+     * \pre \a userID corresponde a la ID de un usuario existente
+     * \pre \a itemID corresponde a la ID de un Item existente
+     * \post Elimina \a tempRating de todas las listas de almacenamiento y se guarda en disco
+     */
+    public void DeleteRating(int userID, int itemID) {
+        RemoveRating(userID, itemID);
+        SaveChange(RatingJournal.DELETE, userID, itemID, 0.0f);
+        FlushChanges();
+    }
+
+    /** \brief Funcion que elimina un Rating de las diferentes listas sin guardar el CSV
+     * \param int userID Corresponde al ID del usuario del Rating a eliminar
+     * \param int itemID Corresponde al ID del item del Rating a eliminar
+     * \pre ratings, ratingsIndex, allRatingsItem y allRatingsUser no son null
+     * \pre \a userID corresponde a la ID de un usuario existente
+     * \pre \a itemID corresponde a la ID de un Item existente
+     * \post Elimina \a tempRating de todas las listas de almacenamiento
+     */
+    private void RemoveRating(int userID, int itemID) {
+        int slot = ratingsIndex.Find(userID, itemID);
+        if(slot == -1) {
+            return;
+        }
+        InvalidateMatrix();
+        contentHash -= RatingHash(userID, itemID, ratingsIndex.GetValue(slot));
+        int ratingsPosition = ratingsIndex.GetRatingsPosition(slot);
+        int userPosition = ratingsIndex.GetUserPosition(slot);
+        int itemPosition = ratingsIndex.GetItemPosition(slot);
+        ratingsIndex.Remove(userID, itemID);
+
+        //en cada lista ponemos el último Rating en el hueco que deja el eliminado y actualizamos su posición
+        int last = ratings.size() - 1;
+        if(ratingsPosition != last) {
+            Rating moved = ratings.get(last);
+            ratings.set(ratingsPosition, moved);
+            ratingsIndex.SetRatingsPosition(ratingsIndex.Find(moved.GetUserID(), moved.GetItemID()), ratingsPosition);
+        }
+        ratings.remove(last);
+
+        ArrayList<Rating> userList = allRatingsUser.get(userID);
+        last = userList.size() - 1;
+        if(userPosition != last) {
+            Rating moved = userList.get(last);
+            userList.set(userPosition, moved);
+            ratingsIndex.SetUserPosition(ratingsIndex.Find(moved.GetUserID(), moved.GetItemID()), userPosition);
+        }
+        userList.remove(last);
+
+        ArrayList<Rating> itemList = allRatingsItem.get(itemID);
+        last = itemList.size() - 1;
+        if(itemPosition != last) {
+            Rating moved = itemList.get(last);
+            itemList.set(itemPosition, moved);
+            ratingsIndex.SetItemPosition(ratingsIndex.Find(moved.GetUserID(), moved.GetItemID()), itemPosition);
+        }
+        itemList.remove(last);
+    }
+
+    /** \brief Funcion que elimina todos los Rating de un usuario en las diferentes listas
+     * \param int userID Corresponde al ID del usuario que queremos eliminar todos sus Rating
+     * \pre ratings, ratingsIndex, allRatingsItem y allRatingsUser no son null
+     * \pre \a userID corresponde a la ID de un usuario existente
+     * \post Elimina todos los Rating de \a userID de todas las listas de almacenamiento y se guarda en disco una sola vez
+     */
+    public void DeleteRatingsOfUser(int userID){
+
+        try {
+            ArrayList<Rating> temp = GetUserRatings(userID);
+            //borramos desde el final para que RemoveRating no tenga que mover ningún Rating dentro de la lista del usuario
+            for(int i = temp.size() - 1; i >= 0; --i) {
+                RemoveRating(userID, temp.get(i).GetItemID());
+                if(journal != null) {
+                    journal.Append(RatingJournal.DELETE, userID, temp.get(i).GetItemID(), 0.0f);
+                }
+            }
+            if(journal == null) {
+                StoreCSV();
+            }
+            FlushChanges();
+        } catch (NoExistingUserIDException e) {
+            e.printStackTrace();
+        }
+
+    }
+}
@@ -0,0 +1,164 @@
+/** @file IdDictionary.java
+ *  @brief Contiene la clase IdDictionary
+ */
+
+package fxsrc.propyecto.data;
+
+import java.util.Arrays;
+
+/** \class IdDictionary
+ *   \brief Diccionario bidireccional entre los IDs externos (de los CSV) y unos índices internos contiguos 0..Size()-1.
+ *
+ *   Los IDs de usuarios (incluidos los negativos que da DataUser.GetFreeID) y de items no son consecutivos, así que con este diccionario
+ *   los algoritmos pueden usar arrays normales indexados por número de usuario o de item en lugar de HashMap<Integer, ...>.
+ *   Los índices se asignan en orden de llegada y no cambian nunca: si un ID deja de usarse conserva su índice.
+ *   Ni la búsqueda en un sentido ni en el otro crean objetos.
+ */
+public class IdDictionary {
+
+    /** \brief Capacidad inicial de la tabla (potencia de 2)
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** \brief IDs externos guardados en cada posición de la tabla de hash
+     */
+    private int[] keys;
+
+    /** \brief Índice interno del ID guardado en cada posición de la tabla de hash, o -1 si la posición está libre
+     */
+    private int[] slotIndices;
+
+    /** \brief ID externo de cada índice interno
+     */
+    private int[] externalIDs;
+
+    /** \brief Número de IDs del diccionario
+     */
+    private int size;
+
+    /** \brief Constructor por defecto de IdDictionary
+     *
+     * \pre <em>Cierto</em>
+     * \post Se crea un diccionario vacío
+     */
+    public IdDictionary() {
+        Allocate(INITIAL_CAPACITY);
+        externalIDs = new int[INITIAL_CAPACITY];
+    }
+
+    /** \brief Reserva una tabla de hash vacía de capacidad \a capacity
+     *
+     * \param int capacity Corresponde a la nueva capacidad
+     * \pre \a capacity es una potencia de 2
+     * \post La tabla de hash queda vacía (no modifica \a externalIDs ni \a size)
+     */
+    private void Allocate(int capacity) {
+        keys = new int[capacity];
+        slotIndices = new int[capacity];
+        Arrays.fill(slotIndices, -1);
+    }
+
+    /** \brief Devuelve la posición donde se empieza a buscar el ID \a id
+     *
+     * \param int id Corresponde al ID externo
+     * \pre <em>Cierto</em>
+     * \post Devuelve la posición inicial de \a id dentro de la tabla
+     */
+    private int Slot(int id) {
+        int h = id * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & (keys.length - 1);
+    }
+
+    /** \brief Devuelve el índice interno del ID externo \a id
+     *
+     * \param int id Corresponde al ID externo
+     * \pre <em>Cierto</em>
+     * \post Devuelve el índice interno de \a id, o -1 si no está en el diccionario
+     */
+    public int GetIndex(int id) {
+        int mask = keys.length - 1;
+        int i = Slot(id);
+        while(slotIndices[i] != -1) {
+            if(keys[i] == id) {
+                return slotIndices[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** \brief Devuelve el ID externo del índice interno \a index
+     *
+     * \param int index Corresponde al índice interno
+     * \pre 0 <= \a index < Size()
+     * \post Devuelve el ID externo que tiene el índice \a index
+     */
+    public int GetID(int index) {
+        return externalIDs[index];
+    }
+
+    /** \brief Añade el ID externo \a id si no estaba y devuelve su índice interno
+     *
+     * \param int id Corresponde al ID externo
+     * \pre <em>Cierto</em>
+     * \post Si \a id ya estaba se devuelve su índice, si no se le asigna el índice Size() y se devuelve
+     */
+    public int Add(int id) {
+        int mask = keys.length - 1;
+        int i = Slot(id);
+        while(slotIndices[i] != -1) {
+            if(keys[i] == id) {
+                return slotIndices[i];
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = id;
+        slotIndices[i] = size;
+        if(size == externalIDs.length) {
+            externalIDs = Arrays.copyOf(externalIDs, size * 2);
+        }
+        externalIDs[size] = id;
+        ++size;
+        if(size * 2 > keys.length) {
+            Grow();
+        }
+        return size - 1;
+    }
+
+    /** \brief Dobla la capacidad de la tabla de hash
+     *
+     * \pre <em>Cierto</em>
+     * \post La tabla tiene el doble de capacidad y los mismos IDs con los mismos índices
+     */
+    private void Grow() {
+        Allocate(keys.length * 2);
+        int mask = keys.length - 1;
+        for(int index = 0; index < size; ++index) {
+            int i = Slot(externalIDs[index]);
+            while(slotIndices[i] != -1) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = externalIDs[index];
+            slotIndices[i] = index;
+        }
+    }
+
+    /** \brief Devuelve el número de IDs del diccionario
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de IDs del diccionario, que es también el tamaño que deben tener los arrays indexados por índice interno
+     */
+    public int Size() {
+        return size;
+    }
+
+    /** \brief Vacía el diccionario
+     *
+     * \pre <em>Cierto</em>
+     * \post El diccionario queda vacío
+     */
+    public void Clear() {
+        Arrays.fill(slotIndices, -1);
+        size = 0;
+    }
+}
@@ -0,0 +1,287 @@
+/** @file KMeansModelFile.java
+ *  @brief Contiene la clase KMeansModelFile
+ */
+
+package fxsrc.propyecto.data;
+
+import fxsrc.propyecto.domain.Rating;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+
+/** \class KMeansModelFile
+ *   \brief Fichero binario de un modelo de KMeans: centroides y grupos de usuarios.
+ *
+ *   El fichero tiene una cabecera fija (identificador, versión del formato, K, versión del modelo, Rating del entrenamiento y cambios incrementales desde entonces),
+ *   los centroides y los grupos. Cada centroide es su número de items y, para cada item, la diferencia con la ID del item anterior
+ *   como varint zigzag seguida de la nota como float; cada grupo es su número de usuarios y la diferencia entre IDs de usuario consecutivas,
+ *   también como varint zigzag (las IDs de los usuarios creados desde la interfaz son negativas).
+ *   Se escribe en streaming (sin montar todo el fichero en memoria) y se lee con FileChannel.map. El CSV queda solo como formato de exportación.
+ */
+public class KMeansModelFile {
+
+    /** \brief Identificador del formato ("PKMM")
+     */
+    private static final int MAGIC = 0x504B4D4D;
+
+    /** \brief Versión del formato (la 1 guardaba un dataset en lugar de la versión del modelo)
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    /** \brief Fichero del modelo
+     */
+    private File modelFile;
+
+    /** \brief K del modelo leído
+     */
+    private int k;
+
+    /** \brief Versión del modelo leído (huella de los Rating con los que corresponde)
+     */
+    private long version;
+
+    /** \brief Número de Rating con el que se entrenó el modelo leído
+     */
+    private int ratingsAtTraining;
+
+    /** \brief Cambios incrementales del modelo leído desde el entrenamiento
+     */
+    private int changesSinceTraining;
+
+    /** \brief Centroides del modelo leído
+     */
+    private ArrayList<ArrayList<Rating>> centroids;
+
+    /** \brief Grupos de usuarios del modelo leído
+     */
+    private ArrayList<ArrayList<Integer>> kgroups;
+
+    /** \brief Constructor de KMeansModelFile
+     *
+     * \param String path Corresponde al path del fichero del modelo
+     * \pre <em>Cierto</em>
+     * \post Se crea el fichero asociado a \a path (no se lee ni se escribe nada todavía)
+     */
+    public KMeansModelFile(String path) {
+        modelFile = new File(path);
+    }
+
+    /** \brief Lee el modelo del fichero
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve true si el fichero existe y se ha podido leer entero (y a partir de ahora se pueden usar los getters). Devuelve false si no existe o está mal
+     */
+    public boolean Open() {
+        if(!modelFile.exists()) {
+            return false;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(modelFile, "r"); FileChannel channel = file.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if(buffer.remaining() < 28 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return false;
+            }
+            k = buffer.getInt();
+            version = buffer.getLong();
+            ratingsAtTraining = buffer.getInt();
+            changesSinceTraining = buffer.getInt();
+
+            int numberOfCentroids = ReadVarint(buffer);
+            centroids = new ArrayList<>(numberOfCentroids);
+            for(int c = 0; c < numberOfCentroids; ++c) {
+                int size = ReadVarint(buffer);
+                ArrayList<Rating> centroid = new ArrayList<>(size);
+                int itemID = 0;
+                for(int i = 0; i < size; ++i) {
+                    itemID += ZigZagDecode(ReadVarint(buffer));
+                    centroid.add(new Rating(-1, itemID, buffer.getFloat()));
+                }
+                centroids.add(centroid);
+            }
+
+            int numberOfGroups = ReadVarint(buffer);
+            kgroups = new ArrayList<>(numberOfGroups);
+            for(int g = 0; g < numberOfGroups; ++g) {
+                int size = ReadVarint(buffer);
+                ArrayList<Integer> group = new ArrayList<>(size);
+                int userID = 0;
+                for(int i = 0; i < size; ++i) {
+                    userID += ZigZagDecode(ReadVarint(buffer));
+                    group.add(userID);
+                }
+                kgroups.add(group);
+            }
+            return true;
+        }
+        catch (IOException | RuntimeException e) {
+            return false; //fichero incompleto o corrupto: se volverá a entrenar
+        }
+    }
+
+    /** \brief Devuelve la K del modelo leído
+     *
+     * \pre Se ha leído el modelo con Open
+     * \post Devuelve la K
+     */
+    public int GetK() {
+        return k;
+    }
+
+    /** \brief Devuelve la versión del modelo leído
+     *
+     * \pre Se ha leído el modelo con Open
+     * \post Devuelve la huella de los Rating con los que corresponde el modelo
+     */
+    public long GetVersion() {
+        return version;
+    }
+
+    /** \brief Devuelve el número de Rating con el que se entrenó el modelo leído
+     *
+     * \pre Se ha leído el modelo con Open
+     * \post Devuelve el número de Rating del entrenamiento
+     */
+    public int GetRatingsAtTraining() {
+        return ratingsAtTraining;
+    }
+
+    /** \brief Devuelve los cambios incrementales del modelo leído desde el entrenamiento
+     *
+     * \pre Se ha leído el modelo con Open
+     * \post Devuelve el número de cambios
+     */
+    public int GetChangesSinceTraining() {
+        return changesSinceTraining;
+    }
+
+    /** \brief Devuelve los centroides del modelo leído
+     *
+     * \pre Se ha leído el modelo con Open
+     * \post Devuelve los centroides, con los items en el mismo orden con el que se guardaron
+     */
+    public ArrayList<ArrayList<Rating>> GetCentroids() {
+        return centroids;
+    }
+
+    /** \brief Devuelve los grupos de usuarios del modelo leído
+     *
+     * \pre Se ha leído el modelo con Open
+     * \post Devuelve los grupos, con los usuarios en el mismo orden con el que se guardaron
+     */
+    public ArrayList<ArrayList<Integer>> GetKGroups() {
+        return kgroups;
+    }
+
+    /** \brief Escribe el modelo en el fichero
+     *
+     * \param int k Corresponde a la K del modelo
+     * \param long version Corresponde a la versión del modelo
+     * \param int ratingsAtTraining Corresponde al número de Rating del entrenamiento
+     * \param int changesSinceTraining Corresponde a los cambios incrementales desde el entrenamiento
+     * \param ArrayList<ArrayList<Rating>> centroids Corresponde a los centroides
+     * \param ArrayList<ArrayList<Integer>> kgroups Corresponde a los grupos de usuarios
+     * \pre <em>Cierto</em>
+     * \post Se escribe el modelo (primero en un fichero temporal que después lo sustituye). Devuelve false si no se ha podido escribir
+     */
+    public boolean Store(int k, long version, int ratingsAtTraining, int changesSinceTraining, ArrayList<ArrayList<Rating>> centroids, ArrayList<ArrayList<Integer>> kgroups) {
+        File tempFile = new File(modelFile.getPath() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(k);
+                out.writeLong(version);
+                out.writeInt(ratingsAtTraining);
+                out.writeInt(changesSinceTraining);
+
+                WriteVarint(out, centroids.size());
+                for(ArrayList<Rating> centroid : centroids) {
+                    WriteVarint(out, centroid.size());
+                    int previous = 0;
+                    for(Rating rating : centroid) {
+                        WriteVarint(out, ZigZagEncode(rating.GetItemID() - previous));
+                        out.writeFloat(rating.GetRating());
+                        previous = rating.GetItemID();
+                    }
+                }
+
+                WriteVarint(out, kgroups.size());
+                for(ArrayList<Integer> group : kgroups) {
+                    WriteVarint(out, group.size());
+                    int previous = 0;
+                    for(int userID : group) {
+                        WriteVarint(out, ZigZagEncode(userID - previous));
+                        previous = userID;
+                    }
+                }
+            }
+            Files.move(tempFile.toPath(), modelFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        }
+        catch (IOException | RuntimeException e) {
+            tempFile.delete();
+            return false;
+        }
+    }
+
+    /** \brief Escribe un entero sin signo como varint (7 bits por byte, el bit alto indica que sigue otro byte)
+     *
+     * \param DataOutputStream out Corresponde a la salida
+     * \param int value Corresponde al valor (se trata como entero sin signo)
+     * \pre <em>Cierto</em>
+     * \post Se escriben entre 1 y 5 bytes
+     */
+    private static void WriteVarint(DataOutputStream out, int value) throws IOException {
+        while((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /** \brief Lee un varint escrito con WriteVarint
+     *
+     * \param MappedByteBuffer buffer Corresponde al fichero mapeado
+     * \pre En la posición actual de \a buffer empieza un varint
+     * \post Devuelve el valor y \a buffer queda justo después
+     */
+    private static int ReadVarint(MappedByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while((b & 0x80) != 0);
+        return value;
+    }
+
+    /** \brief Codifica un entero con signo para que los valores pequeños (positivos o negativos) ocupen pocos bytes como varint
+     *
+     * \param int value Corresponde al valor
+     * \pre <em>Cierto</em>
+     * \post Devuelve 0, -1, 1, -2, 2... como 0, 1, 2, 3, 4...
+     */
+    private static int ZigZagEncode(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /** \brief Deshace ZigZagEncode
+     *
+     * \param int value Corresponde al valor codificado
+     * \pre <em>Cierto</em>
+     * \post Devuelve el valor original
+     */
+    private static int ZigZagDecode(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,249 @@
+/** @file KMeansRegistry.java
+ *  @brief Contiene la clase KMeansRegistry
+ */
+
+package fxsrc.propyecto.data;
+
+import fxsrc.propyecto.domain.Rating;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** \class KMeansRegistry
+ *   \brief Catálogo de los modelos de KMeans entrenados, uno por cada K.
+ *
+ *   Cada modelo se guarda en su propio fichero binario (res/algorithm/kmeans_<k>.bin) y el catálogo (res/algorithm/catalog.csv) apunta,
+ *   para cada K, a su fichero. Si un modelo aún es correcto lo dice su versión (la huella de los Rating con los que se entrenó), así que al
+ *   cambiar los Rating no hay que marcar nada: el modelo que no se ha actualizado deja de coincidir solo. Los modelos usados más recientemente se quedan en memoria, hasta
+ *   \a maxModelsInMemory; al sacar uno de memoria se guardan sus cambios. Así, quien usa una K no echa el modelo de quien usa otra.
+ */
+public class KMeansRegistry extends Data<KMeansRegistry.ModelEntry> {
+
+    /** \brief Número de modelos que se quedan en memoria por defecto
+     */
+    public static final int DEFAULT_MAX_MODELS_IN_MEMORY = 4;
+
+    /** \brief Fichero del catálogo
+     */
+    private static final String CATALOG_PATH = "res/algorithm/catalog.csv";
+
+    /** \class ModelEntry
+     *  \brief Entrada del catálogo: K del modelo y su fichero
+     */
+    static class ModelEntry {
+        int k;
+        String path;
+    }
+
+    /** \brief Entradas del catálogo, en el orden en que se guardan
+     */
+    private ArrayList<ModelEntry> catalog;
+
+    /** \brief Entradas del catálogo por K
+     */
+    private HashMap<Integer, ModelEntry> entries;
+
+    /** \brief Modelos en memoria por K, del usado hace más tiempo al más reciente
+     */
+    private LinkedHashMap<Integer, DataAlgorithm> loaded;
+
+    /** \brief Número máximo de modelos en memoria
+     */
+    private int maxModelsInMemory;
+
+    /** \brief Indica si ya se ha leído el catálogo del disco
+     */
+    private boolean catalogLoaded;
+
+    /** \brief Función para inicializar el catálogo
+     *
+     * \pre <em>Cierto</em>
+     * \post El catálogo y los modelos en memoria quedan vacíos; el catálogo se leerá del disco la primera vez que se use
+     */
+    @Override
+    public void Init() {
+        catalog = new ArrayList<>();
+        entries = new HashMap<>();
+        maxModelsInMemory = DEFAULT_MAX_MODELS_IN_MEMORY;
+        loaded = new LinkedHashMap<Integer, DataAlgorithm>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, DataAlgorithm> eldest) {
+                if(size() <= maxModelsInMemory) {
+                    return false;
+                }
+                eldest.getValue().Flush();
+                return true;
+            }
+        };
+        filePath = CATALOG_PATH;
+        attributesNames = "k,file";
+        catalogLoaded = false;
+    }
+
+    /** \brief Función para resetear el catálogo
+     *
+     * \pre <em>Cierto</em>
+     * \post Se vacían las entradas del catálogo (los modelos en memoria no se tocan)
+     */
+    @Override
+    public void ClearData() {
+        catalog.clear();
+        entries.clear();
+    }
+
+    /** \brief Parsea una linea CSV a entrada del catálogo
+     * \param String[] attributesNames Corresponde al nombre de los atributos
+     * \param String lineRead Corresponde a la linea CSV de la entrada
+     * \pre \a lineRead tiene el formato k,file
+     * \post Se parsea la entrada y se devuelve sin añadirla al catálogo
+     */
+    @Override
+    protected ModelEntry ParseData(String[] attributesNames, String lineRead) {
+        String[] fields = lineRead.split(",");
+        ModelEntry entry = new ModelEntry();
+        entry.k = Integer.parseInt(fields[0]);
+        entry.path = fields[1];
+        return entry;
+    }
+
+    /** \brief Añade una entrada ya parseada al catálogo
+     * \param ModelEntry entry Corresponde a la entrada
+     * \pre <em>Cierto</em>
+     * \post Se añade \a entry al catálogo (si ya había una con la misma K, la sustituye)
+     */
+    @Override
+    protected void AddParsedData(ModelEntry entry) {
+        ModelEntry old = entries.put(entry.k, entry);
+        if(old != null) {
+            catalog.remove(old);
+        }
+        catalog.add(entry);
+    }
+
+    /** \brief Funcion que devuelve si hay una línea más por guardar
+     * \pre <em>Cierto</em>
+     * \post Devuelve si hay alguna línea más por guardar
+     */
+    @Override
+    protected boolean HasNextLine() {
+        return currentLine < catalog.size();
+    }
+
+    /** \brief Funcion que devuelve la siguiente línea a guardar
+     * \pre <em>Cierto</em>
+     * \post Devuelve la siguiente línea a guardar
+     */
+    @Override
+    protected String GetNextLine() {
+        ModelEntry entry = catalog.get(currentLine);
+        currentLine++;
+        return "" + entry.k + "," + entry.path;
+    }
+
+    /** \brief Asigna el número máximo de modelos en memoria
+     *
+     * \param int maxModels Corresponde al número máximo de modelos
+     * \pre \a maxModels > 0
+     * \post Se quedan en memoria como mucho \a maxModels modelos: si ahora hay más, se sacan (guardando sus cambios) los usados hace más tiempo
+     */
+    public void SetMaxModelsInMemory(int maxModels) {
+        maxModelsInMemory = maxModels;
+        Iterator<DataAlgorithm> eldest = loaded.values().iterator();
+        while(loaded.size() > maxModelsInMemory) {
+            eldest.next().Flush();
+            eldest.remove();
+        }
+    }
+
+    /** \brief Devuelve el modelo de una K
+     *
+     * \param int k Corresponde a la K del modelo
+     * \pre <em>Cierto</em>
+     * \post Devuelve el modelo (cargándolo en memoria si hace falta, y echando al usado hace más tiempo si ya hay \a maxModelsInMemory).
+     * Si no hay ninguno guardado el modelo devuelto está vacío; si lo hay, hay que comprobar su versión antes de usarlo
+     */
+    public DataAlgorithm GetModel(int k) {
+        LoadCatalog();
+        DataAlgorithm model = loaded.get(k);
+        if(model == null) {
+            ModelEntry entry = entries.get(k);
+            model = new DataAlgorithm(entry != null ? entry.path : ModelPath(k));
+            loaded.put(k, model);
+        }
+        return model;
+    }
+
+    /** \brief Guarda un modelo recién entrenado
+     *
+     * \param int k Corresponde a la K del modelo
+     * \param long version Corresponde a la huella de los Rating con los que se ha entrenado
+     * \param ClusterAssignment kgroups Corresponde a los grupos del modelo y al grupo de cada usuario
+     * \param ArrayList<ArrayList<Rating>> centroids Corresponde a los centroides del modelo
+     * \param int ratingsAtTraining Corresponde al número de Rating con el que se ha entrenado
+     * \pre <em>Cierto</em>
+     * \post El modelo sustituye al que hubiera de la misma K, se guarda en su fichero y queda en memoria como el usado más recientemente.
+     * Si la K no estaba en el catálogo, se añade
+     */
+    public DataAlgorithm SetModel(int k, long version, ClusterAssignment kgroups, ArrayList<ArrayList<Rating>> centroids, int ratingsAtTraining) {
+        DataAlgorithm model = GetModel(k);
+        model.SetRatingsAtTraining(ratingsAtTraining);
+        model.SetKGroups(k, version, kgroups, centroids);
+        if(!entries.containsKey(k)) {
+            ModelEntry entry = new ModelEntry();
+            entry.k = k;
+            entry.path = model.GetFilePath();
+            AddParsedData(entry);
+            StoreCSV();
+        }
+        return model;
+    }
+
+    /** \brief Devuelve los modelos que hay en memoria
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve una copia de la lista de modelos en memoria, del usado hace más tiempo al más reciente
+     */
+    public ArrayList<DataAlgorithm> GetLoadedModels() {
+        return new ArrayList<>(loaded.values());
+    }
+
+    /** \brief Indica si un modelo sigue en memoria
+     *
+     * \param DataAlgorithm model Corresponde al modelo
+     * \pre <em>Cierto</em>
+     * \post Devuelve si \a model es uno de los modelos en memoria
+     */
+    public boolean IsLoaded(DataAlgorithm model) {
+        return loaded.containsValue(model);
+    }
+
+    /** \brief Lee el catálogo del disco la primera vez que se usa
+     *
+     * \pre <em>Cierto</em>
+     * \post Se cargan las entradas de catalog.csv, si existe
+     */
+    private void LoadCatalog() {
+        if(catalogLoaded) {
+            return;
+        }
+        catalogLoaded = true;
+        if(new File(CATALOG_PATH).exists()) {
+            LoadCSV(CATALOG_PATH);
+            attributesNames = "k,file";
+        }
+    }
+
+    /** \brief Devuelve el fichero de un modelo nuevo
+     *
+     * \param int k Corresponde a la K del modelo
+     * \pre <em>Cierto</em>
+     * \post Devuelve el path del fichero del modelo
+     */
+    private static String ModelPath(int k) {
+        return "res/algorithm/kmeans_" + k + ".bin";
+    }
+}
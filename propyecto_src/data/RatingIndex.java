@@ -0,0 +1,362 @@
+/** @file RatingIndex.java
+ *  @brief Contiene la clase RatingIndex
+ */
+
+package fxsrc.propyecto.data;
+
+import java.util.Arrays;
+
+/** \class RatingIndex
+ *   \brief Tabla de hash de direccionamiento abierto que guarda el valor de cada Rating a partir del par (usuario, item).
+ *
+ *   La clave es un long que junta el ID del usuario (32 bits altos) y el ID del item (32 bits bajos), y el valor se guarda en un array de float paralelo.
+ *   Usa sondeo lineal y borrado con desplazamiento hacia atrás, así que ni las búsquedas, ni las inserciones, ni los borrados crean objetos
+ *   (solo se reserva memoria cuando la tabla tiene que crecer).
+ *   Para cada Rating también guarda en qué posición está dentro de las listas de DataRating (la global, la de su usuario y la de su item),
+ *   de forma que DataRating puede eliminarlo en tiempo constante.
+ */
+public class RatingIndex {
+
+    /** \brief Capacidad inicial de la tabla (potencia de 2)
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** \brief Factor de carga máximo antes de doblar la tabla
+     */
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /** \brief Claves (usuario, item) empaquetadas de cada posición
+     */
+    private long[] keys;
+
+    /** \brief Valor del Rating de cada posición
+     */
+    private float[] values;
+
+    /** \brief Indica si cada posición está ocupada
+     */
+    private boolean[] used;
+
+    /** \brief Posición de cada Rating dentro de la lista con todos los Rating
+     */
+    private int[] ratingsPositions;
+
+    /** \brief Posición de cada Rating dentro de la lista de Rating de su usuario
+     */
+    private int[] userPositions;
+
+    /** \brief Posición de cada Rating dentro de la lista de Rating de su item
+     */
+    private int[] itemPositions;
+
+    /** \brief Número de Rating guardados
+     */
+    private int size;
+
+    /** \brief Número de Rating a partir del cual se dobla la tabla
+     */
+    private int threshold;
+
+    /** \brief Constructor por defecto de RatingIndex
+     *
+     * \pre <em>Cierto</em>
+     * \post Se crea una tabla vacía con la capacidad inicial
+     */
+    public RatingIndex() {
+        Allocate(INITIAL_CAPACITY);
+    }
+
+    /** \brief Reserva sitio para \a numberOfRatings Rating
+     *
+     * \param int numberOfRatings Corresponde al número de Rating que se van a guardar
+     * \pre La tabla está vacía
+     * \post La tabla tiene capacidad para \a numberOfRatings Rating sin tener que doblarse
+     */
+    public void Reserve(int numberOfRatings) {
+        int capacity = keys.length;
+        while(numberOfRatings > (int) (capacity * LOAD_FACTOR)) {
+            capacity *= 2;
+        }
+        if(capacity != keys.length) {
+            Allocate(capacity);
+        }
+    }
+
+    /** \brief Empaqueta el par (usuario, item) en una sola clave
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \param int itemID Corresponde a la ID del item
+     * \pre <em>Cierto</em>
+     * \post Devuelve la clave con \a userID en los 32 bits altos y \a itemID en los 32 bits bajos
+     */
+    public static long Key(int userID, int itemID) {
+        return ((long) userID << 32) | (itemID & 0xffffffffL);
+    }
+
+    /** \brief Devuelve la posición donde se empieza a buscar la clave \a key
+     *
+     * \param long key Corresponde a la clave empaquetada
+     * \pre <em>Cierto</em>
+     * \post Devuelve la posición inicial de \a key dentro de la tabla
+     */
+    private int Slot(long key) {
+        //mezclamos los bits (finalizador de MurmurHash3) para que IDs consecutivos no caigan en posiciones consecutivas
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & (keys.length - 1);
+    }
+
+    /** \brief Reserva una tabla vacía de capacidad \a capacity
+     *
+     * \param int capacity Corresponde a la nueva capacidad
+     * \pre \a capacity es una potencia de 2
+     * \post La tabla queda vacía y con capacidad \a capacity
+     */
+    private void Allocate(int capacity) {
+        keys = new long[capacity];
+        values = new float[capacity];
+        used = new boolean[capacity];
+        ratingsPositions = new int[capacity];
+        userPositions = new int[capacity];
+        itemPositions = new int[capacity];
+        threshold = (int) (capacity * LOAD_FACTOR);
+        size = 0;
+    }
+
+    /** \brief Devuelve la posición de la tabla donde está el Rating del usuario \a userID al item \a itemID
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \param int itemID Corresponde a la ID del item
+     * \pre <em>Cierto</em>
+     * \post Devuelve la posición del Rating, o -1 si no existe
+     */
+    public int Find(int userID, int itemID) {
+        long key = Key(userID, itemID);
+        int mask = keys.length - 1;
+        int i = Slot(key);
+        while(used[i]) {
+            if(keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /** \brief Devuelve el valor guardado en la posición \a slot
+     *
+     * \param int slot Corresponde a una posición devuelta por Find
+     * \pre \a slot es una posición ocupada
+     * \post Devuelve el valor del Rating guardado en \a slot
+     */
+    public float GetValue(int slot) {
+        return values[slot];
+    }
+
+    /** \brief Devuelve la posición del Rating guardado en \a slot dentro de la lista con todos los Rating
+     *
+     * \param int slot Corresponde a una posición devuelta por Find o Put
+     * \pre \a slot es una posición ocupada
+     * \post Devuelve la posición guardada
+     */
+    public int GetRatingsPosition(int slot) {
+        return ratingsPositions[slot];
+    }
+
+    /** \brief Devuelve la posición del Rating guardado en \a slot dentro de la lista de Rating de su usuario
+     *
+     * \param int slot Corresponde a una posición devuelta por Find o Put
+     * \pre \a slot es una posición ocupada
+     * \post Devuelve la posición guardada
+     */
+    public int GetUserPosition(int slot) {
+        return userPositions[slot];
+    }
+
+    /** \brief Devuelve la posición del Rating guardado en \a slot dentro de la lista de Rating de su item
+     *
+     * \param int slot Corresponde a una posición devuelta por Find o Put
+     * \pre \a slot es una posición ocupada
+     * \post Devuelve la posición guardada
+     */
+    public int GetItemPosition(int slot) {
+        return itemPositions[slot];
+    }
+
+    /** \brief Asigna las posiciones del Rating guardado en \a slot dentro de las listas de DataRating
+     *
+     * \param int slot Corresponde a una posición devuelta por Find o Put
+     * \param int ratingsPosition Corresponde a la posición en la lista con todos los Rating
+     * \param int userPosition Corresponde a la posición en la lista de Rating de su usuario
+     * \param int itemPosition Corresponde a la posición en la lista de Rating de su item
+     * \pre \a slot es una posición ocupada
+     * \post Se guardan las tres posiciones
+     */
+    public void SetPositions(int slot, int ratingsPosition, int userPosition, int itemPosition) {
+        ratingsPositions[slot] = ratingsPosition;
+        userPositions[slot] = userPosition;
+        itemPositions[slot] = itemPosition;
+    }
+
+    /** \brief Asigna la posición del Rating guardado en \a slot dentro de la lista con todos los Rating
+     *
+     * \param int slot Corresponde a una posición devuelta por Find o Put
+     * \param int position Corresponde a la nueva posición
+     * \pre \a slot es una posición ocupada
+     * \post Se guarda la posición
+     */
+    public void SetRatingsPosition(int slot, int position) {
+        ratingsPositions[slot] = position;
+    }
+
+    /** \brief Asigna la posición del Rating guardado en \a slot dentro de la lista de Rating de su usuario
+     *
+     * \param int slot Corresponde a una posición devuelta por Find o Put
+     * \param int position Corresponde a la nueva posición
+     * \pre \a slot es una posición ocupada
+     * \post Se guarda la posición
+     */
+    public void SetUserPosition(int slot, int position) {
+        userPositions[slot] = position;
+    }
+
+    /** \brief Asigna la posición del Rating guardado en \a slot dentro de la lista de Rating de su item
+     *
+     * \param int slot Corresponde a una posición devuelta por Find o Put
+     * \param int position Corresponde a la nueva posición
+     * \pre \a slot es una posición ocupada
+     * \post Se guarda la posición
+     */
+    public void SetItemPosition(int slot, int position) {
+        itemPositions[slot] = position;
+    }
+
+    /** \brief Indica si existe el Rating del usuario \a userID al item \a itemID
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \param int itemID Corresponde a la ID del item
+     * \pre <em>Cierto</em>
+     * \post Devuelve true si el Rating existe
+     */
+    public boolean Contains(int userID, int itemID) {
+        return Find(userID, itemID) != -1;
+    }
+
+    /** \brief Guarda el valor \a value para el Rating del usuario \a userID al item \a itemID
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \param int itemID Corresponde a la ID del item
+     * \param float value Corresponde al valor del Rating
+     * \pre <em>Cierto</em>
+     * \post Si el Rating ya existía se sustituye su valor, y si no se añade (con las posiciones a 0). Devuelve la posición de la tabla donde queda guardado
+     */
+    public int Put(int userID, int itemID, float value) {
+        long key = Key(userID, itemID);
+        int mask = keys.length - 1;
+        int i = Slot(key);
+        while(used[i]) {
+            if(keys[i] == key) {
+                values[i] = value;
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        used[i] = true;
+        keys[i] = key;
+        values[i] = value;
+        ratingsPositions[i] = 0;
+        userPositions[i] = 0;
+        itemPositions[i] = 0;
+        if(++size > threshold) {
+            Grow();
+            return Find(userID, itemID);
+        }
+        return i;
+    }
+
+    /** \brief Elimina el Rating del usuario \a userID al item \a itemID
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \param int itemID Corresponde a la ID del item
+     * \pre <em>Cierto</em>
+     * \post Si el Rating existía se elimina y se devuelve true, si no se devuelve false
+     */
+    public boolean Remove(int userID, int itemID) {
+        int i = Find(userID, itemID);
+        if(i == -1) {
+            return false;
+        }
+        //desplazamos hacia atrás las claves que siguen en la misma secuencia para no dejar huecos en la búsqueda
+        int mask = keys.length - 1;
+        int j = (i + 1) & mask;
+        while(used[j]) {
+            int home = Slot(keys[j]);
+            //la clave de j se puede mover a i si su posición inicial no está entre i (exclusivo) y j (inclusivo)
+            if(((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                ratingsPositions[i] = ratingsPositions[j];
+                userPositions[i] = userPositions[j];
+                itemPositions[i] = itemPositions[j];
+                i = j;
+            }
+            j = (j + 1) & mask;
+        }
+        used[i] = false;
+        --size;
+        return true;
+    }
+
+    /** \brief Dobla la capacidad de la tabla y vuelve a colocar todas las claves
+     *
+     * \pre <em>Cierto</em>
+     * \post La tabla tiene el doble de capacidad y los mismos Rating
+     */
+    private void Grow() {
+        long[] oldKeys = keys;
+        float[] oldValues = values;
+        boolean[] oldUsed = used;
+        int[] oldRatingsPositions = ratingsPositions;
+        int[] oldUserPositions = userPositions;
+        int[] oldItemPositions = itemPositions;
+        Allocate(oldKeys.length * 2);
+        int mask = keys.length - 1;
+        for(int k = 0; k < oldKeys.length; ++k) {
+            if(oldUsed[k]) {
+                int i = Slot(oldKeys[k]);
+                while(used[i]) {
+                    i = (i + 1) & mask;
+                }
+                used[i] = true;
+                keys[i] = oldKeys[k];
+                values[i] = oldValues[k];
+                ratingsPositions[i] = oldRatingsPositions[k];
+                userPositions[i] = oldUserPositions[k];
+                itemPositions[i] = oldItemPositions[k];
+                ++size;
+            }
+        }
+    }
+
+    /** \brief Devuelve el número de Rating guardados
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de Rating guardados
+     */
+    public int Size() {
+        return size;
+    }
+
+    /** \brief Vacía la tabla
+     *
+     * \pre <em>Cierto</em>
+     * \post La tabla queda vacía, manteniendo su capacidad
+     */
+    public void Clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+}
@@ -0,0 +1,252 @@
+/** @file RatingJournal.java
+ *  @brief Contiene la clase RatingJournal
+ */
+
+package fxsrc.propyecto.data;
+
+import fxsrc.propyecto.domain.ParserCSV;
+import fxsrc.propyecto.domain.Rating;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/** \class RatingJournal
+ *   \brief Diario de solo añadir con los cambios (añadir, modificar y eliminar) hechos sobre un fichero CSV de Rating.
+ *
+ *   En lugar de reescribir todo el CSV en cada cambio, DataRating escribe una línea en \a path.journal. Al cargar, DataRating vuelve a aplicar
+ *   el diario sobre el CSV. Cuando el diario pasa de \a COMPACTION_THRESHOLD líneas se compacta: se renombra a \a path.journal.old, se empieza
+ *   un diario nuevo y en un hilo aparte se escribe el CSV completo (primero en un fichero temporal que luego sustituye al CSV) y se borra el diario viejo.
+ *   Aplicar una línea es idempotente (una alta o modificación deja el valor, una baja lo elimina), así que si el programa se cierra a medio compactar
+ *   basta con aplicar \a path.journal.old y después \a path.journal sobre el CSV que haya.
+ */
+public class RatingJournal {
+
+    /** \brief Número de líneas del diario a partir del cual se compacta
+     */
+    public static final int COMPACTION_THRESHOLD = 1000;
+
+    /** \brief Tipo de línea: se añade un Rating
+     */
+    public static final char ADD = 'A';
+
+    /** \brief Tipo de línea: se modifica un Rating
+     */
+    public static final char MODIFY = 'M';
+
+    /** \brief Tipo de línea: se elimina un Rating
+     */
+    public static final char DELETE = 'D';
+
+    /** \brief Hilo donde se hacen las compactaciones (una detrás de otra)
+     */
+    private static final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "RatingJournal-compactor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** \brief Path del CSV al que pertenece el diario
+     */
+    private String basePath;
+
+    /** \brief Fichero del diario actual
+     */
+    private File journalFile;
+
+    /** \brief Fichero del diario que se está compactando
+     */
+    private File oldJournalFile;
+
+    /** \brief Writer abierto sobre el diario actual (null si aún no se ha escrito nada)
+     */
+    private BufferedWriter writer;
+
+    /** \brief Número de líneas del diario actual
+     */
+    private int records;
+
+    /** \brief Indica si hay una compactación en marcha
+     */
+    private volatile boolean compacting;
+
+    /** \brief Constructor de RatingJournal
+     *
+     * \param String basePath Corresponde al path del CSV de Rating
+     * \pre <em>Cierto</em>
+     * \post Se crea el diario de \a basePath (los ficheros no se tocan hasta que se aplica o se escribe)
+     */
+    public RatingJournal(String basePath) {
+        this.basePath = basePath;
+        journalFile = new File(basePath + ".journal");
+        oldJournalFile = new File(basePath + ".journal.old");
+    }
+
+    /** \brief Aplica sobre \a data todas las líneas del diario (primero las del diario viejo si existe)
+     *
+     * \param DataRating data Corresponde al DataRating ya cargado desde el CSV
+     * \pre \a data contiene los Rating del CSV de \a basePath
+     * \post Se han aplicado todos los cambios guardados en el diario y se sabe cuantas líneas tiene el diario actual
+     */
+    public void Replay(DataRating data) {
+        Replay(oldJournalFile, data);
+        records = Replay(journalFile, data);
+    }
+
+    /** \brief Aplica sobre \a data todas las líneas del fichero \a file
+     *
+     * \param File file Corresponde al fichero de diario
+     * \param DataRating data Corresponde al DataRating sobre el que se aplican
+     * \pre <em>Cierto</em>
+     * \post Se han aplicado las líneas válidas de \a file (si una línea está incompleta, por ejemplo por un cierre a medio escribir, se ignora) y se devuelve cuantas había
+     */
+    private int Replay(File file, DataRating data) {
+        int count = 0;
+        try {
+            Scanner reader = new Scanner(file);
+            while(reader.hasNextLine()) {
+                String[] parts = reader.nextLine().split(",");
+                ++count;
+                try {
+                    char op = parts[0].charAt(0);
+                    int userID = Integer.parseInt(parts[1]);
+                    int itemID = Integer.parseInt(parts[2]);
+                    if(op == DELETE) {
+                        data.ApplyJournalDelete(userID, itemID);
+                    }
+                    else if(op == ADD || op == MODIFY) {
+                        data.ApplyJournalAdd(userID, itemID, Float.parseFloat(parts[3]));
+                    }
+                }
+                catch (RuntimeException e) {
+                    System.out.println("Línea del diario de " + basePath + " no válida, se ignora");
+                }
+            }
+            reader.close();
+        }
+        catch (FileNotFoundException e) {
+            //no hay diario: no hay cambios pendientes
+        }
+        return count;
+    }
+
+    /** \brief Añade una línea al diario
+     *
+     * \param char op Corresponde al tipo de cambio (ADD, MODIFY o DELETE)
+     * \param int userID Corresponde a la ID del usuario del Rating
+     * \param int itemID Corresponde a la ID del item del Rating
+     * \param float rating Corresponde al valor del Rating (no se usa en DELETE)
+     * \pre <em>Cierto</em>
+     * \post La línea queda añadida al diario (se escribe en el fichero al llamar a Flush)
+     */
+    public void Append(char op, int userID, int itemID, float rating) {
+        try {
+            if(writer == null) {
+                writer = new BufferedWriter(new FileWriter(journalFile, true));
+            }
+            writer.write(op);
+            writer.write(",");
+            writer.write(Integer.toString(userID));
+            writer.write(",");
+            writer.write(Integer.toString(itemID));
+            if(op != DELETE) {
+                writer.write(",");
+                writer.write(Float.toString(rating));
+            }
+            writer.newLine();
+            ++records;
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /** \brief Escribe en el fichero las líneas añadidas al diario
+     *
+     * \pre <em>Cierto</em>
+     * \post Todas las líneas añadidas con Append están en el fichero del diario
+     */
+    public void Flush() {
+        try {
+            if(writer != null) {
+                writer.flush();
+            }
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /** \brief Indica si hay que compactar el diario
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve true si el diario pasa del límite de líneas y no hay ya una compactación en marcha
+     */
+    public boolean NeedsCompaction() {
+        return records >= COMPACTION_THRESHOLD && !compacting;
+    }
+
+    /** \brief Empieza un diario nuevo y escribe en segundo plano el CSV completo a partir de \a snapshot
+     *
+     * \param String header Corresponde a la cabecera del CSV
+     * \param String[] attributesNames Corresponde a los nombres de las columnas del CSV
+     * \param ArrayList<Rating> snapshot Corresponde a una copia de la lista con todos los Rating
+     * \pre \a snapshot refleja todos los cambios escritos en el diario actual y no se modificará después
+     * \post El diario actual pasa a ser el viejo y se empieza uno vacío; en segundo plano se sustituye el CSV y se borra el diario viejo
+     */
+    public void Compact(String header, String[] attributesNames, ArrayList<Rating> snapshot) {
+        try {
+            if(writer != null) {
+                writer.close();
+                writer = null;
+            }
+            if(oldJournalFile.exists()) {
+                //diario viejo de una compactación que no acabó: le añadimos el actual para que siga el orden de los cambios
+                if(journalFile.exists()) {
+                    Files.write(oldJournalFile.toPath(), Files.readAllBytes(journalFile.toPath()), StandardOpenOption.APPEND);
+                    journalFile.delete();
+                }
+            }
+            else if(journalFile.exists() && !journalFile.renameTo(oldJournalFile)) {
+                return; //no podemos rotar el diario: lo intentaremos más adelante
+            }
+            records = 0;
+            compacting = true;
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        compactor.submit(() -> {
+            File tempFile = new File(basePath + ".tmp");
+            try {
+                BufferedWriter bw = new BufferedWriter(new FileWriter(tempFile, false));
+                bw.write(header);
+                bw.newLine();
+                for(Rating rating : snapshot) {
+                    bw.write(ParserCSV.GetInstance().ParseRatingToCSV(attributesNames, rating));
+                    bw.newLine();
+                }
+                bw.close();
+                Files.move(tempFile.toPath(), new File(basePath).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                oldJournalFile.delete();
+            }
+            catch (IOException e) {
+                e.printStackTrace();
+            }
+            finally {
+                compacting = false;
+            }
+        });
+    }
+}
@@ -0,0 +1,340 @@
+/** @file RatingMatrix.java
+ *  @brief Contiene la clase RatingMatrix
+ */
+
+package fxsrc.propyecto.data;
+
+import java.util.Arrays;
+
+/** \class RatingMatrix
+ *   \brief Matriz dispersa de valoraciones guardada con arrays primitivos, por filas (CSR, una fila por usuario) y por columnas (CSC, una columna por item).
+ *
+ *   Se construye a partir de un DataRating y no se modifica: si cambian los Rating, DataRating construye una nueva.
+ *   Las filas están ordenadas por ID de usuario y las columnas por ID de item. Dentro de cada fila los items están ordenados de forma creciente por su ID,
+ *   y dentro de cada columna los usuarios también, de forma que se pueden recorrer las valoraciones de un usuario o de un item sin crear ningún objeto.
+ *   Los arrays que devuelven los getters son los internos y se deben usar solo para lectura.
+ */
+public class RatingMatrix {
+
+    /** \brief ID del usuario de cada fila (ordenados crecientemente)
+     */
+    private int[] userIDs;
+
+    /** \brief Posición donde empieza cada fila dentro de los arrays \a rowItemIDs, \a rowColumns y \a rowValues. Tiene tamaño número de filas + 1
+     */
+    private int[] rowPointers;
+
+    /** \brief ID del item de cada valoración, agrupadas por fila
+     */
+    private int[] rowItemIDs;
+
+    /** \brief Columna del item de cada valoración, agrupadas por fila
+     */
+    private int[] rowColumns;
+
+    /** \brief Valor de cada valoración, agrupadas por fila
+     */
+    private float[] rowValues;
+
+    /** \brief ID del item de cada columna (ordenados crecientemente)
+     */
+    private int[] itemIDs;
+
+    /** \brief Posición donde empieza cada columna dentro de los arrays \a columnUserIDs, \a columnRows y \a columnValues. Tiene tamaño número de columnas + 1
+     */
+    private int[] columnPointers;
+
+    /** \brief ID del usuario de cada valoración, agrupadas por columna
+     */
+    private int[] columnUserIDs;
+
+    /** \brief Fila del usuario de cada valoración, agrupadas por columna
+     */
+    private int[] columnRows;
+
+    /** \brief Valor de cada valoración, agrupadas por columna
+     */
+    private float[] columnValues;
+
+    /** \brief Constructor de RatingMatrix a partir de las valoraciones en formato coordenada
+     *
+     * \param int[] users Corresponde al ID del usuario de cada valoración
+     * \param int[] items Corresponde al ID del item de cada valoración
+     * \param float[] values Corresponde al valor de cada valoración
+     * \param int size Corresponde al número de valoraciones válidas dentro de los tres arrays
+     * \pre Los tres arrays tienen como mínimo \a size posiciones
+     * \post Se crea la matriz con las dos representaciones (por filas y por columnas) de las \a size valoraciones
+     */
+    public RatingMatrix(int[] users, int[] items, float[] values, int size) {
+        userIDs = SortedUnique(users, size);
+        itemIDs = SortedUnique(items, size);
+
+        int[] rows = new int[size];
+        int[] columns = new int[size];
+        for(int i = 0; i < size; ++i) {
+            rows[i] = Arrays.binarySearch(userIDs, users[i]);
+            columns[i] = Arrays.binarySearch(itemIDs, items[i]);
+        }
+
+        //ordenamos por fila (counting sort estable) para que dentro de cada columna los usuarios queden ordenados
+        int[] byRow = new int[size];
+        int[] next = Pointers(rows, size, userIDs.length);
+        for(int i = 0; i < size; ++i) {
+            byRow[next[rows[i]]++] = i;
+        }
+
+        columnPointers = Pointers(columns, size, itemIDs.length);
+        columnUserIDs = new int[size];
+        columnRows = new int[size];
+        columnValues = new float[size];
+        int[] columnOrder = new int[size];
+        next = Arrays.copyOf(columnPointers, columnPointers.length);
+        for(int i = 0; i < size; ++i) {
+            int rating = byRow[i];
+            int pos = next[columns[rating]]++;
+            columnUserIDs[pos] = users[rating];
+            columnRows[pos] = rows[rating];
+            columnValues[pos] = values[rating];
+            columnOrder[pos] = rating;
+        }
+
+        //recorriendo por columnas, dentro de cada fila los items quedan ordenados
+        rowPointers = Pointers(rows, size, userIDs.length);
+        rowItemIDs = new int[size];
+        rowColumns = new int[size];
+        rowValues = new float[size];
+        next = Arrays.copyOf(rowPointers, rowPointers.length);
+        for(int col = 0; col < itemIDs.length; ++col) {
+            for(int i = columnPointers[col]; i < columnPointers[col+1]; ++i) {
+                int rating = columnOrder[i];
+                int pos = next[rows[rating]]++;
+                rowItemIDs[pos] = items[rating];
+                rowColumns[pos] = col;
+                rowValues[pos] = values[rating];
+            }
+        }
+    }
+
+    /** \brief Devuelve los valores distintos de los \a size primeros elementos de \a values ordenados crecientemente
+     *
+     * \pre \a values tiene como mínimo \a size posiciones
+     * \post Devuelve un array nuevo con los valores distintos ordenados
+     */
+    private static int[] SortedUnique(int[] values, int size) {
+        int[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        int unique = 0;
+        for(int i = 0; i < size; ++i) {
+            if(unique == 0 || sorted[unique-1] != sorted[i]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    /** \brief Calcula el inicio de cada grupo a partir del grupo de cada elemento
+     *
+     * \pre Todos los valores de \a groups están entre 0 y \a numberOfGroups - 1
+     * \post Devuelve un array de \a numberOfGroups + 1 posiciones con el inicio de cada grupo (y el total en la última)
+     */
+    private static int[] Pointers(int[] groups, int size, int numberOfGroups) {
+        int[] pointers = new int[numberOfGroups + 1];
+        for(int i = 0; i < size; ++i) {
+            pointers[groups[i] + 1]++;
+        }
+        for(int i = 0; i < numberOfGroups; ++i) {
+            pointers[i+1] += pointers[i];
+        }
+        return pointers;
+    }
+
+    /** \brief Devuelve el número de usuarios (filas) de la matriz
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de filas
+     */
+    public int GetNumberOfUsers() {
+        return userIDs.length;
+    }
+
+    /** \brief Devuelve el número de items (columnas) de la matriz
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de columnas
+     */
+    public int GetNumberOfItems() {
+        return itemIDs.length;
+    }
+
+    /** \brief Devuelve el número de valoraciones de la matriz
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de valoraciones
+     */
+    public int GetNumberOfRatings() {
+        return rowValues.length;
+    }
+
+    /** \brief Devuelve la fila del usuario con ID \a userID
+     *
+     * \param int userID Corresponde a la ID del usuario deseado
+     * \pre <em>Cierto</em>
+     * \post Devuelve la fila del usuario, o -1 si no tiene ninguna valoración
+     */
+    public int GetUserRow(int userID) {
+        int row = Arrays.binarySearch(userIDs, userID);
+        return row < 0 ? -1 : row;
+    }
+
+    /** \brief Devuelve la columna del item con ID \a itemID
+     *
+     * \param int itemID Corresponde a la ID del item deseado
+     * \pre <em>Cierto</em>
+     * \post Devuelve la columna del item, o -1 si no tiene ninguna valoración
+     */
+    public int GetItemColumn(int itemID) {
+        int col = Arrays.binarySearch(itemIDs, itemID);
+        return col < 0 ? -1 : col;
+    }
+
+    /** \brief Devuelve la ID del usuario de la fila \a row
+     *
+     * \pre 0 <= \a row < GetNumberOfUsers()
+     * \post Devuelve la ID del usuario de la fila \a row
+     */
+    public int GetUserID(int row) {
+        return userIDs[row];
+    }
+
+    /** \brief Devuelve la ID del item de la columna \a col
+     *
+     * \pre 0 <= \a col < GetNumberOfItems()
+     * \post Devuelve la ID del item de la columna \a col
+     */
+    public int GetItemID(int col) {
+        return itemIDs[col];
+    }
+
+    /** \brief Devuelve la primera posición de la fila \a row
+     *
+     * \pre 0 <= \a row < GetNumberOfUsers()
+     * \post Devuelve la primera posición de la fila dentro de los arrays por filas
+     */
+    public int GetRowStart(int row) {
+        return rowPointers[row];
+    }
+
+    /** \brief Devuelve la posición siguiente a la última de la fila \a row
+     *
+     * \pre 0 <= \a row < GetNumberOfUsers()
+     * \post Devuelve la posición siguiente a la última de la fila dentro de los arrays por filas
+     */
+    public int GetRowEnd(int row) {
+        return rowPointers[row+1];
+    }
+
+    /** \brief Devuelve el número de valoraciones de la fila \a row
+     *
+     * \pre 0 <= \a row < GetNumberOfUsers()
+     * \post Devuelve el número de valoraciones del usuario de la fila \a row
+     */
+    public int GetRowSize(int row) {
+        return rowPointers[row+1] - rowPointers[row];
+    }
+
+    /** \brief Devuelve las ID de los items de todas las filas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con la ID del item de cada valoración, agrupadas por fila
+     */
+    public int[] GetRowItemIDs() {
+        return rowItemIDs;
+    }
+
+    /** \brief Devuelve las columnas de los items de todas las filas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con la columna del item de cada valoración, agrupadas por fila
+     */
+    public int[] GetRowColumns() {
+        return rowColumns;
+    }
+
+    /** \brief Devuelve los valores de todas las filas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con el valor de cada valoración, agrupadas por fila
+     */
+    public float[] GetRowValues() {
+        return rowValues;
+    }
+
+    /** \brief Devuelve la primera posición de la columna \a col
+     *
+     * \pre 0 <= \a col < GetNumberOfItems()
+     * \post Devuelve la primera posición de la columna dentro de los arrays por columnas
+     */
+    public int GetColumnStart(int col) {
+        return columnPointers[col];
+    }
+
+    /** \brief Devuelve la posición siguiente a la última de la columna \a col
+     *
+     * \pre 0 <= \a col < GetNumberOfItems()
+     * \post Devuelve la posición siguiente a la última de la columna dentro de los arrays por columnas
+     */
+    public int GetColumnEnd(int col) {
+        return columnPointers[col+1];
+    }
+
+    /** \brief Devuelve las ID de los usuarios de todas las columnas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con la ID del usuario de cada valoración, agrupadas por columna
+     */
+    public int[] GetColumnUserIDs() {
+        return columnUserIDs;
+    }
+
+    /** \brief Devuelve las filas de los usuarios de todas las columnas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con la fila del usuario de cada valoración, agrupadas por columna
+     */
+    public int[] GetColumnRows() {
+        return columnRows;
+    }
+
+    /** \brief Devuelve los valores de todas las columnas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con el valor de cada valoración, agrupadas por columna
+     */
+    public float[] GetColumnValues() {
+        return columnValues;
+    }
+
+    /** \brief Busca la valoración del item \a itemID dentro de la fila \a row
+     *
+     * \param int row Corresponde a la fila del usuario
+     * \param int itemID Corresponde a la ID del item buscado
+     * \pre 0 <= \a row < GetNumberOfUsers()
+     * \post Devuelve la posición de la valoración dentro de los arrays por filas, o -1 si el usuario no ha valorado el item
+     */
+    public int FindInRow(int row, int itemID) {
+        int pos = Arrays.binarySearch(rowItemIDs, rowPointers[row], rowPointers[row+1], itemID);
+        return pos < 0 ? -1 : pos;
+    }
+
+    /** \brief Busca la valoración del usuario \a userID dentro de la columna \a col
+     *
+     * \param int col Corresponde a la columna del item
+     * \param int userID Corresponde a la ID del usuario buscado
+     * \pre 0 <= \a col < GetNumberOfItems()
+     * \post Devuelve la posición de la valoración dentro de los arrays por columnas, o -1 si el usuario no ha valorado el item
+     */
+    public int FindInColumn(int col, int userID) {
+        int pos = Arrays.binarySearch(columnUserIDs, columnPointers[col], columnPointers[col+1], userID);
+        return pos < 0 ? -1 : pos;
+    }
+}
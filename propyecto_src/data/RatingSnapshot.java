@@ -0,0 +1,327 @@
+/** @file RatingSnapshot.java
+ *  @brief Contiene la clase RatingSnapshot
+ */
+
+package fxsrc.propyecto.data;
+
+import fxsrc.propyecto.domain.Rating;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/** \class RatingSnapshot
+ *   \brief Copia binaria por columnas de un CSV de Rating, para no tener que volver a parsear el texto en cada arranque.
+ *
+ *   El fichero (\a path.bin) tiene una cabecera (identificador, versión, tamaño y fecha de modificación del CSV del que sale y la línea de nombres de columnas),
+ *   las columnas de usuario, item y valor de todos los Rating en el mismo orden que el CSV, y un índice por usuario: la ID de cada usuario
+ *   (por orden de aparición), dónde empiezan sus Rating dentro de la lista de posiciones agrupada por usuario, y esa lista.
+ *   Se lee con FileChannel.map, así que abrirlo no copia nada: las columnas se leen directamente de las páginas del fichero.
+ *   El CSV sigue siendo el formato de intercambio: si el CSV cambia (tamaño o fecha distintos a los guardados) la copia deja de ser válida y se regenera.
+ */
+public class RatingSnapshot {
+
+    /** \brief Identificador del formato ("PRAT")
+     */
+    private static final int MAGIC = 0x50524154;
+
+    /** \brief Versión del formato
+     */
+    private static final int VERSION = 1;
+
+    /** \brief Fichero CSV del que sale la copia
+     */
+    private File csvFile;
+
+    /** \brief Fichero de la copia binaria
+     */
+    private File snapshotFile;
+
+    /** \brief Línea de nombres de columnas del CSV
+     */
+    private String header;
+
+    /** \brief Columna con la ID de usuario de cada Rating
+     */
+    private IntBuffer userColumn;
+
+    /** \brief Columna con la ID de item de cada Rating
+     */
+    private IntBuffer itemColumn;
+
+    /** \brief Columna con el valor de cada Rating
+     */
+    private FloatBuffer ratingColumn;
+
+    /** \brief ID de cada usuario, por orden de aparición
+     */
+    private IntBuffer userIDs;
+
+    /** \brief Posición donde empiezan los Rating de cada usuario dentro de \a userRatingPositions (tamaño número de usuarios + 1)
+     */
+    private IntBuffer userOffsets;
+
+    /** \brief Posiciones de los Rating (en las columnas) agrupadas por usuario
+     */
+    private IntBuffer userRatingPositions;
+
+    /** \brief Constructor de RatingSnapshot
+     *
+     * \param String csvPath Corresponde al path del CSV de Rating
+     * \pre <em>Cierto</em>
+     * \post Se crea la copia asociada a \a csvPath, guardada en \a csvPath.bin (no se lee ni se escribe nada todavía)
+     */
+    public RatingSnapshot(String csvPath) {
+        csvFile = new File(csvPath);
+        snapshotFile = new File(csvPath + ".bin");
+    }
+
+    /** \brief Abre la copia binaria si existe y corresponde al CSV actual
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve true si la copia se ha podido abrir (y a partir de ahora se pueden usar los getters). Devuelve false si no existe, está mal o el CSV ha cambiado
+     */
+    public boolean Open() {
+        if(!snapshotFile.exists() || !csvFile.exists()) {
+            return false;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(snapshotFile, "r"); FileChannel channel = file.getChannel()) {
+            //comprobamos la cabecera antes de mapear, para no dejar mapeado un fichero que se va a sustituir
+            ByteBuffer fixedHeader = ByteBuffer.allocate(24);
+            while(fixedHeader.hasRemaining() && channel.read(fixedHeader) > 0);
+            fixedHeader.flip();
+            if(fixedHeader.remaining() < 24 || fixedHeader.getInt() != MAGIC || fixedHeader.getInt() != VERSION) {
+                return false;
+            }
+            if(fixedHeader.getLong() != csvFile.length() || fixedHeader.getLong() != csvFile.lastModified()) {
+                return false; //el CSV es más nuevo que la copia
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.position(24);
+            byte[] headerBytes = new byte[buffer.getInt()];
+            buffer.get(headerBytes);
+            header = new String(headerBytes, StandardCharsets.UTF_8);
+            buffer.position(Align(buffer.position()));
+            int numberOfRatings = buffer.getInt();
+            int numberOfUsers = buffer.getInt();
+
+            userColumn = Slice(buffer, numberOfRatings).asIntBuffer();
+            itemColumn = Slice(buffer, numberOfRatings).asIntBuffer();
+            ratingColumn = Slice(buffer, numberOfRatings).asFloatBuffer();
+            userIDs = Slice(buffer, numberOfUsers).asIntBuffer();
+            userOffsets = Slice(buffer, numberOfUsers + 1).asIntBuffer();
+            userRatingPositions = Slice(buffer, numberOfRatings).asIntBuffer();
+            return true;
+        }
+        catch (IOException | RuntimeException e) {
+            return false; //copia incompleta o corrupta: se volverá a generar
+        }
+    }
+
+    /** \brief Devuelve la parte de \a buffer con los siguientes \a count valores de 4 bytes y avanza su posición
+     *
+     * \param ByteBuffer buffer Corresponde al fichero mapeado
+     * \param int count Corresponde al número de valores
+     * \pre Quedan como mínimo \a count valores en \a buffer
+     * \post Devuelve la parte pedida (sin copiar) y \a buffer queda justo después
+     */
+    private ByteBuffer Slice(ByteBuffer buffer, int count) {
+        ByteBuffer slice = buffer.slice();
+        slice.limit(count * 4);
+        buffer.position(buffer.position() + count * 4);
+        return slice;
+    }
+
+    /** \brief Redondea \a position al siguiente múltiplo de 4
+     *
+     * \param int position Corresponde a una posición del fichero
+     * \pre <em>Cierto</em>
+     * \post Devuelve el primer múltiplo de 4 mayor o igual a \a position
+     */
+    private static int Align(int position) {
+        return (position + 3) & ~3;
+    }
+
+    /** \brief Devuelve la línea de nombres de columnas del CSV
+     *
+     * \pre Se ha abierto la copia con Open
+     * \post Devuelve la línea de nombres de columnas
+     */
+    public String GetHeader() {
+        return header;
+    }
+
+    /** \brief Devuelve el número de Rating de la copia
+     *
+     * \pre Se ha abierto la copia con Open
+     * \post Devuelve el número de Rating
+     */
+    public int GetNumberOfRatings() {
+        return userColumn.limit();
+    }
+
+    /** \brief Devuelve la ID de usuario del Rating \a i
+     *
+     * \param int i Corresponde a la posición del Rating (orden del CSV)
+     * \pre Se ha abierto la copia con Open y 0 <= \a i < GetNumberOfRatings()
+     * \post Devuelve la ID de usuario del Rating \a i
+     */
+    public int GetUserID(int i) {
+        return userColumn.get(i);
+    }
+
+    /** \brief Devuelve la ID de item del Rating \a i
+     *
+     * \param int i Corresponde a la posición del Rating (orden del CSV)
+     * \pre Se ha abierto la copia con Open y 0 <= \a i < GetNumberOfRatings()
+     * \post Devuelve la ID de item del Rating \a i
+     */
+    public int GetItemID(int i) {
+        return itemColumn.get(i);
+    }
+
+    /** \brief Devuelve el valor del Rating \a i
+     *
+     * \param int i Corresponde a la posición del Rating (orden del CSV)
+     * \pre Se ha abierto la copia con Open y 0 <= \a i < GetNumberOfRatings()
+     * \post Devuelve el valor del Rating \a i
+     */
+    public float GetRating(int i) {
+        return ratingColumn.get(i);
+    }
+
+    /** \brief Copia las tres columnas a arrays
+     *
+     * \param int[] users Corresponde al array donde se copian las ID de usuario
+     * \param int[] items Corresponde al array donde se copian las ID de item
+     * \param float[] values Corresponde al array donde se copian los valores
+     * \pre Se ha abierto la copia con Open y los tres arrays tienen como mínimo GetNumberOfRatings() posiciones
+     * \post Las primeras GetNumberOfRatings() posiciones de cada array tienen su columna, en el orden del CSV (copia en bloque, sin leer Rating a Rating)
+     */
+    public void GetColumns(int[] users, int[] items, float[] values) {
+        int numberOfRatings = GetNumberOfRatings();
+        userColumn.duplicate().get(users, 0, numberOfRatings);
+        itemColumn.duplicate().get(items, 0, numberOfRatings);
+        ratingColumn.duplicate().get(values, 0, numberOfRatings);
+    }
+
+    /** \brief Devuelve el número de usuarios distintos de la copia
+     *
+     * \pre Se ha abierto la copia con Open
+     * \post Devuelve el número de usuarios distintos
+     */
+    public int GetNumberOfUsers() {
+        return userIDs.limit();
+    }
+
+    /** \brief Devuelve la ID del usuario \a u (por orden de aparición)
+     *
+     * \param int u Corresponde a la posición del usuario
+     * \pre Se ha abierto la copia con Open y 0 <= \a u < GetNumberOfUsers()
+     * \post Devuelve la ID del usuario \a u
+     */
+    public int GetUserIDByPosition(int u) {
+        return userIDs.get(u);
+    }
+
+    /** \brief Devuelve cuantos Rating tiene el usuario \a u
+     *
+     * \param int u Corresponde a la posición del usuario
+     * \pre Se ha abierto la copia con Open y 0 <= \a u < GetNumberOfUsers()
+     * \post Devuelve el número de Rating del usuario \a u
+     */
+    public int GetUserNumberOfRatings(int u) {
+        return userOffsets.get(u + 1) - userOffsets.get(u);
+    }
+
+    /** \brief Devuelve la posición (en las columnas) del \a k-ésimo Rating del usuario \a u
+     *
+     * \param int u Corresponde a la posición del usuario
+     * \param int k Corresponde al número de Rating dentro de los del usuario
+     * \pre Se ha abierto la copia con Open, 0 <= \a u < GetNumberOfUsers() y 0 <= \a k < GetUserNumberOfRatings(u)
+     * \post Devuelve la posición del Rating, en orden creciente para un mismo usuario
+     */
+    public int GetUserRatingPosition(int u, int k) {
+        return userRatingPositions.get(userOffsets.get(u) + k);
+    }
+
+    /** \brief Escribe la copia binaria a partir de los Rating ya cargados del CSV
+     *
+     * \param String header Corresponde a la línea de nombres de columnas del CSV
+     * \param ArrayList<Rating> ratings Corresponde a todos los Rating, en el orden del CSV
+     * \pre El CSV no ha cambiado desde que se han leído \a ratings
+     * \post Se escribe la copia (primero en un fichero temporal que después la sustituye). Si falla, simplemente no hay copia
+     */
+    public void Store(String header, ArrayList<Rating> ratings) {
+        int numberOfRatings = ratings.size();
+
+        //índice por usuario: posición de cada usuario por orden de aparición y cuantos Rating tiene
+        HashMap<Integer, Integer> userPosition = new HashMap<>();
+        ArrayList<Integer> users = new ArrayList<>();
+        int[] userOfRating = new int[numberOfRatings];
+        int[] counts = new int[numberOfRatings + 1];
+        for(int i = 0; i < numberOfRatings; ++i) {
+            int userID = ratings.get(i).GetUserID();
+            Integer u = userPosition.get(userID);
+            if(u == null) {
+                u = users.size();
+                userPosition.put(userID, u);
+                users.add(userID);
+            }
+            userOfRating[i] = u;
+            ++counts[u + 1];
+        }
+        int numberOfUsers = users.size();
+        int[] offsets = new int[numberOfUsers + 1];
+        for(int u = 0; u < numberOfUsers; ++u) {
+            offsets[u + 1] = offsets[u] + counts[u + 1];
+        }
+        int[] positions = new int[numberOfRatings];
+        int[] next = new int[numberOfUsers];
+        for(int i = 0; i < numberOfRatings; ++i) {
+            int u = userOfRating[i];
+            positions[offsets[u] + next[u]++] = i;
+        }
+
+        byte[] headerBytes = header.getBytes(StandardCharsets.UTF_8);
+        int start = Align(4 + 4 + 8 + 8 + 4 + headerBytes.length);
+        long size = start + 8L + 4L * (4L * numberOfRatings + 2L * numberOfUsers + 1);
+        File tempFile = new File(snapshotFile.getPath() + ".tmp");
+        try {
+            try (RandomAccessFile file = new RandomAccessFile(tempFile, "rw"); FileChannel channel = file.getChannel()) {
+                file.setLength(size);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(MAGIC);
+                buffer.putInt(VERSION);
+                buffer.putLong(csvFile.length());
+                buffer.putLong(csvFile.lastModified());
+                buffer.putInt(headerBytes.length);
+                buffer.put(headerBytes);
+                buffer.position(start);
+                buffer.putInt(numberOfRatings);
+                buffer.putInt(numberOfUsers);
+                for(Rating r : ratings) buffer.putInt(r.GetUserID());
+                for(Rating r : ratings) buffer.putInt(r.GetItemID());
+                for(Rating r : ratings) buffer.putFloat(r.GetRating());
+                for(int userID : users) buffer.putInt(userID);
+                for(int offset : offsets) buffer.putInt(offset);
+                for(int position : positions) buffer.putInt(position);
+                buffer.force();
+            }
+            Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException | RuntimeException e) {
+            tempFile.delete();
+        }
+    }
+}
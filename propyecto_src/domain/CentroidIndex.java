@@ -0,0 +1,126 @@
+/** @file CentroidIndex.java
+ *  @brief Contiene la clase CentroidIndex
+ */
+
+package fxsrc.propyecto.domain;
+
+import java.util.Arrays;
+
+/** \class CentroidIndex
+ *   \brief Índice invertido de los centroides de Kmeans: para cada item, los centroides que lo tienen y su nota en cada uno.
+ *
+ *   Sirve para calcular la distancia de un usuario a todos los centroides a la vez recorriendo solo los items que ha valorado el usuario:
+ *   para cada uno se busca el item en el índice (búsqueda binaria) y se suma su término a la distancia de cada centroide de su lista.
+ *   El coste es O(|usuario| * (log(items) + centroides por item)) en lugar de O(K * tamaño del centroide).
+ *   Los items y las listas se guardan en arrays primitivos (formato CSR): los items ordenados por itemID y, en cada lista, los centroides por índice.
+ */
+public class CentroidIndex {
+
+    /** \brief itemID de cada item que está en algún centroide, ordenados de forma estrictamente creciente
+     */
+    private final int[] itemIDs;
+
+    /** \brief Posición de la lista de cada item en \a postingCentroids y \a postingValues (la del item i va de postingStart[i] a postingStart[i + 1])
+     */
+    private final int[] postingStart;
+
+    /** \brief Índice del centroide de cada entrada de las listas
+     */
+    private final int[] postingCentroids;
+
+    /** \brief Nota del item en el centroide de cada entrada de las listas
+     */
+    private final float[] postingValues;
+
+    /** \brief Número de centroides
+     */
+    private final int numberOfCentroids;
+
+    /** \brief Constructor de CentroidIndex
+     *
+     * \param int[][] centroidItemIDs Corresponde a los itemID de cada centroide
+     * \param float[][] centroidValues Corresponde a las notas de cada centroide
+     * \pre Los dos arrays tienen el mismo tamaño, y los itemID de cada centroide están ordenados de forma estrictamente creciente y tienen una nota en la misma posición
+     * \post Se crea el índice de los centroides (no guarda ninguna referencia a los arrays recibidos)
+     */
+    public CentroidIndex(int[][] centroidItemIDs, float[][] centroidValues) {
+        numberOfCentroids = centroidItemIDs.length;
+        int numberOfPostings = 0;
+        for(int[] items : centroidItemIDs) {
+            numberOfPostings += items.length;
+        }
+
+        //cada entrada es (itemID, posición al recorrer los centroides en orden) en un long; al ordenar quedan agrupadas por item
+        //y, dentro de cada item, por centroide
+        long[] packed = new long[numberOfPostings];
+        int[] centroidOfPosition = new int[numberOfPostings];
+        float[] valueOfPosition = new float[numberOfPostings];
+        int position = 0;
+        for(int c = 0; c < numberOfCentroids; ++c) {
+            int[] items = centroidItemIDs[c];
+            for(int j = 0; j < items.length; ++j) {
+                packed[position] = ((long) items[j] << 32) | position;
+                centroidOfPosition[position] = c;
+                valueOfPosition[position] = centroidValues[c][j];
+                ++position;
+            }
+        }
+        Arrays.sort(packed);
+
+        int[] items = new int[numberOfPostings];
+        int[] starts = new int[numberOfPostings + 1];
+        postingCentroids = new int[numberOfPostings];
+        postingValues = new float[numberOfPostings];
+        int numberOfItems = 0;
+        for(int p = 0; p < numberOfPostings; ++p) {
+            int itemID = (int) (packed[p] >> 32);
+            int from = (int) packed[p];
+            if(numberOfItems == 0 || items[numberOfItems - 1] != itemID) {
+                items[numberOfItems] = itemID;
+                starts[numberOfItems] = p;
+                ++numberOfItems;
+            }
+            postingCentroids[p] = centroidOfPosition[from];
+            postingValues[p] = valueOfPosition[from];
+        }
+        starts[numberOfItems] = numberOfPostings;
+        itemIDs = Arrays.copyOf(items, numberOfItems);
+        postingStart = Arrays.copyOf(starts, numberOfItems + 1);
+    }
+
+    /** \brief Devuelve el número de centroides del índice
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de centroides
+     */
+    public int GetNumberOfCentroids() {
+        return numberOfCentroids;
+    }
+
+    /** \brief Calcula la suma de los cuadrados de las diferencias entre un usuario y cada centroide, sobre los items en común
+     *
+     * \param int[] items Corresponde a los itemID del usuario
+     * \param float[] values Corresponde a las valoraciones del usuario
+     * \param int start Corresponde a la primera posición del usuario dentro de los arrays
+     * \param int end Corresponde a la posición siguiente a la última del usuario
+     * \param double[] squaredDistances Corresponde a donde se guarda el resultado de cada centroide
+     * \pre Los itemID del usuario están ordenados de forma estrictamente creciente y \a squaredDistances tiene al menos GetNumberOfCentroids() posiciones
+     * \post squaredDistances[c] es lo mismo que devolvería SparseDistance.SquaredDistance entre el usuario y el centroide c (la suma, en orden de itemID,
+     * de (valor del usuario - valor del centroide)^2, o -1.0 si no tienen ningún item en común)
+     */
+    public void SquaredDistances(int[] items, float[] values, int start, int end, double[] squaredDistances) {
+        Arrays.fill(squaredDistances, 0, numberOfCentroids, -1.0);
+        for(int i = start; i < end; ++i) {
+            int item = Arrays.binarySearch(itemIDs, items[i]);
+            if(item < 0) {
+                continue;
+            }
+            float value = values[i];
+            for(int p = postingStart[item]; p < postingStart[item + 1]; ++p) {
+                int c = postingCentroids[p];
+                double difference = value - postingValues[p];
+                squaredDistances[c] = (squaredDistances[c] < 0.0 ? 0.0 : squaredDistances[c]) + difference * difference;
+            }
+        }
+    }
+}
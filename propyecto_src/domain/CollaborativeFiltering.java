@@ -1,545 +1,1222 @@
-/** @file CollaborativeFiltering.java
- *  @brief Contiene la clase CollaborativeFiltering
- */
-
-package fxsrc.propyecto.domain;
-
-import java.util.*;
-
-/** @class CollaborativeFiltering
- *   @brief Clase encargada de recibir peticiones de recomendación basándose en el CollaborativeFiltering. Hereda de la clase \a Recommender
- *
- *   Ofrece operaciones de recomendación de items, basadas en agrupación de usuarios similares mediante el algoritmo Kmeans (donde la K es un parámetro en la construcción de la clase) y la posterior recomendación de items basada en los gustos de los usuarios similares haciendo uso de SlopeOne.
- */
-public class CollaborativeFiltering extends Recommender{
-
-    /** @brief \a K es la cantidad de agrupaciones de usuarios distintas que queremos.
-     */
-    private int K;
-
-    /** @brief \a dataset indica la cantidad de usuarios del dataset que utilizamos (en el caso de series, puede ser 250, 750, 2250)
-     */
-    private static final int dataset = 750;
-
-    /** @brief \a Kgroups son las K agrupaciones de usuarios similares distintas que tenemos.
-     */
-    private ArrayList<ArrayList<Integer>> Kgroups; //Vector of K positions, which each position has the group of UsersID which have similar likes.
-
-    /** @brief \a KgroupsEmpty indica si \a Kgroups está vacío o no, para saber si se debe calcular o ya se ha calculado.
-     */
-    private boolean KgroupsEmpty; //porque no puedo usar el metodo Kgroups.IsEmpty porque en la constructora lo inicializo con k posiciones (que contendran basura), asi que siempre daria que no está vacio
-
-    /** @brief \a ratingsMap guarda, para cada usuario (representado por su UserID), todas sus valoraciones (en forma de vector de \a Ratings) existentes en el sistema.
-     */
-    private HashMap<Integer, ArrayList<Rating>> ratingsMap; //clave = userID. Valor = vector con items valorados por ese user con la valoración. Lo pongo como variable global porque lo uso en Kmeans y SlopeOne
-
-    /** @brief \a centroids almacena los K centroides, uno por cada agrupación de usuarios. Un centroide representa el centro de gustos dentro de un grupo de usuarios similares
-     */
-    private ArrayList<ArrayList<Rating>> centroids;
-
-    /** @brief \a maxRatingValue almacena el valor máximo que puede dar un user a un item
-     */
-    private static final float maxRatingValue = DataManager.GetInstance().GetMaxRating();
-
-    /** @brief Constructora de CollaborativeFiltering.
-     *
-     * \pre \a K >= 1
-     * @param k es la K deseada para Kmeans
-     * \post Se crea una instancia de la clase CollaborativeFiltering, lista para dar recomendaciones utilizando K grupos distintos para ello.
-     */
-    public CollaborativeFiltering(int k) {
-        K = k;
-        Kgroups = new ArrayList<ArrayList<Integer>>(k);
-        for (int i = 0; i < k; i++) Kgroups.add(new ArrayList<Integer>()); //necesario para que tenga el size que quiero. Porque el constructor le da initialcapacity pero si luego intento indexar elemento da error. FINAL SIZE= K
-        KgroupsEmpty = true;
-        ratingsMap = new HashMap<Integer, ArrayList<Rating>>();
-        centroids = new ArrayList<ArrayList<Rating>>(); //cada centroide emula un user. Pero como su userID nos da igual por eso solamente damos un vector de pares de peli+valoracion
-
-    }
-
-    /** @brief Retorna la distancia entre 2 usuarios
-     *
-     * La fórmula utilizada para calcular la distancia es la raiz cuadrada de la suma de los cuadrados de las diferencias de notas entre esos dos items para un cierto user. Solo se tienen en cuenta aquellos items que hayan valorado ambos.
-     *
-     * \pre Los argumentos representan las listas de valoraciones de 2 usuarios, donde cualquiera de esos usuarios podría ser un centroide o no.
-     * @param itemsAndScoresUser1 son los ratings de uno de los dos users de los que se quiere ver su distancia
-     * @param itemsAndScoresUser1 son los ratings del otro user
-     * \post Retorna la distancia entre 2 usuarios. Esa distancia puede llegar a ser un número muy alto en caso de que no haya ninguna similitud entre los usuarios.
-     */
-    private double DistanceBetweenUsers(ArrayList<Rating> itemsAndScoresUser1, ArrayList<Rating> itemsAndScoresUser2) {
-        double distance = 999999999.0; //No pongo MAX_DOUBLE porque en caso de no tener ningun item en común no funcionaría el "if(distanceToCentroidOfClusterJ < distanceToCentroidOfNearestCluster)" porque ese distanceToCentroidOfNearestCluster vale MAX_DOUBLE, entonces
-        //aqui tampoco puedo poner MAX_DOUBLE-1 porque es tan enorme el valor de MAX_DOUBLE (*10^308) que poner un -1 obviamente lo desprecia y se sigue codificando como MAX_DOUBLE
-
-        double sumatorio = 0;
-        boolean itemsInCommon = false;
-        for(int i = 0; i < itemsAndScoresUser1.size(); i++){
-            for(int j = 0; j < itemsAndScoresUser2.size(); j++){
-                if(itemsAndScoresUser1.get(i).GetItemID() == itemsAndScoresUser2.get(j).GetItemID()){
-                    sumatorio += Math.pow((itemsAndScoresUser1.get(i).GetRating() - itemsAndScoresUser2.get(j).GetRating()), 2);
-                    itemsInCommon = true;
-                    break;
-                }
-            }
-        }
-        if(itemsInCommon)
-            distance = Math.sqrt(sumatorio);
-        //else{ // OJO, ENTRA CHORROCIENTAS VECES A ESTE ELSE... Supongo que sera normal dados todos los items que hay y que cada user tampoco valora demasiados items
-        //    System.out.println("DEBUG: Se ha llamado a DistanceBetweenUsers entre 2 tios sin pelis en comun. Por tanto su distancia se queda como 999999999.0");
-        //Si no tiene nada en comun, la distancia será 999999999
-        //}
-
-        return distance;
-    }
-
-
-
-    // IMPORTANTE: Es completamente necesario pasar ese userID como Integer y no como int, ya que en el .remove(userID) interpretara ese userID como indice si lo hemos pasado como int o lo interpretara como contenido si lo hemos pasado como Integer
-    /** @brief Mueve a un user del grupo de Kgroups en el que se encuentre a otro grupo, cuyo índice es \a indexDestinationCluster
-     *
-     * \pre indexDestinationCluster >= 0 y < K. Y userID es el userID de un usuario existente en el sistema. Es completamente necesario que userID sea un Integer y no un int.
-     * @param indexDestinationCluster es el índice que representa el cluster al que queremos mover a un usuario
-     * @param userID es el ID del usuario que queremos mover de cluster
-     * \post El usuario con ese \a userID sale del grupo de usuarios en el que estaba y se mueve al grupo destino.
-     */
-    private void ChangeUserBetweenClusters(int indexDestinationCluster, Integer userID){ //100% NECESARIO QUE userID SEA INTEGER Y NO INT.
-        //sabemos el destinationCluster pero no donde se encuentra ahora mismo así que vamos a buscarlo...
-        for(int i = 0; i < K; i++) {
-            ArrayList<Integer> clusterI = Kgroups.get(i);
-            if(clusterI.contains(userID)){
-                clusterI.remove(userID);
-                //Kgroups.set(i, clusterI); //NO necesaria, ya que clusterI apunta a Kgroups (comprobado)
-                if(Kgroups.get(i).contains(userID)) System.out.println("ALERT: Linea60 Si esto se ha impreso tienes un problema, porque te crees que has borrado un userID de un cluster y realmente eso no ha tenido efecto en la matriz de Kgroups");
-                ArrayList<Integer> destinationCluster = Kgroups.get(indexDestinationCluster);
-                destinationCluster.add(userID);
-                Kgroups.set(indexDestinationCluster, destinationCluster);
-                // TODO: Cuando el recomendador funcione, probar a cambiar estas 3 lineas de arriba por "Kgroups.get(indexDestinationCluster).add(userID)" y ver si sigue funcionando
-                if(!Kgroups.get(indexDestinationCluster).contains(userID)) System.out.println("ALERT: Linea65 Si esto se ha impreso tienes un problema, porque te crees que has añadido un userID de un cluster y realmente eso no ha tenido efecto en la matriz de Kgroups");
-                return;
-            }
-        }
-    }
-
-
-    //private void DeepCopyArrayListsOfRatings(ArrayList<Rating> source, ArrayList<Rating> destination) {
-    //    Iterator<Rating> it = source.iterator();
-    //    while (it.hasNext()) {
-    //        Rating element = it.next();
-    //        Rating newElement = new Rating(element.GetUserID(), element.GetItemID(), element.GetRating()); //la intenté hacer templatizada pero esto de aquí no sé como hacerlo si es templatizada
-    //        destination.add(newElement);
-    //   }
-    //}
-
-
-    /** @brief Se crean los \a K grupos de usuarios con gustos similares, siendo \a K el atributo de esta clase (se especificó en la constructora)
-     *
-     * Solo se volverá a computar Kmeans si no estaba ya computado
-     *
-     * \pre El atributo \a KgrupsEmpty tiene el valor \a true.
-     * \post Se crean los grupos de usuarios con gustos similares.
-     */
-    private void Kmeans() {
-        ArrayList<ArrayList<Integer>> temp = DataManager.GetInstance().GetKMeans(K, dataset);
-        if(temp != null) {
-            Kgroups = temp;
-            centroids = DataManager.GetInstance().GetCentroids();
-            ratingsMap = DataManager.GetInstance().GetAllRatingsUsersMapDB();
-            KgroupsEmpty = false;
-        }
-        else {
-            ratingsMap = DataManager.GetInstance().GetAllRatingsUsersMapDB();
-            ArrayList<Integer> usersID = DataManager.GetInstance().GetAllUsersID();
-
-            // INIT OF THE K CENTROIDS CHOOSING K "RANDOM" USERS:
-            int numberOfCentroids = 0;
-            for (Integer userID : usersID) {
-                ArrayList<Rating> ratingsOfOneRandomUser = ratingsMap.get(userID);
-                // cuantas mas valoraciones tengan los centroides iniciales, mas exacto sera todo:
-                if (ratingsOfOneRandomUser.size() >= 15) {
-                    centroids.add(ratingsOfOneRandomUser);
-                    ++numberOfCentroids;
-                    if(numberOfCentroids == K) break;
-                }
-            }
-
-            //INICIALIZACION KGROUPS USANDO LOS CENTROIDES RANDOM:
-            for (int i = 0; i < usersID.size(); i++) {
-                int nearestCluster = -1;
-                double distanceToCentroidOfNearestCluster = Double.MAX_VALUE;
-                for (int j = 0; j < K; j++) {
-                    double distanceToCentroidOfClusterJ = DistanceBetweenUsers(ratingsMap.get(usersID.get(i)), centroids.get(j));
-                    if (distanceToCentroidOfClusterJ < distanceToCentroidOfNearestCluster) {
-                        distanceToCentroidOfNearestCluster = distanceToCentroidOfClusterJ;
-                        nearestCluster = j;
-                    }
-                }
-                if (nearestCluster == -1)
-                    System.out.println("ALERT: nearest cluster vale -1. Esta linea pertenece al codigo de inicializacion Kgroup");
-                //las siguientes lineas hacen este codigo: Kgroups[nearestCluster].add(usersID.get(i));
-                ArrayList<Integer> tmp = Kgroups.get(nearestCluster);
-                tmp.add(usersID.get(i));
-                Kgroups.set(nearestCluster, tmp);
-                if (!Kgroups.get(nearestCluster).contains(usersID.get(i)))
-                    System.out.println("ALERT: Si esto se ha impreso tienes un problema, porque te crees que has añadido un userID de un cluster y realmente eso no ha tenido efecto en la matriz de Kgroups. Esta linea está dentro de la parte de inicializacion de Kgroup en el Kmeans");
-            }
-
-            //En este punto ya tenemos los clusters hechos a partir de centroides randoms.
-            //A continuación vamos a ir reasignando los centroides a "la media de cada grupo" y cambiando a los usuarios de grupo en funcion a sus distancias a esos nuevos centroides,
-            //hasta que por fin haya una iteración en la que ningún jugador cambia de grupo (cluster). Ahí diremos que ha convergido
-
-            boolean hasConverged = false;
-            int numiters = 0;
-            while (!hasConverged) {
-                ++numiters;
-
-                //REASIGNACIÓN DE CENTROIDES:
-                //cada centroide será un usuario con todas las pelis de su cluster vistas y con la nota media de todas aquellas personas de su cluster que las hayan visto
-                for (int i = 0; i < K; i++) {
-                    ArrayList<Integer> usersOfOneCluster = Kgroups.get(i);
-                    ArrayList<Rating> newCentroid = new ArrayList<Rating>();
-                    HashMap<Integer, FrequencyAndSumOfScores> filmAndFrequencyAndSumOfScores = new HashMap<Integer, FrequencyAndSumOfScores>(); //map con clave = itemID y valor = numero de usuarios en ese cluster que han valorado el item y la suma de sus notas (necesarios para la media)
-                    //Almacenamos todas las pelis que ha visto gente de ese cluster (y cuantos han visto una cierta peli, para poder hacer la media de las notas:
-                    for (int userID : usersOfOneCluster) {
-                        ArrayList<Rating> filmsSeenByUser = ratingsMap.get(userID);
-                        for (Rating rating : filmsSeenByUser) {
-                            if (filmAndFrequencyAndSumOfScores.containsKey(rating.GetItemID())) {
-                                FrequencyAndSumOfScores freqAndSumScores = filmAndFrequencyAndSumOfScores.get(rating.GetItemID());
-                                ++freqAndSumScores.frequency;
-                                freqAndSumScores.scoreSum += rating.GetRating();
-                                filmAndFrequencyAndSumOfScores.replace(rating.GetItemID(), freqAndSumScores);
-                            } else {
-                                FrequencyAndSumOfScores freqAndSumScores = new FrequencyAndSumOfScores(1, rating.GetRating());
-                                filmAndFrequencyAndSumOfScores.put(rating.GetItemID(), freqAndSumScores);
-                            }
-                        }
-                    }
-                    //Llenamos el centroide de ese cluster con todas las pelis vistas de gente de ese cluster y la respectiva nota media de la gente que la ha visto:
-                    for (var entry : filmAndFrequencyAndSumOfScores.entrySet()) {
-                        int itemID = entry.getKey();
-                        FrequencyAndSumOfScores freqAndSumOfScores = entry.getValue();
-                        float score = freqAndSumOfScores.scoreSum / freqAndSumOfScores.frequency;
-                        //    if (score > maxRatingValue) score = maxRatingValue;
-                        //    else if (score < 0.0f) score = 0.0f; // NO deberia ocurrir nunca, ya que score es igual a una suma de positivos dividido entre el numero de sumandos.
-                        Rating itemAndScore = new Rating(-1, itemID, score); //userID=-1 porque no sirve de nada, la info de ese campo sobra.
-                        newCentroid.add(itemAndScore);
-                    }
-                    //Y ahora reemplazamos el centroide de la iter anterior por el nuevo
-                    centroids.set(i, newCentroid);
-                }
-
-                //CAMBIO DE USUARIOS A SUS NUEVOS CLUSTERS EN FUNCIÓN DE LOS NUEVOS CENTROIDES:
-                hasConverged = true; //en el momento que un usuario cambie de grupo, esto se pone a false.
-                for (int i = 0; i < usersID.size(); i++) {
-                    int nearestCluster = -1;
-                    double distanceToCentroidOfNearestCluster = Double.MAX_VALUE;
-                    for (int j = 0; j < K; j++) {
-                        double distanceToCentroidOfClusterJ = DistanceBetweenUsers(ratingsMap.get(usersID.get(i)), centroids.get(j));
-                        if (distanceToCentroidOfClusterJ < distanceToCentroidOfNearestCluster) {
-                            distanceToCentroidOfNearestCluster = distanceToCentroidOfClusterJ;
-                            nearestCluster = j;
-                        }
-                    }
-                    if (nearestCluster == -1)
-                        System.out.println("ALERT: nearest cluster vale -1. Esta linea pertenece al codigo de convergencia");
-                    //Buscar si el usuario está en el cluster que nos interesa. Si no esta, lo sacamos del que este y lo ponemos en el que queremos:
-                    if (!Kgroups.get(nearestCluster).contains(usersID.get(i))) {
-                        hasConverged = false;
-                        ChangeUserBetweenClusters(nearestCluster, usersID.get(i));
-                    }
-                }
-
-            }
-
-            KgroupsEmpty = false;
-            DataManager.GetInstance().SetKMeans(K, dataset, Kgroups, centroids);
-
-            /*
-            System.out.println("DEBUG: users in ratingsmap: " + ratingsMap.size() + " and number of users: " + usersID.size());
-            System.out.println("DEBUG: KMEANS CON K=" + K + " HA TARDADO EN CONVERGER " + numiters + " ITERACIONES");
-            for (int i = 0; i < K; i++){
-                System.out.println("DEBUG: El cluster " + i + " tiene " + Kgroups.get(i).size() + " usuarios");
-            }
-             */
-        }
-
-
-    }
-
-    /** @brief Retorna el grupo de usuarios (representados por usersID) con los gustos más similares al usuario representado por el \a userID que hay como parametro, incluyendo a ese usuario.
-     * Se utiliza cuando se quiere saber los usuarios más cercanos a un usuario que ya esté presente en alguno de los K grupos.
-     *
-     * \pre UserID está contenido en algún grupo de Kgroups.
-     * @param userID es el ID del usuario del cual queremos saber los demás usuarios del sistema con afinidad a él
-     * \post Retorna el grupo de usuarios (representados por usersID) con los gustos más similares al usuario representado por el \a userID que hay como parametro
-     */
-    private ArrayList<Integer> UsersIDofSimilarUsers(int userID) {
-        for(ArrayList<Integer> innerList : Kgroups) {
-            if (innerList.contains(userID)) return innerList;
-        }
-        return null;
-    }
-
-    /** @brief Retorna el rating de un cierto usuario a un cierto item, -1.0 si no lo había valorado
-     *
-     * \pre \a userID representa a un usuario válido contenido en la base de datos de \ratings que hay en el sistema e itemID representa a un ítem válido
-     * @param userID es el ID del usuario del que queremos saber su nota para un item
-     * @param itemID representa ese item
-     * \post Retorna el rating de un cierto usuario a un cierto item, -1.0 si no lo había valorado
-     */
-    private float RatingOfOneUserToAnItem(int userID, int itemID) {
-        ArrayList<Rating> itemsRatedByOneUser = ratingsMap.get(userID);
-        if(itemsRatedByOneUser == null) System.out.println("ALERT: EFECTIVAMENTE RETORNA NULL");
-        for (Rating rating: itemsRatedByOneUser) {
-            if (rating.GetItemID() == itemID) return rating.GetRating();
-        }
-        return -1.0f;
-    }
-
-    /** @brief Retorna un booleano diciendo si un cierto item fue valorado por el usuario al cual estamos intentando predecir sus gustos.
-     *
-     * \pre \a item es un ítem válido y \a itemsAndScoreOfMainUser es la lista de valoraciones del usuario a quien estamos intentando predecir sus gustos
-     * @param item es el item que nos interesa saber si fue valorado
-     * @param itemsAndScoreOfMainUser es el vector de valoraciones en el que queremos ver si existe ese item
-     * \post Retorna \a true si \a item está presente en \a itemsAndScoreOfMainUser. Retorna \a false en caso contrario.
-     */
-    private boolean WasThatItemRatedByMainUser(Item item, ArrayList<Rating> itemsAndScoreOfMainUser){
-        // nota: recuerda que la clase item contiene el itemID y todos los atributos del item mientras que ItemAndScore contiene el itemID a secas y su score.
-        for(Rating itemRated: itemsAndScoreOfMainUser){
-            if(item.GetItemId() == itemRated.GetItemID()) return true;
-        }
-        return false;
-    }
-
-    /** @brief Hace las predicciones para el usuario principal (identificado por \a mainUserID) a través del algoritmo SlopeOne.
-     *
-     * \pre El vector de \a SimilarUsersID no contiene el \a mainUserID, el cual es un ID válido. El vector \a itemsRatedByMainUser contiene todas las valoraciones que ha realizado el usuario sobre el que vamos a intentar predecir. \a numberOfRecommendations > 0
-     * @param SimilarUsersID son los ID de los usuarios similares al mainUser
-     * @param mainUserID es el ID del mainUser (que es el usuario para el que estamos prediciendo valoraciones)
-     * @param numberOfRecommendations es el numero de recomendaciones que nos interesa hacerle a mainUser
-     * @param itemsRatedByMainUser son las valoraciones de mainUser
-     * \post Retorna \a numberOfRecommendations recomendaciones ordenadas por valoracion decreciente. Si \a numberOfRecommendations es mayor a la cantidad de ítems en el sistema sobre los cuales se pueden hacer predicciones, retornará ese número de predicciones.
-     */
-    private ArrayList<Rating> SlopeOne(ArrayList<Integer> SimilarUsersID, int mainUserID, int numberOfRecommendations, ArrayList<Rating> itemsRatedByMainUser) {
-
-        int numberOfItemsRatedByMainUser = itemsRatedByMainUser.size();
-
-        // rellenamos la matriz ratingsOfSimilarUsersToRatedItemsOfMainUser:
-        int numberOfSimilarUsers = SimilarUsersID.size();
-        ArrayList<ArrayList<Float>> ratingsOfSimilarUsersToRatedItemsOfMainUser = new ArrayList<ArrayList<Float>>(); //SIZE FINAL= numberOfSimilarUsers
-        for (int i = 0; i < numberOfSimilarUsers; i++) {
-            ArrayList<Float> ratingOfOneUserToTheItemsRatedByMainUser = new ArrayList<Float>(); //SIZE FINAL= numberOfItemsRatedByMainUser
-            int userID = SimilarUsersID.get(i);
-            // bucle (var induccion j) sobre las pelis vistas por el mainUser. Si esa peli tambien la ha visto el user "i", pongo en la posicion j del vector
-            // RatingOfOneUserToTheItemsRatedByMainUser la nota que le habia dado el user "i". Si no, pongo en esa posición un -1:
-            for(int j = 0; j < numberOfItemsRatedByMainUser; j++) {
-                // vemos la nota que le había puesto un usuario afin al mainuser a uno de los items (j) valorados por mainUser (-1.0 si no hay valoracion)
-                float rating = RatingOfOneUserToAnItem(userID, itemsRatedByMainUser.get(j).GetItemID());
-                // y eso lo ponemos en el vector de valoraciones de un cierto user (i) a las pelis vistas por el mainUser:
-                ratingOfOneUserToTheItemsRatedByMainUser.add(rating);
-            }
-            // cuando tenemos correcto el vector de valoraciones de un cierto user (i) a las pelis vistas por el mainUser, lo ponemos en el vector de vectores donde cada posicion representaba A UN CIERTO USER AFIN (donde la info que guardamos de ese user afin son sus ratings a las pelis vistas por el main user)
-            ratingsOfSimilarUsersToRatedItemsOfMainUser.add(ratingOfOneUserToTheItemsRatedByMainUser);
-        }
-
-        // vector con predicciones (o sea, vector de los UnratedItems). Contiene todos los items que NO ha valorado el user con la nota predicha (-1 para aquellos que o aún no contienen nada válido o que no se ha podido predecir porque por ejemplo ningun usuario mas del cluster lo ha valorado:
-        // ESTE VECTOR PODRIA HABER SIDO LLAMADO itemsUnratedByMainUser !!!!!!!
-        ArrayList<Rating> predictions = new ArrayList<Rating>(); // EQUIVALE A ItemsUnratedByMainUser. Solo que su valoracion es -1 cuando actua como ItemsUnrated o es un cierto real entre 0 y 5 cuando actua de prediccion
-        ArrayList<Item> itemsInTheSystem = DataManager.GetInstance().GetAllItems();
-        int numberOfItemsInTheSystem = itemsInTheSystem.size();
-        for (Item item : itemsInTheSystem){
-            if(!WasThatItemRatedByMainUser(item, itemsRatedByMainUser)){
-                Rating itemToPredictScore = new Rating(mainUserID, item.GetItemId(), -1.0f);
-                predictions.add(itemToPredictScore);
-            }
-        }
-
-        // rellenamos la matriz ratingsOfSimilarUsersToUnratedItemsOfMainUser:
-        int numberItemsToPredict = predictions.size();
-        ArrayList<ArrayList<Float>> ratingsOfSimilarUsersToUnratedItemsOfMainUser = new ArrayList<ArrayList<Float>>(); //SIZE FINAL=numberItemsToPredict
-        for(int i = 0; i < numberOfSimilarUsers; i++) {
-            ArrayList<Float> ratingOfOneUserToTheItemsUnratedByMainUser = new ArrayList<Float>(); //SIZE FINAL= numberItemsToPredict
-            int userID = SimilarUsersID.get(i);
-            for(int j = 0; j < numberItemsToPredict; j++) {
-                float rating = RatingOfOneUserToAnItem(userID, predictions.get(j).GetItemID()); //-1.0 si no hay rating. Y RECUERDA QUE EL VECTOR PREDICTIONS CONTIENE LOS ItemsUnratedByMainUser
-                ratingOfOneUserToTheItemsUnratedByMainUser.add(rating);
-            }
-            ratingsOfSimilarUsersToUnratedItemsOfMainUser.add(ratingOfOneUserToTheItemsUnratedByMainUser);
-        }
-
-
-        if(numberOfItemsInTheSystem != numberItemsToPredict + numberOfItemsRatedByMainUser) System.out.println("ALERT: numberOfItemsInTheSystem != numberItemsToPredict + numberOfItemsRatedByMainUser, y debería ser igual. En concreto numberOfItemsInTheSystem = " + numberOfItemsInTheSystem + ", numberItemsToPredict = " + numberItemsToPredict + ", numberOfItemsRatedByMainUser = " + numberOfItemsRatedByMainUser);
-
-        // En este punto tenemos las matrices de ratingsOfSimilarUsersToRATEDItemsOfMainUser y ratingsOfSimilarUsersToUNRATEDItemsOfMainUser, con las notas de cada uno de esos users a cada uno de esos items.
-        // La gracia está en que los users representados por cada fila en esas matrices son el mismo en uno y otro.
-
-
-        //para cada uno de los items a predecir vemos sus desviaciones con los demas items que habia valorado el user. Y con ello podemos calcular las predicciones:
-        for (int i = 0; i < numberItemsToPredict; i++) {
-            ArrayList<Float> ratingJplusDeviationIandJ = new ArrayList<Float>(); //Almacena esto: lo siguiente: rating main user sobre item j + desviacion entre i y j (pero solamente si esa desviacion era calculable. Si no, no se ocupara ninguna posicion de este vector). Por ende, la cardinalidad de este vector será <= numberofitemsratedbymainuser
-            // Calculamos la desviacion del item a predecir (i) con los otros items (j) y almacenamos en el cada posicion del vector ratingJplusDeviationIandJ, que en la linea de arriba está explicado lo que almacena.
-            for (int j = 0; j < numberOfItemsRatedByMainUser; j++) {
-                // Ahora, para la desviacion de un cierto item a predecir (i) con otro cierto item (j) de los usados para calcular la desviacion (que son los que habia valorado el user) debemos ver la resta de las valoraciones de los users entre un item y otro. Y así luego calcular la media para tener la desviacion entre ambos items:
-                int numberOfUsersRatingItemIandItemJ = 0;
-                float sumOfDifferences = 0;
-                //Para TODOS los similarUsers que hayan rateado I y J tengo que hacer la resta de esos ratings (ratingI-ratingJ) e irlo sumando a la variable Sum esa e ir haciendo number++.
-                for (int k = 0; k < numberOfSimilarUsers; k++){
-                    float ratingOfUserKToItemI = ratingsOfSimilarUsersToUnratedItemsOfMainUser.get(k).get(i);
-                    float ratingOfUserKToItemJ = ratingsOfSimilarUsersToRatedItemsOfMainUser.get(k).get(j);
-                    // item i es uno de los items a predecir e item j es uno de los items que ya habia valorado el mainuser.
-                    if(ratingOfUserKToItemI != -1.0f && ratingOfUserKToItemJ != -1.0f) {
-                        sumOfDifferences += (ratingOfUserKToItemI - ratingOfUserKToItemJ);
-                        numberOfUsersRatingItemIandItemJ++;
-                    }
-                }
-                //Con los datos recogidos, calculo desviacion entre item i e item j:
-                float mediaDesviacionesDeLosUsersParaIyJ;
-                if (numberOfUsersRatingItemIandItemJ != 0) mediaDesviacionesDeLosUsersParaIyJ = sumOfDifferences / (float)numberOfUsersRatingItemIandItemJ;
-                else mediaDesviacionesDeLosUsersParaIyJ = Float.MIN_VALUE; // si la media de las diferencias vale Float.MIN_VALUE es que no existe ningun SimilarUser que haya valorado tanto el item I a predecir como el J.
-
-                //sumo la nota de mainUser sobre el item j y la desviacion entre el item a predecir i y el item j, y todos esos resultados los almaceno en el vector ratingJplusDeviationIandJ:
-                if (mediaDesviacionesDeLosUsersParaIyJ != Float.MIN_VALUE) {
-                    ratingJplusDeviationIandJ.add(itemsRatedByMainUser.get(j).GetRating() + mediaDesviacionesDeLosUsersParaIyJ);
-                }
-            }
-
-            // Calculamos el valor predicho de i en base a hacer SUMATORIO(valoracion main user a item j + desviacion entre i y j) / num elementos validos en el sumatorio de arriba. (si la desviacion entre i y j es MIN_VALUE, eso no participara en el sumatorio, porque significa que no se ha podido obtener un dato bueno de esa desviacion).
-            // Ese sumatorio lo haremos sumando los elementos del vector ratingJplusDeviationIandJ, y el denominador sera su cardinalidad
-            float predictedRatingI = 0.0f;
-            if(ratingJplusDeviationIandJ.size() == 0) {
-                predictedRatingI = Float.MIN_VALUE; // No podemos predecir el item I porque no habia ningun usuario que hubiese votado tanto el item I como alguno de los items que habia votado el mainUser
-                //System.out.println("DEBUG (esto puede ocurrir): Tenemos una prediccion imposible de realizar");
-            }
-            else {
-                float sumaDePrediccionesDeIenBaseAUnJ = 0.0f;
-                for(Float prediccionDeIenBaseAUnJ : ratingJplusDeviationIandJ){
-                    sumaDePrediccionesDeIenBaseAUnJ += prediccionDeIenBaseAUnJ;
-                }
-                predictedRatingI = sumaDePrediccionesDeIenBaseAUnJ / ratingJplusDeviationIandJ.size();
-            }
-
-        /*
-            if(predictedRatingI > 100.f) System.out.println("ALERT: Ojo que un valor predicho supera el valor 100 (cuando no deberia superar mucho el 5)...");
-            if(predictedRatingI > maxRatingValue) predictedRatingI = maxRatingValue;
-            else if (predictedRatingI < 0.0f && predictedRatingI > Float.MIN_VALUE){ //antes de realizarse este if, predictedRatingI podia valer MIN_FLOAT si era imposible de predecir o nevativa a secas si el valor predicho era negativo (o sea, una basura)
-                predictedRatingI = 0.0f;
-                System.out.println("DEBUG (esto puede ocurrir): La prediccion se ha podido realizar pero es una prediccion tan mala que vale negativa");
-            }
-        */
-
-            //las predicciones al vector de predicciones:
-
-            Rating predictionItemI = predictions.get(i);
-            predictionItemI.SetRating(predictedRatingI);
-            predictions.set(i, predictionItemI);
-            //NOTA: Las columnas de la matriz ratingsOfSimilarUsersToUnratedItemsOfMainUser y del vector predictions representan los mismos itemsID!
-
-        }
-
-        // Ordenamos las predicciones DE FORMA DECRECIENTE: (las imposibles de predecir valen MIN_FLOAT)
-        predictions.sort(new Comparator<Rating>() {
-            @Override
-            public int compare(Rating o1, Rating o2) {
-                return Float.valueOf(o2.GetRating()).compareTo(Float.valueOf(o1.GetRating()));
-            }
-        });
-
-        // coger las predicciones que seran recomendaciones. Eso seran las numberOfPredictions del vector "predicciones" mas altas, salvo que ese numero sea menor al numero de predicciones distintas a -1.0 que entonces retornaria las distinas a -1 y ya:
-        ArrayList<Rating> recommendation = new ArrayList<Rating>();
-        numberOfRecommendations = Math.min(numberOfRecommendations, predictions.size());
-        for(int i = 0; i < numberOfRecommendations; i++){
-            Rating recommendationI = predictions.get(i);
-            // Hemos podido predecir por encima del tope o por debajo el minimo, así que en ese caso ponemos esos valores como toca:
-            if(recommendationI.GetRating() > maxRatingValue*10.0f) System.out.println("ALERT: Ojo que un valor predicho supera por mucho al maximo valor de prediccion que debemos dar...");
-            if(recommendationI.GetRating() > maxRatingValue) recommendationI.SetRating(maxRatingValue);
-            else if (recommendationI.GetRating() < 0.0f && recommendationI.GetRating() > Float.MIN_VALUE){ //antes de realizarse este if, predictedRatingI podia valer MIN_FLOAT si era imposible de predecir o negativa a secas si el valor predicho era negativo (o sea, una basura)
-                recommendationI.SetRating(0.0f);
-                System.out.println("DEBUG (esto puede ocurrir): La prediccion se ha podido realizar pero es una prediccion tan mala que vale negativa");
-            }
-            // en este punto las notas de las prediccioines van entre 0.0 y el valor max de nota salvo para las que no se ha podido predecir, que vale MIN_FLOAT
-            // IMPORTANTE: La segunda condicion del if es completamente necesaria porque no sé por qué si vale MIN_FLOAT lo interpreta como >=0.0f
-            if (recommendationI.GetRating() >= 0.0f && recommendationI.GetRating() != Float.MIN_VALUE) { //IMPORTANTE: Nota que la primera condicion del if es inútil, pero si en el futuro quiero decir (lo que esté por debajo del 2.0 no lo recomiendes) pues sí que me servirá (y cambiaría 0.0 por 2.0).
-                recommendation.add(recommendationI);
-            }
-            else break; // va ordenado de mayor a menor. En el momento en que llegamos al primer valor de prediccion a partir del cual ya no lo queremos contar como recomendacion, paramos. (Si admitimos hasta el 0.0, pararemos en el primer elemento NO PREDECIBLE (valor MIN_FLOAT) que nos encontremos)
-        }
-
-        return recommendation; //el subset de las "numberOfRecomendations" predicciones con nota mas alta
-    }
-
-    // IMPORTANTE: Es completamente necesario pasar ese userID como Integer y no como int, ya que en el .remove(userID) interpretara ese userID como indice si lo hemos pasado como int o lo interpretara como contenido si lo hemos pasado como Integer
-    /** @brief Función recomendadora que hará la recomendación a \ExistantUserIDRecommend (un usuario que existiese previamente en el dataset que se nos dio en la asignatura) en base a Kmeans+SlopeOne.
-     *
-     * \pre \a ExistantUserIDRecommend tiene que ser un usuario que se encuentre en el dataset que se nos proporcionó en la asignatura, es decir, no puede ser un usuario que hayamos creado a partir de nuestra interfaz grafica aparte, debe ser un Integer, no un int. \a numberOfRecommendations > 0
-     * @param ExistantUserIDRecommend es el ID del usuario al que queremos recomendar
-     * @param numberOfRecommendations es el número de recomendaciones que queremos hacer
-     * \post Retorna \a numberOfRecommendations recomendaciones ordenadas por valoración decreciente. Si \a numberOfRecommendations es mayor a la cantidad de ítems en el sistema sobre los cuales se pueden hacer predicciones, retornará ese número de predicciones.
-     */
-    public ArrayList<Rating> Recommend(Integer ExistantUserIDRecommend, int numberOfRecommendations) throws NoExistingUserIDException {
-        ArrayList<Rating> recommendation = new ArrayList<Rating>();
-        if(KgroupsEmpty){ // Es extremadamente probable (almenos en la 1a entrega) que nos den un set de users con sus valoraciones y simplemente pidan recomendaciones
-            // para varios users. Por tanto, seria una tonteria computar el Kmeans de nuevo en cada una de esas peticiones si no cambian ni los users ni los ratings.
-            Kmeans();
-        }
-        /* TODO: el if de arriba lo tengo que cambiar por algo de este estilo:
-        Kgroups = data manager get kgroups con k=10
-        if(kgroups es null) {
-            Kmeans(); //esto ya pide dentro ratingsmap y computa kgroups y centroids
-            mandarle Kgroups y centroids a data manager;
-        }
-        else {
-            pedir centroids y ratingsmap a datamanager;
-        }
-         */
-        ArrayList<Integer> usersIDofSimilarUsers = UsersIDofSimilarUsers(ExistantUserIDRecommend);
-        if (usersIDofSimilarUsers == null) throw new NoExistingUserIDException();
-        usersIDofSimilarUsers.remove(ExistantUserIDRecommend);
-        recommendation = SlopeOne(usersIDofSimilarUsers, ExistantUserIDRecommend, numberOfRecommendations, ratingsMap.get(ExistantUserIDRecommend));
-
-        //OJOOOO: El array de usersIDofSimilarUsers usalo de solo lectura, que si no realmente estaras modificando un grupo del Kgroups (recuerda que java funciona por referencias). Aunque creo que realmente no lo necesitas modificar para nada
-
-        return recommendation;
-    }
-
-    /** @brief Función recomendadora que hará la recomendación a un usuario que hemos creado a través de la interfaz gráfica (en lugar de ser un user preexistente en el dataset que nos dieron en la asignatura) en base a Kmeans+SlopeOne.
-     *
-     * \pre \a newUserID tiene que ser un usuario que NO se encuentre en la base de datos de ratings que se nos entregó como dataset en la asignatura; aparte, debe ser un Integer, no un int. \a numberOfRecommendations > 0. \a ratingsOfThatUser son los ratings de ese usuario nuevo.
-     * @param newUserID es el ID del usuario al que queremos recomendar
-     * @param ratingsOfThatUser son las valoraciones conocidas de ese usuario
-     * @param numberOfRecommendations es el numero de recomendaciones que queremos hacer
-     * \post Retorna \a numberOfRecommendations recomendaciones ordenadas por valoracion decreciente. Si \a numberOfRecommendations es mayor a la cantidad de ítems en el sistema sobre los cuales se pueden hacer predicciones, retornará ese número de predicciones.
-     */
-    public ArrayList<Rating> Recommend (Integer newUserID, ArrayList<Rating> ratingsOfThatUser, int numberOfRecommendations) {
-        ArrayList<Rating> recommendation = new ArrayList<Rating>();
-        if(KgroupsEmpty){
-            Kmeans();
-        }
-
-        //Busca el grupo de usuarios más afín al newUserID:
-        int indexCloserCentroid = -1;
-        double distanceToCloserCentroid = Double.MAX_VALUE;
-        for (int i = 0; i < K; i++) {
-            double distance = DistanceBetweenUsers(ratingsOfThatUser, centroids.get(i));
-            if (distance < distanceToCloserCentroid) {
-                distanceToCloserCentroid = distance;
-                indexCloserCentroid = i;
-            }
-        }
-        if(indexCloserCentroid == -1) System.out.println("ALERT: NO HE ENCONTRADO EL GRUPO DE USUARIOS MÁS AFIN AL USUARIO");
-        ArrayList<Integer> usersIDofSimilarUsers = Kgroups.get(indexCloserCentroid);
-        recommendation = SlopeOne(usersIDofSimilarUsers, newUserID, numberOfRecommendations, ratingsOfThatUser);
-        return recommendation;
-    }
-
-    /** @class FrequencyAndSumOfScores
-     *   @brief Clase privada que actua de par de int y float
-     *
-     *   Se utiliza simplemente como un par de int y float, representando la cantidad de valoraciones a un item y la suma de esas valoraciones, respectivamente, usada simplemente para facilitar la tarea a algunas funciones del CollaborativeFiltering y facilitar la comprensión del código gracias a los nombres de sus atributos.
-     */
-    private class FrequencyAndSumOfScores{
-        protected int frequency;
-        protected float scoreSum;
-        protected FrequencyAndSumOfScores(int frequency, float scoreSum) {
-            this.frequency = frequency;
-            this.scoreSum = scoreSum;
-        }
-    }
+/** @file CollaborativeFiltering.java
+ *  @brief Contiene la clase CollaborativeFiltering
+ */
+
+package fxsrc.propyecto.domain;
+
+import fxsrc.propyecto.data.ClusterAssignment;
+import fxsrc.propyecto.data.IdDictionary;
+import fxsrc.propyecto.data.RatingMatrix;
+import fxsrc.propyecto.enums.KMeansModes;
+import fxsrc.propyecto.enums.KMeansSeedings;
+import fxsrc.propyecto.enums.KMeansStopReasons;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+/** @class CollaborativeFiltering
+ *   @brief Clase encargada de recibir peticiones de recomendación basándose en el CollaborativeFiltering. Hereda de la clase \a Recommender
+ *
+ *   Ofrece operaciones de recomendación de items, basadas en agrupación de usuarios similares mediante el algoritmo Kmeans (donde la K es un parámetro en la construcción de la clase) y la posterior recomendación de items basada en los gustos de los usuarios similares haciendo uso de SlopeOne.
+ */
+public class CollaborativeFiltering extends Recommender{
+
+    /** @brief \a K es la cantidad de agrupaciones de usuarios distintas que queremos.
+     */
+    private int K;
+
+    /** @brief \a options es la configuración del entrenamiento de Kmeans (completo o por mini-batches)
+     */
+    private KMeansOptions options;
+
+    /** @brief \a Kgroups son las K agrupaciones de usuarios similares distintas que tenemos.
+     */
+    private ArrayList<ArrayList<Integer>> Kgroups; //Vector of K positions, which each position has the group of UsersID which have similar likes.
+
+    /** @brief \a clusterAssignment guarda el grupo de \a Kgroups en el que está cada usuario, para encontrarlo, sacarlo y meterlo en tiempo constante.
+     */
+    private ClusterAssignment clusterAssignment;
+
+    /** @brief \a KgroupsEmpty indica si \a Kgroups está vacío o no, para saber si se debe calcular o ya se ha calculado.
+     */
+    private boolean KgroupsEmpty; //porque no puedo usar el metodo Kgroups.IsEmpty porque en la constructora lo inicializo con k posiciones (que contendran basura), asi que siempre daria que no está vacio
+
+    /** @brief \a ratingMatrix guarda, para cada usuario (una fila por usuario), todas sus valoraciones existentes en el sistema ordenadas por itemID, en arrays primitivos.
+     */
+    private RatingMatrix ratingMatrix; //Lo pongo como variable global porque lo uso en Kmeans y SlopeOne
+
+    /** @brief \a centroids almacena los K centroides, uno por cada agrupación de usuarios. Un centroide representa el centro de gustos dentro de un grupo de usuarios similares
+     */
+    private ArrayList<ArrayList<Rating>> centroids;
+
+    /** @brief \a centroidItemIDs guarda, para cada centroide, los itemID de sus valoraciones ordenados de forma creciente (misma información que \a centroids pero en arrays primitivos)
+     */
+    private int[][] centroidItemIDs;
+
+    /** @brief \a centroidValues guarda, para cada centroide, sus valoraciones en el mismo orden que \a centroidItemIDs
+     */
+    private float[][] centroidValues;
+
+    /** @brief \a centroidIndex es el índice invertido (item -> centroides) de \a centroidItemIDs y \a centroidValues, para buscar el cluster de un usuario nuevo.
+     *  Es null si algún centroide ha cambiado desde que se construyó
+     */
+    private CentroidIndex centroidIndex;
+
+    /** @brief \a clusterDeviations guarda la tabla de desviaciones de SlopeOne de cada cluster, calculada a partir de \a ratingMatrix la primera vez que se recomienda con ese cluster.
+     *  Es null si aún no se ha calculado ninguna desde el último Kmeans
+     */
+    private SlopeOneDeviations[] clusterDeviations;
+
+    /** @brief \a clusterDeviationsVersion guarda, para cada tabla de \a clusterDeviations, el número de cambios de su cluster en \a clusterAssignment cuando se calculó.
+     *  Si el cluster ha cambiado desde entonces (por ejemplo, al actualizar Kmeans de forma incremental) la tabla se vuelve a calcular
+     */
+    private int[] clusterDeviationsVersion;
+
+    /** @brief \a itemIndexOfMatrixColumn es el índice interno del item de cada columna de \a ratingMatrix, para pasar de las desviaciones a los items del sistema en SlopeOne.
+     *  Es null si aún no se ha calculado desde el último Kmeans
+     */
+    private int[] itemIndexOfMatrixColumn;
+
+    /** @brief \a kmeansStats son las estadísticas del último entrenamiento de Kmeans (null si los grupos se han cargado del fichero o aún no se han calculado)
+     */
+    private KMeansStats kmeansStats;
+
+    /** @brief \a centroidTruncation guarda, para cada centroide recalculado en la última iteración de Kmeans, los items quitados por pasar de
+     *  options.GetMaxCentroidItems(), las valoraciones de su cluster a esos items y todas las valoraciones de su cluster (3 posiciones por centroide).
+     *  Es null si no hay máximo de items por centroide
+     */
+    private long[] centroidTruncation;
+
+    /** @brief \a PARALLEL_CHUNK es el número de usuarios a partir del cual una tarea de ParallelFor se divide en dos
+     */
+    private static final int PARALLEL_CHUNK = 256;
+
+    /** @brief \a BOUND_SLACK es el margen relativo que se añade al mover las cotas de Kmeans. Las diferencias de notas se restan en float (error relativo de 6e-8),
+     *  así que con este margen los errores de redondeo nunca hacen las cotas demasiado ajustadas
+     */
+    private static final double BOUND_SLACK = 1e-6;
+
+    /** @brief \a MIN_RATINGS_OF_SEED es el número mínimo de valoraciones que debe tener un usuario para ser un centroide inicial
+     */
+    private static final int MIN_RATINGS_OF_SEED = 15;
+
+    /** @brief \a maxRatingValue almacena el valor máximo que puede dar un user a un item
+     */
+    private static final float maxRatingValue = DataManager.GetInstance().GetMaxRating();
+
+    /** @brief Constructora de CollaborativeFiltering.
+     *
+     * \pre \a K >= 1
+     * @param k es la K deseada para Kmeans
+     * \post Se crea una instancia de la clase CollaborativeFiltering, lista para dar recomendaciones utilizando K grupos distintos para ello, que se calculan con Kmeans completo.
+     */
+    public CollaborativeFiltering(int k) {
+        this(k, KMeansOptions.FullBatch());
+    }
+
+    /** @brief Constructora de CollaborativeFiltering indicando cómo se entrena Kmeans.
+     *
+     * \pre \a K >= 1 y \a options no es null
+     * @param k es la K deseada para Kmeans
+     * @param options es la configuración del entrenamiento de Kmeans (KMeansOptions.FullBatch() o KMeansOptions.MiniBatch(...))
+     * \post Se crea una instancia de la clase CollaborativeFiltering, lista para dar recomendaciones utilizando K grupos distintos para ello.
+     */
+    public CollaborativeFiltering(int k, KMeansOptions options) {
+        K = k;
+        this.options = options;
+        Kgroups = new ArrayList<ArrayList<Integer>>(k);
+        for (int i = 0; i < k; i++) Kgroups.add(new ArrayList<Integer>()); //necesario para que tenga el size que quiero. Porque el constructor le da initialcapacity pero si luego intento indexar elemento da error. FINAL SIZE= K
+        KgroupsEmpty = true;
+        centroids = new ArrayList<ArrayList<Rating>>(); //cada centroide emula un user. Pero como su userID nos da igual por eso solamente damos un vector de pares de peli+valoracion
+        centroidItemIDs = new int[k][];
+        centroidValues = new float[k][];
+
+    }
+
+    /** @brief Retorna las estadísticas del último entrenamiento de Kmeans
+     *
+     * \pre <em>Cierto</em>
+     * \post Retorna el número de iteraciones, el tiempo de cada una y los usuarios que han cambiado de grupo en cada una, o null si los grupos se han cargado del fichero o aún no se han calculado.
+     */
+    public KMeansStats GetKMeansStats() {
+        return kmeansStats;
+    }
+
+    /** @brief Retorna la distancia entre un usuario (o cualquier vector de valoraciones ordenado por itemID) y un centroide
+     *
+     * La fórmula utilizada para calcular la distancia es la raiz cuadrada de la suma de los cuadrados de las diferencias de notas entre esos dos items para un cierto user. Solo se tienen en cuenta aquellos items que hayan valorado ambos.
+     * Como las valoraciones del usuario y las del centroide están ordenadas por itemID, los items en común se encuentran con un merge (SparseDistance) en lugar de un doble bucle.
+     *
+     * \pre Las posiciones entre \a start y \a end de \a itemIDs están ordenadas de forma estrictamente creciente y los arrays del centroide \a centroidIndex están al día
+     * @param itemIDs son los itemID de las valoraciones del usuario
+     * @param values son las notas de las valoraciones del usuario
+     * @param start es la primera posición del usuario dentro de los arrays
+     * @param end es la posición siguiente a la última del usuario
+     * @param centroidIndex es el índice del centroide
+     * \post Retorna la distancia entre el usuario y el centroide. Esa distancia puede llegar a ser un número muy alto en caso de que no haya ninguna similitud entre ellos.
+     */
+    private double DistanceBetweenUsers(int[] itemIDs, float[] values, int start, int end, int centroidIndex) {
+        int[] centroidItems = centroidItemIDs[centroidIndex];
+        return DistanceFromSquared(SparseDistance.SquaredDistance(itemIDs, values, start, end, centroidItems, centroidValues[centroidIndex], 0, centroidItems.length));
+    }
+
+    /** @brief Pasa la suma de cuadrados que devuelve SparseDistance a la distancia entre 2 usuarios
+     *
+     * \pre <em>Cierto</em>
+     * @param squaredDistance es la suma de cuadrados de las diferencias, o -1.0 si no hay items en común
+     * \post Retorna la raíz cuadrada de \a squaredDistance, o 999999999.0 si no había ningún item en común.
+     */
+    private double DistanceFromSquared(double squaredDistance) {
+        double distance = 999999999.0; //No pongo MAX_DOUBLE porque en caso de no tener ningun item en común no funcionaría el "if(distanceToCentroidOfClusterJ < distanceToCentroidOfNearestCluster)" porque ese distanceToCentroidOfNearestCluster vale MAX_DOUBLE, entonces
+        //aqui tampoco puedo poner MAX_DOUBLE-1 porque es tan enorme el valor de MAX_DOUBLE (*10^308) que poner un -1 obviamente lo desprecia y se sigue codificando como MAX_DOUBLE
+        if(squaredDistance >= 0.0)
+            distance = Math.sqrt(squaredDistance);
+        //Si no tiene nada en comun, la distancia será 999999999
+        return distance;
+    }
+
+    /** @brief Retorna la distancia entre un usuario de \a ratingMatrix y un centroide
+     *
+     * Misma fórmula que DistanceBetweenUsers, leyendo las valoraciones del usuario directamente de la fila de \a ratingMatrix sin crear ningún objeto.
+     *
+     * \pre \a userRow es una fila válida de \a ratingMatrix y los arrays del centroide \a centroidIndex están al día
+     * @param userRow es la fila del usuario en \a ratingMatrix
+     * @param centroidIndex es el índice del centroide
+     * \post Retorna la distancia entre el usuario y el centroide (999999999.0 si no tienen ningún item en común).
+     */
+    private double DistanceBetweenUserAndCentroid(int userRow, int centroidIndex) {
+        return DistanceBetweenUsers(ratingMatrix.GetRowItemIDs(), ratingMatrix.GetRowValues(), ratingMatrix.GetRowStart(userRow), ratingMatrix.GetRowEnd(userRow), centroidIndex);
+    }
+
+    /** @brief Actualiza los arrays primitivos ordenados del centroide \a centroidIndex a partir de \a centroids
+     *
+     * \pre 0 <= \a centroidIndex < \a centroids.size()
+     * @param centroidIndex es el índice del centroide que ha cambiado
+     * \post \a centroidItemIDs y \a centroidValues del centroide contienen sus valoraciones ordenadas por itemID, y \a centroidIndex deja de estar al día.
+     */
+    private void UpdateCentroidArrays(int centroidIndex) {
+        this.centroidIndex = null;
+        ArrayList<Rating> centroid = centroids.get(centroidIndex);
+        centroidItemIDs[centroidIndex] = new int[centroid.size()];
+        centroidValues[centroidIndex] = new float[centroid.size()];
+        SparseDistance.SortByItem(centroid, centroidItemIDs[centroidIndex], centroidValues[centroidIndex]);
+    }
+
+
+
+    /** @brief Mueve a un user del grupo de Kgroups en el que se encuentre a otro grupo, cuyo índice es \a indexDestinationCluster
+     *
+     * El grupo actual del usuario se saca de \a clusterAssignment, así que no hace falta buscarlo en todos los grupos.
+     *
+     * \pre indexDestinationCluster >= 0 y < K. Y userID es el userID de un usuario existente en el sistema.
+     * @param indexDestinationCluster es el índice que representa el cluster al que queremos mover a un usuario
+     * @param userID es el ID del usuario que queremos mover de cluster
+     * \post El usuario con ese \a userID sale del grupo de usuarios en el que estaba (el último usuario de ese grupo ocupa su posición) y se añade al final del grupo destino.
+     */
+    private void ChangeUserBetweenClusters(int indexDestinationCluster, int userID){
+        if(clusterAssignment.GetCluster(userID) == -1) System.out.println("ALERT: se intenta mover de cluster a un usuario que no esta en ningun cluster");
+        clusterAssignment.Add(userID, indexDestinationCluster);
+    }
+
+
+    //private void DeepCopyArrayListsOfRatings(ArrayList<Rating> source, ArrayList<Rating> destination) {
+    //    Iterator<Rating> it = source.iterator();
+    //    while (it.hasNext()) {
+    //        Rating element = it.next();
+    //        Rating newElement = new Rating(element.GetUserID(), element.GetItemID(), element.GetRating()); //la intenté hacer templatizada pero esto de aquí no sé como hacerlo si es templatizada
+    //        destination.add(newElement);
+    //   }
+    //}
+
+
+    /** @brief Se crean los \a K grupos de usuarios con gustos similares, siendo \a K el atributo de esta clase (se especificó en la constructora)
+     *
+     * Solo se volverá a computar Kmeans si no estaba ya computado
+     *
+     * \pre El atributo \a KgrupsEmpty tiene el valor \a true.
+     * \post Se crean los grupos de usuarios con gustos similares. Si se han calculado (y no cargado del fichero), \a kmeansStats contiene las estadísticas del entrenamiento.
+     */
+    private void Kmeans() {
+        clusterDeviations = null;
+        itemIndexOfMatrixColumn = null;
+        //los modelos guardados solo distinguen K y los Rating con los que se entrenaron, asi que solo se usan con la configuracion por defecto
+        ArrayList<ArrayList<Integer>> temp = options.IsDefault() ? DataManager.GetInstance().GetKMeans(K) : null;
+        if(temp != null) {
+            Kgroups = temp;
+            clusterAssignment = DataManager.GetInstance().GetClusterAssignment(K);
+            centroids = DataManager.GetInstance().GetCentroids(K);
+            for (int i = 0; i < centroids.size() && i < K; i++) UpdateCentroidArrays(i);
+            ratingMatrix = DataManager.GetInstance().GetRatingMatrixDB();
+            kmeansStats = null;
+            KgroupsEmpty = false;
+        }
+        else if (options.GetMode() == KMeansModes.MINI_BATCH) {
+            ratingMatrix = DataManager.GetInstance().GetRatingMatrixDB();
+            MiniBatchKmeans();
+            KgroupsEmpty = false;
+        }
+        else {
+            ratingMatrix = DataManager.GetInstance().GetRatingMatrixDB();
+            ArrayList<Integer> usersID = DataManager.GetInstance().GetAllUsersID();
+            int[] userRows = new int[usersID.size()]; //fila de ratingMatrix de cada usuario de usersID
+            for (int i = 0; i < usersID.size(); i++) userRows[i] = ratingMatrix.GetUserRow(usersID.get(i));
+            kmeansStats = new KMeansStats();
+            long startTime = System.nanoTime();
+
+            //indice interno (denso) del item de cada columna de ratingMatrix, para acumular las medias de los centroides en arrays en lugar de en un HashMap
+            IdDictionary itemsDictionary = DataManager.GetInstance().GetItemsDictionary();
+            int[] itemIndexOfColumn = new int[ratingMatrix.GetNumberOfItems()];
+            for (int c = 0; c < itemIndexOfColumn.length; c++) itemIndexOfColumn[c] = itemsDictionary.GetIndex(ratingMatrix.GetItemID(c));
+            //cada hilo usa sus propios acumuladores (numero de usuarios del cluster que han valorado cada item, suma de sus notas, e indices de los items vistos en orden de aparicion)
+            ThreadLocal<CentroidAccumulator> accumulators = ThreadLocal.withInitial(() -> new CentroidAccumulator(itemsDictionary.Size()));
+            ThreadLocal<BoundsScratch> boundsScratch = ThreadLocal.withInitial(() -> new BoundsScratch(K));
+            int[] nearest = new int[usersID.size()]; //centroide mas cercano de cada usuario, calculado en paralelo
+            int[] clusterOfUser = new int[usersID.size()]; //cluster en el que esta ahora cada usuario
+            //cotas de Hamerly: upperBounds[i] >= distancia del usuario i a su centroide, lowerBounds[i] <= distancia a cualquier otro centroide
+            double[] upperBounds = new double[usersID.size()];
+            double[] lowerBounds = new double[usersID.size()];
+            int centroidWords = (K + 63) / 64;
+            long[] changedCentroidsOfItem = new long[itemsDictionary.Size() * centroidWords]; //para cada item, bits de los centroides que lo han ganado o perdido en la iteracion
+            double[] drift = new double[K]; //cuanto se ha movido cada centroide en la iteracion
+            centroidTruncation = options.GetMaxCentroidItems() > 0 ? new long[3 * K] : null;
+            LongAdder evaluatedDistances = new LongAdder();
+            LongAdder skippedDistances = new LongAdder();
+
+            // INIT OF THE K CENTROIDS:
+            SeedCentroids(userRows);
+
+            //INICIALIZACION KGROUPS USANDO LOS CENTROIDES INICIALES:
+            ParallelFor(userRows.length, i -> nearest[i] = NearestCentroidWithBounds(userRows[i], i, upperBounds, lowerBounds));
+            clusterAssignment = new ClusterAssignment(Kgroups, DataManager.GetInstance().GetUsersDictionary());
+            for (int i = 0; i < usersID.size(); i++) {
+                int nearestCluster = nearest[i];
+                clusterOfUser[i] = nearestCluster;
+                if (nearestCluster == -1)
+                    System.out.println("ALERT: nearest cluster vale -1. Esta linea pertenece al codigo de inicializacion Kgroup");
+                clusterAssignment.Add(usersID.get(i), nearestCluster);
+            }
+            kmeansStats.SetSeedingNanos(System.nanoTime() - startTime);
+
+            //En este punto ya tenemos los clusters hechos a partir de los centroides iniciales.
+            //A continuación vamos a ir reasignando los centroides a "la media de cada grupo" y cambiando a los usuarios de grupo en funcion a sus distancias a esos nuevos centroides,
+            //hasta que haya una iteración en la que cambien de grupo (cluster) como mucho maxMovedUsers usuarios (por defecto, ninguno). Ahí diremos que ha convergido.
+            //Si antes se llega al maximo de iteraciones, o pasan options.GetMaxIterationsWithoutProgress() iteraciones sin bajar el minimo de usuarios movidos, se para igualmente
+
+            int maxMovedUsers = (int) (options.GetMinMovedFraction() * usersID.size());
+            KMeansStopReasons stopReason = null;
+            int fewestMovedUsers = Integer.MAX_VALUE;
+            int iterationOfFewestMovedUsers = 0;
+            int numiters = 0;
+            while (stopReason == null) {
+                ++numiters;
+                long iterationStart = System.nanoTime();
+
+                //REASIGNACIÓN DE CENTROIDES:
+                //cada centroide será un usuario con todas las pelis de su cluster vistas y con la nota media de todas aquellas personas de su cluster que las hayan visto.
+                //Cada cluster se calcula en una tarea distinta, sumando las notas en el orden de sus usuarios, asi que el resultado no depende del numero de hilos
+                ArrayList<ArrayList<Rating>> newCentroids = new ArrayList<>(Collections.nCopies(K, (ArrayList<Rating>) null)); //cada tarea solo hace set de su posicion
+                ForkJoinPool.commonPool().invoke(new CentroidTask(newCentroids, 0, K, itemIndexOfColumn, itemsDictionary, accumulators));
+                if (centroidTruncation != null) {
+                    long droppedItems = 0, droppedRatings = 0, totalRatings = 0;
+                    for (int i = 0; i < K; i++) {
+                        droppedItems += centroidTruncation[3 * i];
+                        droppedRatings += centroidTruncation[3 * i + 1];
+                        totalRatings += centroidTruncation[3 * i + 2];
+                    }
+                    kmeansStats.SetCentroidTruncation(droppedItems, droppedRatings, totalRatings);
+                }
+                Arrays.fill(changedCentroidsOfItem, 0L);
+                for (int i = 0; i < K; i++) {
+                    int[] oldItemIDs = centroidItemIDs[i];
+                    float[] oldValues = centroidValues[i];
+                    //Y ahora reemplazamos el centroide de la iter anterior por el nuevo
+                    centroids.set(i, newCentroids.get(i));
+                    UpdateCentroidArrays(i);
+                    drift[i] = CentroidDrift(oldItemIDs, oldValues, i, itemsDictionary, changedCentroidsOfItem);
+                }
+
+                //CAMBIO DE USUARIOS A SUS NUEVOS CLUSTERS EN FUNCIÓN DE LOS NUEVOS CENTROIDES:
+                //las distancias se calculan en paralelo; los cambios de cluster se aplican despues en el orden de los usuarios, para que los clusters queden igual que en secuencial.
+                //Con las cotas de Hamerly se evita calcular las distancias de los usuarios que seguro que no cambian de grupo
+                evaluatedDistances.reset();
+                skippedDistances.reset();
+                UpdateAssignmentWithBounds(userRows, clusterOfUser, nearest, upperBounds, lowerBounds, drift, changedCentroidsOfItem, itemIndexOfColumn, boundsScratch, evaluatedDistances, skippedDistances);
+                int movedUsers = 0;
+                for (int i = 0; i < usersID.size(); i++) {
+                    int nearestCluster = nearest[i];
+                    if (nearestCluster == -1)
+                        System.out.println("ALERT: nearest cluster vale -1. Esta linea pertenece al codigo de convergencia");
+                    //Si el usuario no está en el cluster que nos interesa, lo sacamos del que este y lo ponemos en el que queremos:
+                    if (clusterOfUser[i] != nearestCluster) {
+                        ++movedUsers;
+                        ChangeUserBetweenClusters(nearestCluster, usersID.get(i));
+                        clusterOfUser[i] = nearestCluster;
+                    }
+                }
+                if (movedUsers < fewestMovedUsers) {
+                    fewestMovedUsers = movedUsers;
+                    iterationOfFewestMovedUsers = numiters;
+                }
+                if (movedUsers <= maxMovedUsers) stopReason = KMeansStopReasons.CONVERGED;
+                else if (numiters - iterationOfFewestMovedUsers >= options.GetMaxIterationsWithoutProgress()) stopReason = KMeansStopReasons.NO_PROGRESS;
+                else if (numiters >= options.GetMaxIterations()) stopReason = KMeansStopReasons.MAX_ITERATIONS;
+                kmeansStats.AddIteration(System.nanoTime() - iterationStart, movedUsers, evaluatedDistances.sum(), skippedDistances.sum());
+            }
+            kmeansStats.SetStopReason(stopReason);
+
+            KgroupsEmpty = false;
+            if (options.IsDefault()) DataManager.GetInstance().SetKMeans(K, clusterAssignment, centroids);
+
+            /*
+            System.out.println("DEBUG: users in ratingMatrix: " + ratingMatrix.GetNumberOfUsers() + " and number of users: " + usersID.size());
+            System.out.println("DEBUG: " + kmeansStats);
+            for (int i = 0; i < K; i++){
+                System.out.println("DEBUG: El cluster " + i + " tiene " + Kgroups.get(i).size() + " usuarios");
+            }
+             */
+        }
+
+
+    }
+
+    /** @brief Escoge los \a K centroides iniciales entre los usuarios con al menos \a MIN_RATINGS_OF_SEED valoraciones
+     *
+     * Con FIRST_USERS son los K primeros en el orden de \a userRows. Con KMEANS_PLUS_PLUS el primero se escoge al azar y cada uno de los siguientes
+     * con probabilidad proporcional al cuadrado de su distancia (la misma distancia dispersa de Kmeans) al centroide ya escogido más cercano,
+     * de forma que los centroides iniciales quedan repartidos. Si un usuario no tiene ningún item en común con un centroide, en lugar de la
+     * distancia 999999999 se usa la mayor distancia posible con sus valoraciones (todas con la máxima diferencia de nota), para que esos usuarios
+     * no se lleven toda la probabilidad.
+     *
+     * \pre \a centroids está vacío, \a ratingMatrix está cargada y hay al menos \a K usuarios con \a MIN_RATINGS_OF_SEED valoraciones o más
+     * @param userRows son las filas de \a ratingMatrix de los usuarios
+     * \post \a centroids contiene los K centroides iniciales (las valoraciones de los usuarios escogidos) y sus arrays están al día.
+     */
+    private void SeedCentroids(int[] userRows) {
+        if (options.GetSeeding() == KMeansSeedings.FIRST_USERS) {
+            int numberOfCentroids = 0;
+            for (int userRow : userRows) {
+                // cuantas mas valoraciones tengan los centroides iniciales, mas exacto sera todo:
+                if (ratingMatrix.GetRowSize(userRow) >= MIN_RATINGS_OF_SEED) {
+                    AddSeedCentroid(userRow);
+                    if(centroids.size() == K) break;
+                }
+            }
+            return;
+        }
+
+        int numberOfCandidates = 0;
+        for (int userRow : userRows) if (ratingMatrix.GetRowSize(userRow) >= MIN_RATINGS_OF_SEED) ++numberOfCandidates;
+        int[] candidates = new int[numberOfCandidates];
+        numberOfCandidates = 0;
+        for (int userRow : userRows) if (ratingMatrix.GetRowSize(userRow) >= MIN_RATINGS_OF_SEED) candidates[numberOfCandidates++] = userRow;
+
+        Random random = new Random(options.GetSeed());
+        AddSeedCentroid(candidates[random.nextInt(candidates.length)]);
+        double[] weights = new double[candidates.length]; //cuadrado de la distancia al centroide ya escogido mas cercano
+        Arrays.fill(weights, Double.MAX_VALUE);
+        int[] rowItemIDs = ratingMatrix.GetRowItemIDs();
+        float[] rowValues = ratingMatrix.GetRowValues();
+        while (centroids.size() < K) {
+            int lastCentroid = centroids.size() - 1;
+            int[] lastItemIDs = centroidItemIDs[lastCentroid];
+            float[] lastValues = centroidValues[lastCentroid];
+            //cada posicion solo depende de su usuario, asi que se puede calcular en paralelo sin cambiar el resultado
+            ParallelFor(candidates.length, c -> {
+                int userRow = candidates[c];
+                double squaredDistance = SparseDistance.SquaredDistance(rowItemIDs, rowValues, ratingMatrix.GetRowStart(userRow), ratingMatrix.GetRowEnd(userRow), lastItemIDs, lastValues, 0, lastItemIDs.length);
+                if (squaredDistance < 0.0) squaredDistance = (double) maxRatingValue * maxRatingValue * ratingMatrix.GetRowSize(userRow);
+                if (squaredDistance < weights[c]) weights[c] = squaredDistance;
+            });
+            double totalWeight = 0;
+            for (double weight : weights) totalWeight += weight;
+            int chosen = candidates.length - 1;
+            if (totalWeight > 0.0) {
+                double target = random.nextDouble() * totalWeight;
+                double accumulated = 0;
+                for (int c = 0; c < candidates.length; c++) {
+                    accumulated += weights[c];
+                    if (accumulated > target) {
+                        chosen = c;
+                        break;
+                    }
+                }
+            }
+            else chosen = random.nextInt(candidates.length); //todos los candidatos son iguales a algun centroide
+            AddSeedCentroid(candidates[chosen]);
+        }
+    }
+
+    /** @brief Añade como nuevo centroide las valoraciones de un usuario
+     *
+     * \pre \a userRow es una fila válida de \a ratingMatrix y \a centroids tiene menos de \a K centroides
+     * @param userRow es la fila del usuario en \a ratingMatrix
+     * \post Se añade al final de \a centroids una copia de las valoraciones del usuario y se actualizan sus arrays.
+     */
+    private void AddSeedCentroid(int userRow) {
+        int[] rowItemIDs = ratingMatrix.GetRowItemIDs();
+        float[] rowValues = ratingMatrix.GetRowValues();
+        ArrayList<Rating> ratingsOfOneRandomUser = new ArrayList<Rating>();
+        for (int p = ratingMatrix.GetRowStart(userRow); p < ratingMatrix.GetRowEnd(userRow); p++) {
+            ratingsOfOneRandomUser.add(new Rating(ratingMatrix.GetUserID(userRow), rowItemIDs[p], rowValues[p]));
+        }
+        centroids.add(ratingsOfOneRandomUser);
+        UpdateCentroidArrays(centroids.size() - 1);
+    }
+
+    /** @brief Crea los \a K grupos de usuarios con Kmeans por mini-batches
+     *
+     * Los centroides empiezan igual que en Kmeans completo. En cada una de las \a options.GetIterations() iteraciones se escogen al azar
+     * \a options.GetBatchSize() usuarios, se busca el centroide más cercano de cada uno y se mueve hacia ellos la nota de cada item que han valorado,
+     * con ritmo 1 / n^decay (n es el número de veces que se ha movido esa nota de ese centroide). Así los centroides siguen siendo, para cada item,
+     * la media de las notas de los usuarios que lo han valorado, pero sin recorrer todos los usuarios en cada iteración.
+     * Al final se hace una única asignación (en paralelo) de todos los usuarios a su centroide más cercano.
+     *
+     * \pre \a ratingMatrix está cargada y hay al menos \a K usuarios con \a MIN_RATINGS_OF_SEED valoraciones o más
+     * \post \a Kgroups y \a centroids contienen los grupos y centroides entrenados por mini-batches, y \a kmeansStats las estadísticas del entrenamiento.
+     */
+    private void MiniBatchKmeans() {
+        ArrayList<Integer> usersID = DataManager.GetInstance().GetAllUsersID();
+        int[] userRows = new int[usersID.size()];
+        for (int i = 0; i < usersID.size(); i++) userRows[i] = ratingMatrix.GetUserRow(usersID.get(i));
+        int[] rowColumns = ratingMatrix.GetRowColumns();
+        float[] rowValues = ratingMatrix.GetRowValues();
+        IdDictionary itemsDictionary = DataManager.GetInstance().GetItemsDictionary();
+        int[] itemIndexOfColumn = new int[ratingMatrix.GetNumberOfItems()];
+        for (int c = 0; c < itemIndexOfColumn.length; c++) itemIndexOfColumn[c] = itemsDictionary.GetIndex(ratingMatrix.GetItemID(c));
+        kmeansStats = new KMeansStats();
+        long startTime = System.nanoTime();
+
+        //mismos centroides iniciales que Kmeans completo. Mientras se entrena, cada centroide es una tabla de hash dispersa (indexada por el indice
+        //interno del item) con la nota y el numero de veces que se ha movido: solo ocupa los items que ha tocado
+        SeedCentroids(userRows);
+        SparseCentroid[] sparseCentroids = new SparseCentroid[K];
+        for (int i = 0; i < K; i++) {
+            sparseCentroids[i] = new SparseCentroid(centroids.get(i).size());
+            for (Rating rating : centroids.get(i)) {
+                int slot = sparseCentroids[i].FindOrAdd(itemsDictionary.GetIndex(rating.GetItemID()));
+                sparseCentroids[i].values[slot] = rating.GetRating();
+                sparseCentroids[i].counts[slot] = 1;
+            }
+        }
+        kmeansStats.SetSeedingNanos(System.nanoTime() - startTime);
+
+        Random random = new Random(options.GetSeed());
+        int batchSize = options.GetBatchSize();
+        double decay = options.GetDecay();
+        int[] batchRows = new int[batchSize];
+        int[] batchNearest = new int[batchSize];
+        for (int iter = 0; iter < options.GetIterations() && userRows.length > 0; iter++) {
+            long iterationStart = System.nanoTime();
+            //primero se asigna todo el mini-batch con los centroides de antes de la iteracion, y luego se mueven los centroides
+            for (int b = 0; b < batchSize; b++) {
+                batchRows[b] = userRows[random.nextInt(userRows.length)];
+                batchNearest[b] = NearestSparseCentroid(batchRows[b], sparseCentroids, itemIndexOfColumn);
+            }
+            for (int b = 0; b < batchSize; b++) {
+                int nearestCluster = batchNearest[b];
+                if (nearestCluster == -1) continue; //usuario sin nada en comun con ningun centroide
+                SparseCentroid centroid = sparseCentroids[nearestCluster];
+                for (int p = ratingMatrix.GetRowStart(batchRows[b]); p < ratingMatrix.GetRowEnd(batchRows[b]); p++) {
+                    int slot = centroid.FindOrAdd(itemIndexOfColumn[rowColumns[p]]); //un item nuevo empieza con nota 0 y 0 movimientos
+                    int count = ++centroid.counts[slot];
+                    float learningRate = decay == 1.0 ? 1.0f / count : (float) Math.pow(count, -decay);
+                    centroid.values[slot] += learningRate * (rowValues[p] - centroid.values[slot]);
+                }
+            }
+            kmeansStats.AddIteration(System.nanoTime() - iterationStart, -1, (long) batchSize * K, 0);
+        }
+        long finalStart = System.nanoTime();
+
+        //pasamos las tablas de hash a listas de Rating, ordenadas por indice interno del item
+        for (int i = 0; i < K; i++) {
+            SparseCentroid sparseCentroid = sparseCentroids[i];
+            long[] itemAndSlot = new long[sparseCentroid.size];
+            for (int slot = 0; slot < sparseCentroid.size; slot++) itemAndSlot[slot] = ((long) sparseCentroid.items[slot] << 32) | slot;
+            Arrays.sort(itemAndSlot);
+            ArrayList<Rating> centroid = new ArrayList<Rating>(sparseCentroid.size);
+            for (long packed : itemAndSlot) {
+                int slot = (int) packed;
+                centroid.add(new Rating(-1, itemsDictionary.GetID(sparseCentroid.items[slot]), sparseCentroid.values[slot]));
+            }
+            centroids.set(i, centroid);
+            UpdateCentroidArrays(i);
+        }
+
+        //asignacion final de todos los usuarios
+        int[] nearest = new int[userRows.length];
+        NearestCentroids(userRows, nearest);
+        clusterAssignment = new ClusterAssignment(Kgroups, DataManager.GetInstance().GetUsersDictionary());
+        for (int i = 0; i < userRows.length; i++) {
+            if (nearest[i] == -1)
+                System.out.println("ALERT: nearest cluster vale -1. Esta linea pertenece al codigo de Kmeans por mini-batches");
+            else
+                clusterAssignment.Add(usersID.get(i), nearest[i]);
+        }
+        //la asignacion final cuenta como una iteracion mas (la unica que recorre todos los usuarios)
+        kmeansStats.AddIteration(System.nanoTime() - finalStart, -1, (long) userRows.length * K, 0);
+        kmeansStats.SetStopReason(KMeansStopReasons.MAX_ITERATIONS);
+    }
+
+    /** @brief Retorna el índice del centroide disperso más cercano a un usuario
+     *
+     * Misma distancia que DistanceBetweenUserAndCentroid (solo cuentan los items en común, sumando en orden de itemID), pero con los centroides
+     * guardados como tablas de hash por índice interno del item, que es como se entrenan en MiniBatchKmeans.
+     *
+     * \pre \a userRow es una fila válida de \a ratingMatrix
+     * @param userRow es la fila del usuario en \a ratingMatrix
+     * @param sparseCentroids son los centroides
+     * @param itemIndexOfColumn es el índice interno del item de cada columna de \a ratingMatrix
+     * \post Retorna el índice del centroide más cercano (el primero en caso de empate), o -1 si no hay ninguno.
+     */
+    private int NearestSparseCentroid(int userRow, SparseCentroid[] sparseCentroids, int[] itemIndexOfColumn) {
+        int[] rowColumns = ratingMatrix.GetRowColumns();
+        float[] rowValues = ratingMatrix.GetRowValues();
+        int nearestCluster = -1;
+        double distanceToCentroidOfNearestCluster = Double.MAX_VALUE;
+        for (int j = 0; j < K; j++) {
+            SparseCentroid centroid = sparseCentroids[j];
+            double sum = 0;
+            boolean itemsInCommon = false;
+            for (int p = ratingMatrix.GetRowStart(userRow); p < ratingMatrix.GetRowEnd(userRow); p++) {
+                int slot = centroid.Find(itemIndexOfColumn[rowColumns[p]]);
+                if (slot != -1) {
+                    double difference = rowValues[p] - centroid.values[slot];
+                    sum += difference * difference;
+                    itemsInCommon = true;
+                }
+            }
+            double distanceToCentroidOfClusterJ = DistanceFromSquared(itemsInCommon ? sum : -1.0);
+            if (distanceToCentroidOfClusterJ < distanceToCentroidOfNearestCluster) {
+                distanceToCentroidOfNearestCluster = distanceToCentroidOfClusterJ;
+                nearestCluster = j;
+            }
+        }
+        return nearestCluster;
+    }
+
+    /** @brief Retorna el índice del centroide más cercano a un usuario
+     *
+     * \pre \a userRow es una fila válida de \a ratingMatrix y los arrays de los K centroides están al día
+     * @param userRow es la fila del usuario en \a ratingMatrix
+     * \post Retorna el índice del centroide más cercano (el primero en caso de empate), o -1 si no hay ninguno.
+     */
+    private int NearestCentroid(int userRow) {
+        int nearestCluster = -1;
+        double distanceToCentroidOfNearestCluster = Double.MAX_VALUE;
+        for (int j = 0; j < K; j++) {
+            double distanceToCentroidOfClusterJ = DistanceBetweenUserAndCentroid(userRow, j);
+            if (distanceToCentroidOfClusterJ < distanceToCentroidOfNearestCluster) {
+                distanceToCentroidOfNearestCluster = distanceToCentroidOfClusterJ;
+                nearestCluster = j;
+            }
+        }
+        return nearestCluster;
+    }
+
+    /** @brief Calcula en paralelo el centroide más cercano de cada usuario
+     *
+     * \pre \a nearest tiene el mismo tamaño que \a userRows y los arrays de los K centroides están al día
+     * @param userRows son las filas de \a ratingMatrix de los usuarios
+     * @param nearest es donde se guarda el centroide más cercano de cada usuario
+     * \post nearest[i] es el índice del centroide más cercano al usuario de la fila userRows[i]. Cada posición solo depende de su usuario, así que el resultado no depende del número de hilos.
+     */
+    private void NearestCentroids(int[] userRows, int[] nearest) {
+        ParallelFor(userRows.length, i -> nearest[i] = NearestCentroid(userRows[i]));
+    }
+
+    /** @brief Retorna el índice del centroide más cercano a un usuario y guarda sus cotas exactas
+     *
+     * \pre \a userRow es una fila válida de \a ratingMatrix y los arrays de los K centroides están al día
+     * @param userRow es la fila del usuario en \a ratingMatrix
+     * @param user es la posición del usuario en \a upperBounds y \a lowerBounds
+     * @param upperBounds es donde se guarda la distancia al centroide más cercano
+     * @param lowerBounds es donde se guarda la distancia al segundo centroide más cercano
+     * \post Retorna lo mismo que NearestCentroid(userRow); upperBounds[user] es la distancia a ese centroide y lowerBounds[user] la menor distancia a cualquier otro (Double.MAX_VALUE si K = 1).
+     */
+    private int NearestCentroidWithBounds(int userRow, int user, double[] upperBounds, double[] lowerBounds) {
+        return NearestCentroidWithBounds(userRow, user, upperBounds, lowerBounds, null, -1);
+    }
+
+    /** @brief Igual que NearestCentroidWithBounds(int, int, double[], double[]), sin volver a calcular las distancias que ya se conocen y
+     * dejando al usuario en su cluster si está tan cerca como el más cercano
+     *
+     * \pre Las posiciones de \a knownDistances que no son NaN son las distancias exactas del usuario a los centroides actuales (o \a knownDistances es null)
+     * @param userRow es la fila del usuario en \a ratingMatrix
+     * @param user es la posición del usuario en \a upperBounds y \a lowerBounds
+     * @param upperBounds es donde se guarda la distancia al centroide más cercano
+     * @param lowerBounds es donde se guarda la distancia al segundo centroide más cercano
+     * @param knownDistances son las distancias ya calculadas (NaN las que no)
+     * @param currentCluster es el cluster en el que está ahora el usuario (-1 si no está en ninguno)
+     * \post Retorna lo mismo que NearestCentroid(userRow), salvo que en caso de empate gana \a currentCluster, y guarda las mismas cotas que
+     * NearestCentroidWithBounds(int, int, double[], double[]). Sin esto, un usuario sin items en común con ningún centroide (todas las distancias
+     * valen 999999999) o empatado con un centroide anterior cambiaría de cluster sin acercarse, y con centroides recortados Kmeans no convergería.
+     */
+    private int NearestCentroidWithBounds(int userRow, int user, double[] upperBounds, double[] lowerBounds, double[] knownDistances, int currentCluster) {
+        int nearestCluster = -1;
+        double distanceToCentroidOfNearestCluster = Double.MAX_VALUE;
+        double distanceToSecondNearest = Double.MAX_VALUE;
+        for (int j = 0; j < K; j++) {
+            double distanceToCentroidOfClusterJ = knownDistances != null && !Double.isNaN(knownDistances[j]) ? knownDistances[j] : DistanceBetweenUserAndCentroid(userRow, j);
+            if (distanceToCentroidOfClusterJ < distanceToCentroidOfNearestCluster) {
+                distanceToSecondNearest = distanceToCentroidOfNearestCluster;
+                distanceToCentroidOfNearestCluster = distanceToCentroidOfClusterJ;
+                nearestCluster = j;
+            }
+            else if (distanceToCentroidOfClusterJ < distanceToSecondNearest) {
+                distanceToSecondNearest = distanceToCentroidOfClusterJ;
+            }
+            //empate con el cluster actual que va después del más cercano: la cota inferior ya es la distancia del empatado
+            if (j == currentCluster && j != nearestCluster && distanceToCentroidOfClusterJ == distanceToCentroidOfNearestCluster) nearestCluster = j;
+        }
+        upperBounds[user] = distanceToCentroidOfNearestCluster;
+        lowerBounds[user] = distanceToSecondNearest;
+        return nearestCluster;
+    }
+
+    /** @brief Retorna cuánto se ha movido un centroide y marca los items que ha ganado o perdido
+     *
+     * La distancia de Kmeans solo cuenta los items en común, así que mientras un centroide tenga los mismos items (de entre los que ha valorado
+     * un usuario), su distancia a ese usuario cambia como mucho la distancia entre el centroide viejo y el nuevo sobre los items que tienen los dos.
+     * Si gana o pierde items, la distancia a los usuarios que han valorado esos items puede cambiar sin límite, y por eso se marcan.
+     *
+     * \pre Los arrays del centroide \a centroidIndex ya tienen el centroide nuevo y los itemID de \a oldItemIDs están ordenados de forma creciente
+     * @param oldItemIDs son los itemID del centroide viejo
+     * @param oldValues son las notas del centroide viejo
+     * @param centroidIndex es el índice del centroide
+     * @param itemsDictionary es el diccionario de items
+     * @param changedCentroidsOfItem son, para cada item (por índice interno), los bits de los centroides que lo han ganado o perdido ((K + 63) / 64 longs por item)
+     * \post Retorna la distancia entre el centroide viejo y el nuevo sobre los items que tienen los dos (0 si no tienen ninguno) y se marca el bit del centroide en los items que solo están en uno de los dos.
+     */
+    private double CentroidDrift(int[] oldItemIDs, float[] oldValues, int centroidIndex, IdDictionary itemsDictionary, long[] changedCentroidsOfItem) {
+        int[] newItemIDs = centroidItemIDs[centroidIndex];
+        int centroidWords = (K + 63) / 64;
+        int word = centroidIndex >>> 6;
+        long bit = 1L << centroidIndex;
+        int i = 0;
+        int j = 0;
+        while (i < oldItemIDs.length || j < newItemIDs.length) {
+            if (j == newItemIDs.length || (i < oldItemIDs.length && oldItemIDs[i] < newItemIDs[j])) changedCentroidsOfItem[itemsDictionary.GetIndex(oldItemIDs[i++]) * centroidWords + word] |= bit;
+            else if (i == oldItemIDs.length || oldItemIDs[i] > newItemIDs[j]) changedCentroidsOfItem[itemsDictionary.GetIndex(newItemIDs[j++]) * centroidWords + word] |= bit;
+            else {
+                ++i;
+                ++j;
+            }
+        }
+        double squaredDrift = SparseDistance.SquaredDistance(oldItemIDs, oldValues, 0, oldItemIDs.length, newItemIDs, centroidValues[centroidIndex], 0, newItemIDs.length);
+        return squaredDrift > 0.0 ? Math.sqrt(squaredDrift) : 0.0;
+    }
+
+    /** @brief Calcula en paralelo el centroide más cercano de cada usuario tras mover los centroides, saltándose las distancias que no pueden cambiar el resultado (Hamerly)
+     *
+     * Para cada usuario se guarda una cota superior de la distancia a su centroide y una cota inferior de la distancia a todos los demás. Al moverse los centroides,
+     * la superior sube lo que se ha movido su centroide y la inferior baja lo que se ha movido el que más de los demás. Si la superior sigue siendo menor
+     * que la inferior, el usuario no puede cambiar de grupo y no se calcula ninguna distancia. Si no, se calcula la distancia exacta a su centroide y se
+     * vuelve a comparar, y solo si tampoco basta se calculan las K distancias. Como los empates se deciden igual que en NearestCentroid, el resultado
+     * es exactamente el mismo que calculando todas las distancias.
+     * La distancia solo cuenta los items en común, así que las cotas no sirven para los centroides que han ganado o perdido alguno de los items del usuario:
+     * la distancia a esos centroides se calcula siempre de nuevo (y entra en la cota inferior o pasa a ser la superior).
+     *
+     * \pre Las cotas y \a clusterOfUser corresponden a los centroides de antes de moverlos, y \a drift y \a changedCentroidsOfItem a lo que se han movido
+     * @param userRows son las filas de \a ratingMatrix de los usuarios
+     * @param clusterOfUser es el cluster en el que está cada usuario
+     * @param nearest es donde se guarda el centroide más cercano de cada usuario
+     * @param upperBounds son las cotas superiores de la distancia de cada usuario a su centroide
+     * @param lowerBounds son las cotas inferiores de la distancia de cada usuario a los demás centroides
+     * @param drift es cuánto se ha movido cada centroide
+     * @param changedCentroidsOfItem son, para cada item (por índice interno), los bits de los centroides que lo han ganado o perdido
+     * @param itemIndexOfColumn es el índice interno del item de cada columna de \a ratingMatrix
+     * @param boundsScratch son los arrays de trabajo de cada hilo
+     * @param evaluatedDistances cuenta las distancias calculadas
+     * @param skippedDistances cuenta las distancias saltadas
+     * \post nearest[i] es el índice del centroide más cercano al usuario i y las cotas corresponden a los centroides actuales.
+     */
+    private void UpdateAssignmentWithBounds(int[] userRows, int[] clusterOfUser, int[] nearest, double[] upperBounds, double[] lowerBounds, double[] drift,
+                                            long[] changedCentroidsOfItem, int[] itemIndexOfColumn, ThreadLocal<BoundsScratch> boundsScratch,
+                                            LongAdder evaluatedDistances, LongAdder skippedDistances) {
+        //el centroide que mas se ha movido y lo que se ha movido el segundo, para bajar las cotas inferiores sin contar el centroide del propio usuario
+        int mostDrifted = 0;
+        double maxDrift = 0.0;
+        double secondMaxDrift = 0.0;
+        for (int j = 0; j < K; j++) {
+            if (drift[j] > maxDrift) {
+                secondMaxDrift = maxDrift;
+                maxDrift = drift[j];
+                mostDrifted = j;
+            }
+            else if (drift[j] > secondMaxDrift) secondMaxDrift = drift[j];
+        }
+        final int mostDriftedCentroid = mostDrifted;
+        final double maxCentroidDrift = maxDrift;
+        final double secondMaxCentroidDrift = secondMaxDrift;
+        final int centroidWords = (K + 63) >>> 6;
+        int[] rowColumns = ratingMatrix.GetRowColumns();
+
+        ParallelFor(userRows.length, i -> {
+            int userRow = userRows[i];
+            int cluster = clusterOfUser[i];
+            if (cluster == -1) {
+                nearest[i] = NearestCentroidWithBounds(userRow, i, upperBounds, lowerBounds);
+                evaluatedDistances.add(K);
+                return;
+            }
+            //centroides que han ganado o perdido alguno de los items del usuario
+            BoundsScratch scratch = boundsScratch.get();
+            long[] changedCentroids = scratch.changedCentroids;
+            try {
+                boolean anyChanged = false;
+                for (int p = ratingMatrix.GetRowStart(userRow); p < ratingMatrix.GetRowEnd(userRow); p++) {
+                    int base = itemIndexOfColumn[rowColumns[p]] * centroidWords;
+                    for (int w = 0; w < centroidWords; w++) {
+                        long bits = changedCentroidsOfItem[base + w];
+                        if (bits != 0L) {
+                            changedCentroids[w] |= bits;
+                            anyChanged = true;
+                        }
+                    }
+                }
+                //si han cambiado la mayoria de centroides, las cotas no ahorran casi nada y se calculan directamente las K distancias
+                int numberOfChanged = 0;
+                for (long bits : changedCentroids) numberOfChanged += Long.bitCount(bits);
+                if (2 * numberOfChanged >= K) {
+                    nearest[i] = NearestCentroidWithBounds(userRow, i, upperBounds, lowerBounds, null, cluster);
+                    evaluatedDistances.add(K);
+                    return;
+                }
+                //distancias exactas ya calculadas (NaN las que no), para no repetirlas si al final hay que calcular todas
+                double[] distances = scratch.distances;
+                int evaluated = 0;
+                double upper = (upperBounds[i] + drift[cluster]) * (1.0 + BOUND_SLACK) + BOUND_SLACK;
+                double lower = (lowerBounds[i] - (cluster == mostDriftedCentroid ? secondMaxCentroidDrift : maxCentroidDrift)) * (1.0 - BOUND_SLACK) - BOUND_SLACK;
+                if (anyChanged) {
+                    for (int j = 0; j < K; j++) {
+                        if ((changedCentroids[j >>> 6] & (1L << j)) != 0L) {
+                            distances[j] = DistanceBetweenUserAndCentroid(userRow, j);
+                            ++evaluated;
+                            if (j == cluster) upper = distances[j];
+                            else lower = Math.min(lower, distances[j]);
+                        }
+                    }
+                }
+                if (upper >= lower && Double.isNaN(distances[cluster])) {
+                    distances[cluster] = DistanceBetweenUserAndCentroid(userRow, cluster);
+                    upper = distances[cluster];
+                    ++evaluated;
+                }
+                if (upper < lower) {
+                    nearest[i] = cluster;
+                    upperBounds[i] = upper;
+                    lowerBounds[i] = lower;
+                    evaluatedDistances.add(evaluated);
+                    skippedDistances.add(K - evaluated);
+                    return;
+                }
+                nearest[i] = NearestCentroidWithBounds(userRow, i, upperBounds, lowerBounds, distances, cluster);
+                evaluatedDistances.add(K);
+            }
+            finally {
+                scratch.Clear(cluster); //deja los arrays listos para el siguiente usuario del hilo
+            }
+        });
+    }
+
+    /** @brief Ejecuta \a body para cada posición entre 0 y \a size con fork-join
+     *
+     * \pre Las llamadas a \a body para posiciones distintas no escriben en los mismos datos
+     * @param size es el número de posiciones
+     * @param body es lo que se ejecuta para cada posición
+     * \post Se ha ejecutado \a body para todas las posiciones (en cualquier orden y en varios hilos).
+     */
+    private static void ParallelFor(int size, IntConsumer body) {
+        ForkJoinPool.commonPool().invoke(new RangeTask(body, 0, size));
+    }
+
+    /** @brief Calcula el nuevo centroide de un cluster: todas las pelis vistas por gente del cluster con la nota media de quienes las han visto
+     *
+     * Si hay máximo de items por centroide (options.GetMaxCentroidItems()) y el cluster ha visto más, solo se quedan las pelis que han visto más
+     * usuarios del cluster (en caso de empate, las que aparecen antes), y en \a centroidTruncation se apunta lo que se ha quitado.
+     *
+     * \pre Todos los usuarios de \a usersOfOneCluster tienen fila en \a ratingMatrix y los acumuladores de \a accumulator están a 0
+     * @param usersOfOneCluster son los usuarios del cluster
+     * @param centroidIndex es el índice del centroide
+     * @param itemIndexOfColumn es el índice interno del item de cada columna de \a ratingMatrix
+     * @param itemsDictionary es el diccionario de items
+     * @param accumulator son los acumuladores del hilo que hace el cálculo
+     * \post Retorna el centroide, con los items en orden de aparición. Los acumuladores quedan a 0 para el siguiente cluster.
+     */
+    private ArrayList<Rating> ComputeCentroid(ArrayList<Integer> usersOfOneCluster, int centroidIndex, int[] itemIndexOfColumn, IdDictionary itemsDictionary, CentroidAccumulator accumulator) {
+        int[] rowColumns = ratingMatrix.GetRowColumns();
+        float[] rowValues = ratingMatrix.GetRowValues();
+        int[] frequency = accumulator.frequency;
+        float[] scoreSum = accumulator.scoreSum;
+        int[] itemsSeenInCluster = accumulator.itemsSeen;
+        int numberOfItemsSeen = 0;
+        //Almacenamos todas las pelis que ha visto gente de ese cluster (y cuantos han visto una cierta peli, para poder hacer la media de las notas:
+        for (int userID : usersOfOneCluster) {
+            int userRow = ratingMatrix.GetUserRow(userID);
+            for (int p = ratingMatrix.GetRowStart(userRow); p < ratingMatrix.GetRowEnd(userRow); p++) {
+                int itemIndex = itemIndexOfColumn[rowColumns[p]];
+                if (frequency[itemIndex] == 0) itemsSeenInCluster[numberOfItemsSeen++] = itemIndex;
+                ++frequency[itemIndex];
+                scoreSum[itemIndex] += rowValues[p];
+            }
+        }
+        //Si hay que recortar el centroide, buscamos a partir de cuantos usuarios se queda una peli (minFrequency) y cuantas de las que tienen justo ese numero caben
+        int maxItems = options.GetMaxCentroidItems();
+        int minFrequency = 0;
+        int itemsAtMinFrequency = 0;
+        if (maxItems > 0 && numberOfItemsSeen > maxItems) {
+            int[] frequencies = new int[numberOfItemsSeen];
+            for (int s = 0; s < numberOfItemsSeen; s++) frequencies[s] = frequency[itemsSeenInCluster[s]];
+            Arrays.sort(frequencies);
+            minFrequency = frequencies[numberOfItemsSeen - maxItems];
+            for (int s = numberOfItemsSeen - maxItems; s < numberOfItemsSeen && frequencies[s] == minFrequency; s++) ++itemsAtMinFrequency;
+        }
+        long droppedItems = 0, droppedRatings = 0, totalRatings = 0;
+        //Llenamos el centroide de ese cluster con todas las pelis vistas de gente de ese cluster (o las que se quedan) y la respectiva nota media de la gente que la ha visto:
+        ArrayList<Rating> newCentroid = new ArrayList<Rating>(maxItems > 0 ? Math.min(numberOfItemsSeen, maxItems) : numberOfItemsSeen);
+        for (int s = 0; s < numberOfItemsSeen; s++) {
+            int itemIndex = itemsSeenInCluster[s];
+            totalRatings += frequency[itemIndex];
+            if (frequency[itemIndex] < minFrequency || (frequency[itemIndex] == minFrequency && itemsAtMinFrequency-- <= 0)) {
+                ++droppedItems;
+                droppedRatings += frequency[itemIndex];
+                frequency[itemIndex] = 0;
+                scoreSum[itemIndex] = 0.0f;
+                continue;
+            }
+            float score = scoreSum[itemIndex] / frequency[itemIndex];
+            //    if (score > maxRatingValue) score = maxRatingValue;
+            //    else if (score < 0.0f) score = 0.0f; // NO deberia ocurrir nunca, ya que score es igual a una suma de positivos dividido entre el numero de sumandos.
+            Rating itemAndScore = new Rating(-1, itemsDictionary.GetID(itemIndex), score); //userID=-1 porque no sirve de nada, la info de ese campo sobra.
+            newCentroid.add(itemAndScore);
+            //dejamos los acumuladores a 0 para el siguiente cluster
+            frequency[itemIndex] = 0;
+            scoreSum[itemIndex] = 0.0f;
+        }
+        if (centroidTruncation != null) {
+            centroidTruncation[3 * centroidIndex] = droppedItems;
+            centroidTruncation[3 * centroidIndex + 1] = droppedRatings;
+            centroidTruncation[3 * centroidIndex + 2] = totalRatings;
+        }
+        return newCentroid;
+    }
+
+    /** @class CentroidAccumulator
+     *  @brief Acumuladores por item (indexados por índice interno) que usa un hilo para calcular la media de un centroide
+     */
+    private static class CentroidAccumulator {
+        /** @brief numero de usuarios del cluster que han valorado cada item */
+        final int[] frequency;
+        /** @brief suma de sus notas (necesarios para la media) */
+        final float[] scoreSum;
+        /** @brief indices de los items con frequency > 0, en orden de aparicion */
+        final int[] itemsSeen;
+
+        CentroidAccumulator(int numberOfItems) {
+            frequency = new int[numberOfItems];
+            scoreSum = new float[numberOfItems];
+            itemsSeen = new int[numberOfItems];
+        }
+    }
+
+    /** @class SparseCentroid
+     *  @brief Centroide de MiniBatchKmeans mientras se entrena: tabla de hash con direccionamiento abierto del índice interno del item a su posición
+     *  en los arrays paralelos \a items, \a values y \a counts, así que ocupa memoria solo por los items que ha tocado
+     */
+    private static class SparseCentroid {
+        /** @brief posición + 1 de cada item en los arrays paralelos (0 = hueco libre), por hash del índice interno */
+        int[] table;
+        /** @brief índice interno del item de cada posición */
+        int[] items;
+        /** @brief nota del centroide para el item de cada posición */
+        float[] values;
+        /** @brief número de veces que se ha movido la nota de cada posición */
+        int[] counts;
+        /** @brief número de items del centroide */
+        int size;
+
+        SparseCentroid(int expectedItems) {
+            int capacity = 16;
+            while (capacity <= 2 * expectedItems) capacity <<= 1;
+            table = new int[capacity];
+            items = new int[capacity / 2];
+            values = new float[capacity / 2];
+            counts = new int[capacity / 2];
+        }
+
+        /** @brief Devuelve la posición del item \a itemIndex, o -1 si el centroide no lo tiene */
+        int Find(int itemIndex) {
+            int mask = table.length - 1;
+            for (int h = Hash(itemIndex) & mask; table[h] != 0; h = (h + 1) & mask) {
+                if (items[table[h] - 1] == itemIndex) return table[h] - 1;
+            }
+            return -1;
+        }
+
+        /** @brief Devuelve la posición del item \a itemIndex, añadiéndolo con nota 0 y 0 movimientos si el centroide no lo tenía */
+        int FindOrAdd(int itemIndex) {
+            int mask = table.length - 1;
+            int h = Hash(itemIndex) & mask;
+            for (; table[h] != 0; h = (h + 1) & mask) {
+                if (items[table[h] - 1] == itemIndex) return table[h] - 1;
+            }
+            int slot = size++;
+            items[slot] = itemIndex;
+            table[h] = slot + 1;
+            if (2 * size == table.length) Grow(); //los arrays paralelos tienen la mitad de posiciones que la tabla, que nunca pasa de medio llena
+            return slot;
+        }
+
+        /** @brief Dobla la capacidad de la tabla y de los arrays paralelos */
+        private void Grow() {
+            table = new int[table.length * 2];
+            items = Arrays.copyOf(items, table.length / 2);
+            values = Arrays.copyOf(values, table.length / 2);
+            counts = Arrays.copyOf(counts, table.length / 2);
+            int mask = table.length - 1;
+            for (int slot = 0; slot < size; slot++) {
+                int h = Hash(items[slot]) & mask;
+                while (table[h] != 0) h = (h + 1) & mask;
+                table[h] = slot + 1;
+            }
+        }
+
+        private static int Hash(int itemIndex) {
+            int h = itemIndex * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /** @class BoundsScratch
+     *  @brief Arrays de trabajo que usa un hilo para reasignar un usuario con las cotas de Elkan/Hamerly. Entre usuario y usuario
+     *  \a changedCentroids está a 0 y \a distances a NaN
+     */
+    private static class BoundsScratch {
+        /** @brief bits de los centroides que han ganado o perdido alguno de los items del usuario */
+        final long[] changedCentroids;
+        /** @brief distancias exactas ya calculadas a cada centroide (NaN las que no) */
+        final double[] distances;
+
+        BoundsScratch(int k) {
+            changedCentroids = new long[(k + 63) >>> 6];
+            distances = new double[k];
+            Arrays.fill(distances, Double.NaN);
+        }
+
+        /** @brief Vuelve a dejar a NaN las distancias de los centroides marcados y del centroide \a cluster, y a 0 los bits marcados */
+        void Clear(int cluster) {
+            for (int w = 0; w < changedCentroids.length; w++) {
+                long bits = changedCentroids[w];
+                if (bits == 0L) continue;
+                while (bits != 0L) {
+                    distances[(w << 6) + Long.numberOfTrailingZeros(bits)] = Double.NaN;
+                    bits &= bits - 1;
+                }
+                changedCentroids[w] = 0L;
+            }
+            distances[cluster] = Double.NaN;
+        }
+    }
+
+    /** @class RangeTask
+     *  @brief Tarea de fork-join que ejecuta \a body para cada posición de un rango, dividiéndolo por la mitad mientras sea grande
+     */
+    private static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final IntConsumer body;
+        private final int from;
+        private final int to;
+
+        RangeTask(IntConsumer body, int from, int to) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK) {
+                for (int i = from; i < to; i++) body.accept(i);
+            }
+            else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(body, from, middle), new RangeTask(body, middle, to));
+            }
+        }
+    }
+
+    /** @class CentroidTask
+     *  @brief Tarea de fork-join que recalcula los centroides de un rango de clusters, un cluster por tarea
+     */
+    private class CentroidTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final ArrayList<ArrayList<Rating>> newCentroids;
+        private final int from;
+        private final int to;
+        private final int[] itemIndexOfColumn;
+        private final IdDictionary itemsDictionary;
+        private final ThreadLocal<CentroidAccumulator> accumulators;
+
+        CentroidTask(ArrayList<ArrayList<Rating>> newCentroids, int from, int to, int[] itemIndexOfColumn, IdDictionary itemsDictionary, ThreadLocal<CentroidAccumulator> accumulators) {
+            this.newCentroids = newCentroids;
+            this.from = from;
+            this.to = to;
+            this.itemIndexOfColumn = itemIndexOfColumn;
+            this.itemsDictionary = itemsDictionary;
+            this.accumulators = accumulators;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                newCentroids.set(from, ComputeCentroid(Kgroups.get(from), from, itemIndexOfColumn, itemsDictionary, accumulators.get()));
+            }
+            else if (to > from) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CentroidTask(newCentroids, from, middle, itemIndexOfColumn, itemsDictionary, accumulators),
+                        new CentroidTask(newCentroids, middle, to, itemIndexOfColumn, itemsDictionary, accumulators));
+            }
+        }
+    }
+
+    /** @brief Retorna la tabla de desviaciones de SlopeOne de un cluster, calculándola si aún no se había hecho o si el cluster ha cambiado desde entonces.
+     *
+     * \pre Kmeans ya se ha computado y 0 <= \a cluster < K
+     * @param cluster es el índice del cluster
+     * \post Retorna las desviaciones entre items de los usuarios del cluster, con las valoraciones de \a ratingMatrix
+     */
+    private SlopeOneDeviations DeviationsOfCluster(int cluster) {
+        if (clusterDeviations == null) {
+            clusterDeviations = new SlopeOneDeviations[clusterAssignment.GetNumberOfClusters()];
+            clusterDeviationsVersion = new int[clusterDeviations.length];
+        }
+        int version = clusterAssignment.GetModificationCount(cluster);
+        if (clusterDeviations[cluster] == null || clusterDeviationsVersion[cluster] != version) {
+            clusterDeviations[cluster] = new SlopeOneDeviations(clusterAssignment.GetGroup(cluster), ratingMatrix);
+            clusterDeviationsVersion[cluster] = version;
+        }
+        return clusterDeviations[cluster];
+    }
+
+    /** @brief Hace las predicciones para el usuario principal (identificado por \a mainUserID) a través del algoritmo SlopeOne.
+     *
+     * Las desviaciones entre items de los usuarios del cluster están precalculadas en su tabla (DeviationsOfCluster), así que la predicción de cada item i
+     * es la media de (valoración del usuario a j + desviación entre i y j) sobre los items j valorados por el usuario que tienen desviación con i, y solo
+     * se recorren las filas de la tabla de esos items j. El cálculo lo hace el SlopeOneKernel del hilo, sin crear objetos por item.
+     *
+     * \pre Kmeans ya se ha computado y 0 <= \a cluster < K. \a mainUserID es un ID válido que no ha valorado (en \a ratingMatrix) ningún item que no esté en \a itemsRatedByMainUser, el cual contiene todas las valoraciones que ha realizado el usuario sobre el que vamos a intentar predecir. \a numberOfRecommendations > 0
+     * @param cluster es el índice del cluster de los usuarios similares al mainUser
+     * @param mainUserID es el ID del mainUser (que es el usuario para el que estamos prediciendo valoraciones)
+     * @param numberOfRecommendations es el numero de recomendaciones que nos interesa hacerle a mainUser
+     * @param itemsRatedByMainUser son las valoraciones de mainUser
+     * \post Retorna \a numberOfRecommendations recomendaciones ordenadas por valoracion decreciente. Si \a numberOfRecommendations es mayor a la cantidad de ítems en el sistema sobre los cuales se pueden hacer predicciones, retornará ese número de predicciones.
+     */
+    private ArrayList<Rating> SlopeOne(int cluster, int mainUserID, int numberOfRecommendations, ArrayList<Rating> itemsRatedByMainUser) {
+
+        SlopeOneDeviations deviations = DeviationsOfCluster(cluster);
+        IdDictionary itemsDictionary = DataManager.GetInstance().GetItemsDictionary();
+        if (itemIndexOfMatrixColumn == null) {
+            itemIndexOfMatrixColumn = new int[ratingMatrix.GetNumberOfItems()];
+            for (int c = 0; c < itemIndexOfMatrixColumn.length; c++) itemIndexOfMatrixColumn[c] = itemsDictionary.GetIndex(ratingMatrix.GetItemID(c));
+        }
+        int numberOfItemsInTheSystem = DataManager.GetInstance().GetAllItems().size(); //el indice interno de cada item del sistema es su posicion en GetAllItems()
+
+        SlopeOneKernel kernel = SlopeOneKernel.ForCurrentThread();
+        kernel.Predict(itemsRatedByMainUser, deviations, ratingMatrix, itemIndexOfMatrixColumn, itemsDictionary, numberOfItemsInTheSystem);
+        int numberItemsToPredict = kernel.GetNumberOfCandidates();
+        int numberOfItemsRatedByMainUser = itemsRatedByMainUser.size();
+        if(numberOfItemsInTheSystem != numberItemsToPredict + numberOfItemsRatedByMainUser) System.out.println("ALERT: numberOfItemsInTheSystem != numberItemsToPredict + numberOfItemsRatedByMainUser, y debería ser igual. En concreto numberOfItemsInTheSystem = " + numberOfItemsInTheSystem + ", numberItemsToPredict = " + numberItemsToPredict + ", numberOfItemsRatedByMainUser = " + numberOfItemsRatedByMainUser);
+
+        // Nos quedamos con las numberOfRecommendations predicciones mas altas, ordenadas DE FORMA DECRECIENTE (a igual nota, por indice interno del item), sin ordenar las demas.
+        // Los items sin prediccion no estan en el kernel: irian justo despues de las predicciones positivas, asi que no se recomienda ninguna prediccion <= 0 si hay alguno.
+        numberOfRecommendations = kernel.SelectBest(numberOfRecommendations);
+        int[] predictedItems = kernel.GetPredictedItems();
+        float[] predictedValues = kernel.GetPredictedValues();
+        boolean unpredictableItems = kernel.GetNumberOfUnpredictable() > 0;
+
+        // coger las predicciones que seran recomendaciones: las numberOfRecommendations mas altas, salvo que haya menos predicciones validas:
+        ArrayList<Rating> recommendation = new ArrayList<Rating>();
+        for(int i = 0; i < numberOfRecommendations; i++){
+            float predictedRating = predictedValues[i];
+            // las predicciones que no llegan a Float.MIN_VALUE (el menor float positivo) solo se recomiendan si no hay items sin prediccion, y aun asi solo si son >= 0.0
+            if (!(predictedRating > Float.MIN_VALUE) && (unpredictableItems || predictedRating == Float.MIN_VALUE || !(predictedRating >= 0.0f))) break; // va ordenado de mayor a menor
+            // Hemos podido predecir por encima del tope, así que en ese caso ponemos el maximo:
+            if(predictedRating > maxRatingValue*10.0f) System.out.println("ALERT: Ojo que un valor predicho supera por mucho al maximo valor de prediccion que debemos dar...");
+            if(predictedRating > maxRatingValue) predictedRating = maxRatingValue;
+            recommendation.add(new Rating(mainUserID, itemsDictionary.GetID(predictedItems[i]), predictedRating));
+        }
+
+        return recommendation; //el subset de las "numberOfRecomendations" predicciones con nota mas alta
+    }
+
+    // IMPORTANTE: Es completamente necesario pasar ese userID como Integer y no como int, ya que en el .remove(userID) interpretara ese userID como indice si lo hemos pasado como int o lo interpretara como contenido si lo hemos pasado como Integer
+    /** @brief Función recomendadora que hará la recomendación a \ExistantUserIDRecommend (un usuario que existiese previamente en el dataset que se nos dio en la asignatura) en base a Kmeans+SlopeOne.
+     *
+     * \pre \a ExistantUserIDRecommend tiene que ser un usuario que se encuentre en el dataset que se nos proporcionó en la asignatura, es decir, no puede ser un usuario que hayamos creado a partir de nuestra interfaz grafica aparte, debe ser un Integer, no un int. \a numberOfRecommendations > 0
+     * @param ExistantUserIDRecommend es el ID del usuario al que queremos recomendar
+     * @param numberOfRecommendations es el número de recomendaciones que queremos hacer
+     * \post Retorna \a numberOfRecommendations recomendaciones ordenadas por valoración decreciente. Si \a numberOfRecommendations es mayor a la cantidad de ítems en el sistema sobre los cuales se pueden hacer predicciones, retornará ese número de predicciones.
+     */
+    public ArrayList<Rating> Recommend(Integer ExistantUserIDRecommend, int numberOfRecommendations) throws NoExistingUserIDException {
+        ArrayList<Rating> recommendation = new ArrayList<Rating>();
+        if(KgroupsEmpty){ // Es extremadamente probable (almenos en la 1a entrega) que nos den un set de users con sus valoraciones y simplemente pidan recomendaciones
+            // para varios users. Por tanto, seria una tonteria computar el Kmeans de nuevo en cada una de esas peticiones si no cambian ni los users ni los ratings.
+            Kmeans();
+        }
+        /* TODO: el if de arriba lo tengo que cambiar por algo de este estilo:
+        Kgroups = data manager get kgroups con k=10
+        if(kgroups es null) {
+            Kmeans(); //esto ya pide dentro ratingsmap y computa kgroups y centroids
+            mandarle Kgroups y centroids a data manager;
+        }
+        else {
+            pedir centroids y ratingsmap a datamanager;
+        }
+         */
+        int clusterOfUser = clusterAssignment.GetCluster(ExistantUserIDRecommend);
+        if (clusterOfUser == -1) throw new NoExistingUserIDException();
+        //la tabla de desviaciones del cluster incluye al propio usuario, pero no cambia nada: solo se usan las desviaciones de items que no ha valorado
+        recommendation = SlopeOne(clusterOfUser, ExistantUserIDRecommend, numberOfRecommendations, DataManager.GetInstance().GetUserRatings(ExistantUserIDRecommend));
+
+        return recommendation;
+    }
+
+    /** @brief Función recomendadora que hará la recomendación a un usuario que hemos creado a través de la interfaz gráfica (en lugar de ser un user preexistente en el dataset que nos dieron en la asignatura) en base a Kmeans+SlopeOne.
+     *
+     * \pre \a newUserID tiene que ser un usuario que NO se encuentre en la base de datos de ratings que se nos entregó como dataset en la asignatura; aparte, debe ser un Integer, no un int. \a numberOfRecommendations > 0. \a ratingsOfThatUser son los ratings de ese usuario nuevo.
+     * @param newUserID es el ID del usuario al que queremos recomendar
+     * @param ratingsOfThatUser son las valoraciones conocidas de ese usuario
+     * @param numberOfRecommendations es el numero de recomendaciones que queremos hacer
+     * \post Retorna \a numberOfRecommendations recomendaciones ordenadas por valoracion decreciente. Si \a numberOfRecommendations es mayor a la cantidad de ítems en el sistema sobre los cuales se pueden hacer predicciones, retornará ese número de predicciones.
+     */
+    public ArrayList<Rating> Recommend (Integer newUserID, ArrayList<Rating> ratingsOfThatUser, int numberOfRecommendations) {
+        ArrayList<Rating> recommendation = new ArrayList<Rating>();
+        if(KgroupsEmpty){
+            Kmeans();
+        }
+
+        //Busca el grupo de usuarios más afín al newUserID. Con el índice invertido de los centroides solo se recorren los items que ha valorado,
+        //y se obtienen a la vez las distancias (las mismas que con DistanceBetweenUsers) a todos los centroides:
+        int indexCloserCentroid = -1;
+        double distanceToCloserCentroid = Double.MAX_VALUE;
+        int[] itemIDsOfThatUser = new int[ratingsOfThatUser.size()];
+        float[] valuesOfThatUser = new float[ratingsOfThatUser.size()];
+        SparseDistance.SortByItem(ratingsOfThatUser, itemIDsOfThatUser, valuesOfThatUser);
+        if (centroidIndex == null) centroidIndex = new CentroidIndex(centroidItemIDs, centroidValues);
+        double[] squaredDistances = new double[K];
+        centroidIndex.SquaredDistances(itemIDsOfThatUser, valuesOfThatUser, 0, itemIDsOfThatUser.length, squaredDistances);
+        for (int i = 0; i < K; i++) {
+            double distance = DistanceFromSquared(squaredDistances[i]);
+            if (distance < distanceToCloserCentroid) {
+                distanceToCloserCentroid = distance;
+                indexCloserCentroid = i;
+            }
+        }
+        if(indexCloserCentroid == -1) System.out.println("ALERT: NO HE ENCONTRADO EL GRUPO DE USUARIOS MÁS AFIN AL USUARIO");
+        recommendation = SlopeOne(indexCloserCentroid, newUserID, numberOfRecommendations, ratingsOfThatUser);
+        return recommendation;
+    }
 }
\ No newline at end of file
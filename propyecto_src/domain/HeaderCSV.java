@@ -0,0 +1,169 @@
+/** @file HeaderCSV.java
+ *  @brief Contiene la clase HeaderCSV
+ */
+
+package fxsrc.propyecto.domain;
+
+/** \class HeaderCSV
+ *   \brief Cabecera de un CSV de Rating o de usuarios ya traducida a qué campo corresponde cada columna.
+ *
+ *   Se compila una sola vez por fichero a partir de los nombres de las columnas, para que ParserCSV no tenga que comparar los nombres en cada fila.
+ *   Las reglas para reconocer cada columna son las mismas que usaban ParseRating y ParseUser.
+ */
+public class HeaderCSV {
+
+    /** \brief La columna no corresponde a ningún campo
+     */
+    public static final int NONE = 0;
+
+    /** \brief La columna es el valor de un Rating
+     */
+    public static final int RATING = 1;
+
+    /** \brief La columna es la ID del usuario
+     */
+    public static final int USER_ID = 2;
+
+    /** \brief La columna es la ID del item de un Rating
+     */
+    public static final int ITEM_ID = 3;
+
+    /** \brief La columna es el nombre de usuario
+     */
+    public static final int USERNAME = 4;
+
+    /** \brief La columna es la contraseña
+     */
+    public static final int PASSWORD = 5;
+
+    /** \brief La columna es el email
+     */
+    public static final int EMAIL = 6;
+
+    /** \brief La columna es la respuesta de seguridad
+     */
+    public static final int SECURITY = 7;
+
+    /** \brief La columna indica si el usuario ya ha empezado
+     */
+    public static final int STARTED = 8;
+
+    /** \brief La columna son las IDs de los items favoritos
+     */
+    public static final int FAVOURITES = 9;
+
+    /** \brief La columna son las IDs de las recomendaciones que le han gustado
+     */
+    public static final int LIKED = 10;
+
+    /** \brief Nombres de las columnas a partir de los que se ha compilado
+     */
+    private final String[] attributesNames;
+
+    /** \brief Campo de cada columna
+     */
+    private final int[] fields;
+
+    /** \brief Constructor de HeaderCSV
+     *
+     * \param String[] attributesNames Corresponde a los nombres de las columnas
+     * \param int[] fields Corresponde al campo de cada columna
+     * \pre \a fields tiene el mismo tamaño que \a attributesNames
+     * \post Se crea la cabecera compilada
+     */
+    private HeaderCSV(String[] attributesNames, int[] fields) {
+        this.attributesNames = attributesNames;
+        this.fields = fields;
+    }
+
+    /** \brief Compila la cabecera de un CSV de Rating
+     *
+     * \param String[] attributesNames Corresponde a los nombres de las columnas
+     * \pre \a attributesNames tiene almenos 3 elementos
+     * \post Devuelve la cabecera compilada. Solo cuentan las 3 primeras columnas: la que contiene "RAT" es el valor, si no la que contiene "USER"
+     * es el usuario y si no la que contiene "ITEM" es el item (sin mirar mayúsculas)
+     */
+    public static HeaderCSV ForRatings(String[] attributesNames) {
+        int[] fields = new int[attributesNames.length];
+        for(int i = 0; i < 3; ++i) {
+            String name = attributesNames[i].toUpperCase();
+            if(name.contains("RAT")) {
+                fields[i] = RATING;
+            }
+            else if(name.contains("USER")) {
+                fields[i] = USER_ID;
+            }
+            else if(name.contains("ITEM")) {
+                fields[i] = ITEM_ID;
+            }
+        }
+        return new HeaderCSV(attributesNames, fields);
+    }
+
+    /** \brief Compila la cabecera de un CSV de usuarios
+     *
+     * \param String[] attributesNames Corresponde a los nombres de las columnas
+     * \pre <em>Cierto</em>
+     * \post Devuelve la cabecera compilada, reconociendo cada columna por el primero de "USERID", "USERNAME", "PASSW", "EMAIL", "SECURITY",
+     * "STARTED", "FAV" y "LIKED" que contenga (sin mirar mayúsculas)
+     */
+    public static HeaderCSV ForUsers(String[] attributesNames) {
+        int[] fields = new int[attributesNames.length];
+        for(int i = 0; i < attributesNames.length; ++i) {
+            String name = attributesNames[i].toUpperCase();
+            if(name.contains("USERID")) {
+                fields[i] = USER_ID;
+            }
+            else if(name.contains("USERNAME")) {
+                fields[i] = USERNAME;
+            }
+            else if(name.contains("PASSW")) {
+                fields[i] = PASSWORD;
+            }
+            else if(name.contains("EMAIL")) {
+                fields[i] = EMAIL;
+            }
+            else if(name.contains("SECURITY")) {
+                fields[i] = SECURITY;
+            }
+            else if(name.contains("STARTED")) {
+                fields[i] = STARTED;
+            }
+            else if(name.contains("FAV")) {
+                fields[i] = FAVOURITES;
+            }
+            else if(name.contains("LIKED")) {
+                fields[i] = LIKED;
+            }
+        }
+        return new HeaderCSV(attributesNames, fields);
+    }
+
+    /** \brief Devuelve los nombres de las columnas a partir de los que se ha compilado
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el mismo array que se usó para compilar la cabecera
+     */
+    public String[] GetAttributesNames() {
+        return attributesNames;
+    }
+
+    /** \brief Devuelve el número de columnas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de columnas de la cabecera
+     */
+    public int GetNumberOfColumns() {
+        return fields.length;
+    }
+
+    /** \brief Devuelve el campo de la columna \a column
+     *
+     * \param int column Corresponde a la columna
+     * \pre 0 <= \a column < GetNumberOfColumns()
+     * \post Devuelve una de las constantes de campo (NONE si la columna no se usa)
+     */
+    public int GetField(int column) {
+        return fields[column];
+    }
+}
@@ -0,0 +1,177 @@
+/** @file ItemSchema.java
+ *  @brief Contiene la clase ItemSchema
+ */
+
+package fxsrc.propyecto.domain;
+
+import fxsrc.propyecto.enums.ItemTypes;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** \class ItemSchema
+ *   \brief Tipo de cada columna de un CSV de Item, decidido una sola vez por fichero.
+ *
+ *   ParserCSV lo infiere a partir de las primeras filas del fichero (InferItemSchema) y luego ParseItem lo usa directamente en lugar de averiguar
+ *   el tipo de cada celda. Si una celda no encaja con el tipo de su columna, la columna se ensancha (INT pasa a FLOAT, y cualquier mezcla de tipos
+ *   distintos pasa a STRING) y se marca que el esquema ha cambiado, para que DataItem pueda volver a cargar el fichero con los tipos definitivos.
+ *   Se puede usar desde varios hilos a la vez.
+ */
+public class ItemSchema {
+
+    /** \brief Nombre de cada columna
+     */
+    private final String[] attributesNames;
+
+    /** \brief Tipo de cada columna (null si aún no se ha visto ningún valor)
+     */
+    private final AtomicReferenceArray<ItemTypes> types;
+
+    /** \brief Indica si cada columna es la ID del item
+     */
+    private final boolean[] idColumns;
+
+    /** \brief Indica si cada columna es la puntuación del item
+     */
+    private final boolean[] scoreColumns;
+
+    /** \brief Indica si alguna columna que ya tenía tipo se ha ensanchado
+     */
+    private volatile boolean widened;
+
+    /** \brief Constructor de ItemSchema
+     *
+     * \param String[] attributesNames Corresponde a los nombres de las columnas (la cabecera del CSV)
+     * \pre \a attributesNames no es null
+     * \post Se crea un esquema sin ningún tipo decidido
+     */
+    public ItemSchema(String[] attributesNames) {
+        this.attributesNames = attributesNames;
+        types = new AtomicReferenceArray<>(attributesNames.length);
+        idColumns = new boolean[attributesNames.length];
+        scoreColumns = new boolean[attributesNames.length];
+        for(int i = 0; i < attributesNames.length; ++i) {
+            String name = attributesNames[i].toUpperCase();
+            idColumns[i] = name.equals("ID");
+            scoreColumns[i] = name.contains("SCORE") || name.contains("VOTE_AVERAGE");
+        }
+    }
+
+    /** \brief Devuelve el tipo más estrecho que admite valores de tipo \a a y de tipo \a b
+     *
+     * \param ItemTypes a Corresponde a un tipo (o null)
+     * \param ItemTypes b Corresponde a otro tipo (o null)
+     * \pre <em>Cierto</em>
+     * \post Si uno es null devuelve el otro, si son iguales lo devuelve, INT y FLOAT dan FLOAT y cualquier otra mezcla da STRING
+     */
+    public static ItemTypes Join(ItemTypes a, ItemTypes b) {
+        if(a == null || a == b) {
+            return b;
+        }
+        if(b == null) {
+            return a;
+        }
+        if((a == ItemTypes.INT && b == ItemTypes.FLOAT) || (a == ItemTypes.FLOAT && b == ItemTypes.INT)) {
+            return ItemTypes.FLOAT;
+        }
+        return ItemTypes.STRING;
+    }
+
+    /** \brief Devuelve el número de columnas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de columnas del esquema
+     */
+    public int GetNumberOfColumns() {
+        return attributesNames.length;
+    }
+
+    /** \brief Devuelve los nombres de las columnas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve los nombres de las columnas
+     */
+    public String[] GetAttributesNames() {
+        return attributesNames;
+    }
+
+    /** \brief Devuelve el nombre de la columna \a column
+     *
+     * \param int column Corresponde a la columna
+     * \pre 0 <= \a column < GetNumberOfColumns()
+     * \post Devuelve el nombre de la columna
+     */
+    public String GetName(int column) {
+        return attributesNames[column];
+    }
+
+    /** \brief Devuelve el tipo de la columna \a column
+     *
+     * \param int column Corresponde a la columna
+     * \pre 0 <= \a column < GetNumberOfColumns()
+     * \post Devuelve el tipo de la columna, o null si aún no se ha decidido
+     */
+    public ItemTypes GetType(int column) {
+        return types.get(column);
+    }
+
+    /** \brief Indica si la columna \a column es la ID del item
+     *
+     * \param int column Corresponde a la columna
+     * \pre 0 <= \a column < GetNumberOfColumns()
+     * \post Devuelve true si la columna se llama "ID" (sin mirar mayúsculas)
+     */
+    public boolean IsIdColumn(int column) {
+        return idColumns[column];
+    }
+
+    /** \brief Indica si la columna \a column es la puntuación del item
+     *
+     * \param int column Corresponde a la columna
+     * \pre 0 <= \a column < GetNumberOfColumns()
+     * \post Devuelve true si el nombre de la columna contiene "SCORE" o "VOTE_AVERAGE" (sin mirar mayúsculas)
+     */
+    public boolean IsScoreColumn(int column) {
+        return scoreColumns[column];
+    }
+
+    /** \brief Ensancha el tipo de la columna \a column para que admita valores de tipo \a type
+     *
+     * \param int column Corresponde a la columna
+     * \param ItemTypes type Corresponde al tipo de los valores que debe admitir
+     * \pre 0 <= \a column < GetNumberOfColumns()
+     * \post El tipo de la columna pasa a ser Join(tipo anterior, \a type) y se devuelve. Si la columna ya tenía tipo y cambia, HasWidened() pasa a ser true
+     */
+    public ItemTypes Widen(int column, ItemTypes type) {
+        while(true) {
+            ItemTypes current = types.get(column);
+            ItemTypes joined = Join(current, type);
+            if(joined == current) {
+                return current;
+            }
+            if(types.compareAndSet(column, current, joined)) {
+                if(current != null) {
+                    widened = true;
+                }
+                return joined;
+            }
+        }
+    }
+
+    /** \brief Indica si alguna columna se ha ensanchado desde la última llamada a ClearWidened
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve true si alguna columna que ya tenía tipo ha cambiado de tipo
+     */
+    public boolean HasWidened() {
+        return widened;
+    }
+
+    /** \brief Olvida los ensanchamientos hechos hasta ahora
+     *
+     * \pre <em>Cierto</em>
+     * \post HasWidened() devuelve false (los tipos no cambian)
+     */
+    public void ClearWidened() {
+        widened = false;
+    }
+}
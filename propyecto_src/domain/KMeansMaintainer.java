@@ -0,0 +1,228 @@
+/** @file KMeansMaintainer.java
+ *  @brief Contiene la clase KMeansMaintainer
+ */
+
+package fxsrc.propyecto.domain;
+
+import fxsrc.propyecto.data.ClusterAssignment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/** \class KMeansMaintainer
+ *   \brief Mantiene al día los grupos y centroides de Kmeans guardados cuando cambian las valoraciones de un usuario, sin volver a entrenar.
+ *
+ *   Para cada centroide guarda, por item, cuántos usuarios del grupo lo han valorado y la suma de sus notas, de forma que el centroide
+ *   (la nota media de cada item entre los usuarios del grupo que lo han valorado) se puede actualizar al sacar o meter un usuario en tiempo
+ *   proporcional a sus valoraciones. Cuando un usuario cambia sus valoraciones se saca de su grupo, se busca su centroide más cercano
+ *   (con la misma distancia que CollaborativeFiltering) y se mete en ese grupo: O(valoraciones del usuario · K).
+ *   Trabaja directamente sobre el ClusterAssignment y los centroides de DataAlgorithm.
+ */
+public class KMeansMaintainer {
+
+    /** \brief Fracción de valoraciones cambiadas desde el último entrenamiento a partir de la cual se vuelve a entrenar Kmeans desde cero
+     */
+    public static final double DEFAULT_RETRAIN_THRESHOLD = 0.05;
+
+    /** \class CentroidItem
+     *  \brief Usuarios del grupo que han valorado un item, suma de sus notas y posición del item en la lista del centroide
+     */
+    private static class CentroidItem {
+        int count;
+        double sum;
+        int position;
+    }
+
+    /** \brief Grupo de cada usuario (el mismo objeto que guarda DataAlgorithm)
+     */
+    private final ClusterAssignment assignment;
+
+    /** \brief Centroides (los mismos objetos que guarda DataAlgorithm)
+     */
+    private final ArrayList<ArrayList<Rating>> centroids;
+
+    /** \brief Para cada centroide, los acumuladores de cada item por itemID
+     */
+    private final ArrayList<HashMap<Integer, CentroidItem>> centroidItems;
+
+    /** \brief Constructor de KMeansMaintainer
+     *
+     * \param ClusterAssignment assignment Corresponde al grupo de cada usuario guardado
+     * \param ArrayList<ArrayList<Rating>> centroids Corresponde a los centroides guardados
+     * \param HashMap<Integer, ArrayList<Rating>> ratingsOfUsers Corresponde a las valoraciones actuales de cada usuario
+     * \pre \a assignment y \a centroids tienen el mismo número de grupos y corresponden a un mismo entrenamiento
+     * \post Se calculan, en un solo recorrido de las valoraciones de los usuarios de los grupos, los acumuladores de cada centroide
+     */
+    public KMeansMaintainer(ClusterAssignment assignment, ArrayList<ArrayList<Rating>> centroids, HashMap<Integer, ArrayList<Rating>> ratingsOfUsers) {
+        this.assignment = assignment;
+        this.centroids = centroids;
+        centroidItems = new ArrayList<>(centroids.size());
+        for(int c = 0; c < centroids.size(); ++c) {
+            ArrayList<Rating> centroid = centroids.get(c);
+            HashMap<Integer, CentroidItem> items = new HashMap<>(centroid.size() * 2);
+            for(int p = 0; p < centroid.size(); ++p) {
+                CentroidItem item = new CentroidItem();
+                item.position = p;
+                items.put(centroid.get(p).GetItemID(), item);
+            }
+            centroidItems.add(items);
+
+            ArrayList<Integer> group = c < assignment.GetNumberOfClusters() ? assignment.GetGroup(c) : new ArrayList<>();
+            for(Integer userID : group) {
+                ArrayList<Rating> ratings = ratingsOfUsers.get(userID);
+                if(ratings == null) {
+                    continue;
+                }
+                for(Rating rating : ratings) {
+                    CentroidItem item = items.get(rating.GetItemID());
+                    if(item != null) {
+                        ++item.count;
+                    }
+                }
+            }
+            //la suma sale de la media guardada, para que el centroide no cambie hasta que cambie algún usuario
+            for(int p = 0; p < centroid.size(); ++p) {
+                CentroidItem item = items.get(centroid.get(p).GetItemID());
+                item.sum = (double) centroid.get(p).GetRating() * item.count;
+            }
+        }
+    }
+
+    /** \brief Actualiza los grupos y centroides después de que cambien las valoraciones de un usuario
+     *
+     * \param int userID Corresponde a la ID del usuario
+     * \param ArrayList<Rating> ratingsBefore Corresponde a las valoraciones del usuario antes del cambio
+     * \param ArrayList<Rating> ratingsAfter Corresponde a las valoraciones del usuario después del cambio
+     * \pre \a ratingsBefore son las valoraciones con las que el usuario está contado en su grupo (vacío si no está en ningún grupo)
+     * \post El usuario sale de su grupo (restando \a ratingsBefore de su centroide) y, si aún tiene valoraciones, entra en el grupo del centroide
+     * más cercano sumando \a ratingsAfter. Devuelve true si el usuario ha cambiado de grupo
+     */
+    public boolean UpdateUser(int userID, ArrayList<Rating> ratingsBefore, ArrayList<Rating> ratingsAfter) {
+        int oldCluster = assignment.Remove(userID);
+        if(oldCluster != -1) {
+            RemoveFromCentroid(oldCluster, ratingsBefore);
+        }
+        if(ratingsAfter.isEmpty() || centroids.isEmpty()) {
+            return oldCluster != -1;
+        }
+        int newCluster = NearestCentroid(ratingsAfter);
+        assignment.Add(userID, newCluster);
+        AddToCentroid(newCluster, ratingsAfter);
+        return oldCluster != newCluster;
+    }
+
+    /** \brief Cuenta cuántas valoraciones han cambiado
+     *
+     * \param ArrayList<Rating> ratingsBefore Corresponde a las valoraciones del usuario antes del cambio
+     * \param ArrayList<Rating> ratingsAfter Corresponde a las valoraciones del usuario después del cambio
+     * \pre Ninguna de las dos listas tiene dos valoraciones del mismo item
+     * \post Devuelve el número de items valorados solo antes, solo después, o antes y después con nota distinta
+     */
+    public static int CountChangedRatings(ArrayList<Rating> ratingsBefore, ArrayList<Rating> ratingsAfter) {
+        HashMap<Integer, Float> valuesBefore = new HashMap<>(ratingsBefore.size() * 2);
+        for(Rating rating : ratingsBefore) {
+            valuesBefore.put(rating.GetItemID(), rating.GetRating());
+        }
+        int changed = 0;
+        for(Rating rating : ratingsAfter) {
+            Float valueBefore = valuesBefore.remove(rating.GetItemID());
+            if(valueBefore == null || valueBefore != rating.GetRating()) {
+                ++changed;
+            }
+        }
+        return changed + valuesBefore.size();
+    }
+
+    /** \brief Devuelve el índice del centroide más cercano a unas valoraciones
+     *
+     * \param ArrayList<Rating> ratings Corresponde a las valoraciones de un usuario
+     * \pre \a ratings no tiene dos valoraciones del mismo item
+     * \post Devuelve el centroide más cercano con la distancia de CollaborativeFiltering (raíz de la suma de cuadrados de las diferencias
+     * en los items en común, sumando en orden de itemID, o 999999999 si no hay ninguno; en caso de empate, el primero)
+     */
+    private int NearestCentroid(ArrayList<Rating> ratings) {
+        int[] itemIDs = new int[ratings.size()];
+        float[] values = new float[ratings.size()];
+        SparseDistance.SortByItem(ratings, itemIDs, values);
+        int nearestCluster = 0;
+        double distanceToCentroidOfNearestCluster = Double.MAX_VALUE;
+        for(int c = 0; c < centroids.size(); ++c) {
+            HashMap<Integer, CentroidItem> items = centroidItems.get(c);
+            ArrayList<Rating> centroid = centroids.get(c);
+            double sum = 0;
+            boolean itemsInCommon = false;
+            for(int i = 0; i < itemIDs.length; ++i) {
+                CentroidItem item = items.get(itemIDs[i]);
+                if(item != null) {
+                    double difference = values[i] - centroid.get(item.position).GetRating();
+                    sum += difference * difference;
+                    itemsInCommon = true;
+                }
+            }
+            double distance = itemsInCommon ? Math.sqrt(sum) : 999999999.0;
+            if(distance < distanceToCentroidOfNearestCluster) {
+                distanceToCentroidOfNearestCluster = distance;
+                nearestCluster = c;
+            }
+        }
+        return nearestCluster;
+    }
+
+    /** \brief Resta las valoraciones de un usuario que sale de un grupo de su centroide
+     *
+     * \param int cluster Corresponde al grupo
+     * \param ArrayList<Rating> ratings Corresponde a las valoraciones con las que el usuario estaba contado en el centroide
+     * \pre El usuario acaba de salir del grupo \a cluster
+     * \post Las valoraciones se restan del centroide, y los items que ya no ha valorado nadie del grupo salen de él
+     */
+    private void RemoveFromCentroid(int cluster, ArrayList<Rating> ratings) {
+        HashMap<Integer, CentroidItem> items = centroidItems.get(cluster);
+        ArrayList<Rating> centroid = centroids.get(cluster);
+        for(Rating rating : ratings) {
+            CentroidItem item = items.get(rating.GetItemID());
+            if(item == null || item.count == 0) {
+                continue;
+            }
+            --item.count;
+            item.sum -= rating.GetRating();
+            if(item.count == 0) {
+                //el item ya no lo ha valorado nadie del grupo: sale del centroide
+                items.remove(rating.GetItemID());
+                int lastItem = centroid.size() - 1;
+                if(item.position != lastItem) {
+                    Rating movedRating = centroid.get(lastItem);
+                    centroid.set(item.position, movedRating);
+                    items.get(movedRating.GetItemID()).position = item.position;
+                }
+                centroid.remove(lastItem);
+            }
+            else {
+                centroid.get(item.position).SetRating((float) (item.sum / item.count));
+            }
+        }
+    }
+
+    /** \brief Suma las valoraciones de un usuario que entra en un grupo a su centroide
+     *
+     * \param int cluster Corresponde al grupo
+     * \param ArrayList<Rating> ratings Corresponde a las valoraciones del usuario
+     * \pre El usuario acaba de entrar en el grupo \a cluster
+     * \post Las valoraciones se suman al centroide
+     */
+    private void AddToCentroid(int cluster, ArrayList<Rating> ratings) {
+        HashMap<Integer, CentroidItem> items = centroidItems.get(cluster);
+        ArrayList<Rating> centroid = centroids.get(cluster);
+        for(Rating rating : ratings) {
+            CentroidItem item = items.get(rating.GetItemID());
+            if(item == null) {
+                item = new CentroidItem();
+                item.position = centroid.size();
+                items.put(rating.GetItemID(), item);
+                centroid.add(new Rating(-1, rating.GetItemID(), rating.GetRating()));
+            }
+            ++item.count;
+            item.sum += rating.GetRating();
+            centroid.get(item.position).SetRating((float) (item.sum / item.count));
+        }
+    }
+}
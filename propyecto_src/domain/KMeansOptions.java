@@ -0,0 +1,302 @@
+/** @file KMeansOptions.java
+ *  @brief Contiene la clase KMeansOptions
+ */
+
+package fxsrc.propyecto.domain;
+
+import fxsrc.propyecto.enums.KMeansModes;
+import fxsrc.propyecto.enums.KMeansSeedings;
+
+/** \class KMeansOptions
+ *   \brief Configuración del entrenamiento de Kmeans que usa CollaborativeFiltering.
+ *
+ *   En modo FULL_BATCH se hacen iteraciones completas (todos los usuarios) hasta que ningún usuario cambia de grupo.
+ *   En modo MINI_BATCH cada iteración solo mira \a batchSize usuarios escogidos al azar y mueve los centroides hacia ellos, así que
+ *   el tiempo de entrenamiento depende de \a batchSize * \a iterations y no del número de usuarios.
+ *   En los dos modos los centroides iniciales pueden ser los primeros K usuarios con bastantes valoraciones (FIRST_USERS) o escogerse con KMeans++.
+ *   En modo FULL_BATCH se puede limitar el número de items de cada centroide (WithMaxCentroidItems) para acotar su memoria y el coste de cada distancia.
+ */
+public class KMeansOptions {
+
+    /** \brief Semilla por defecto para escoger los usuarios de cada mini-batch
+     */
+    public static final long DEFAULT_SEED = 42L;
+
+    /** \brief Máximo de iteraciones de Kmeans completo con máximo de items por centroide, si no se ha pedido otro
+     */
+    public static final int DEFAULT_MAX_ITERATIONS_WITH_TRUNCATION = 100;
+
+    /** \brief Fracción de usuarios movidos con la que se para Kmeans completo con máximo de items por centroide, si no se ha pedido otra
+     */
+    public static final double DEFAULT_MIN_MOVED_FRACTION_WITH_TRUNCATION = 0.01;
+
+    /** \brief Iteraciones seguidas sin que bajen los usuarios movidos con las que se para Kmeans completo con máximo de items por centroide
+     */
+    public static final int DEFAULT_MAX_ITERATIONS_WITHOUT_PROGRESS_WITH_TRUNCATION = 3;
+
+    /** \brief Modo de entrenamiento
+     */
+    private final KMeansModes mode;
+
+    /** \brief Número de usuarios de cada mini-batch
+     */
+    private final int batchSize;
+
+    /** \brief Número de mini-batches
+     */
+    private final int iterations;
+
+    /** \brief Exponente del decaimiento del ritmo de aprendizaje
+     */
+    private final float decay;
+
+    /** \brief Semilla para escoger los usuarios de cada mini-batch y los centroides iniciales de KMeans++
+     */
+    private final long seed;
+
+    /** \brief Forma de escoger los centroides iniciales
+     */
+    private final KMeansSeedings seeding;
+
+    /** \brief Máximo de iteraciones de Kmeans completo
+     */
+    private final int maxIterations;
+
+    /** \brief Kmeans completo se para cuando la fracción de usuarios que cambian de grupo en una iteración es menor o igual que esta
+     */
+    private final double minMovedFraction;
+
+    /** \brief Kmeans completo se para después de este número de iteraciones seguidas sin bajar el mínimo de usuarios movidos (Integer.MAX_VALUE si no hay límite)
+     */
+    private final int maxIterationsWithoutProgress;
+
+    /** \brief Número máximo de items de cada centroide de Kmeans completo (0 si no hay máximo)
+     */
+    private final int maxCentroidItems;
+
+    /** \brief Constructor de KMeansOptions
+     *
+     * \param KMeansModes mode Corresponde al modo de entrenamiento
+     * \param int batchSize Corresponde al número de usuarios de cada mini-batch
+     * \param int iterations Corresponde al número de mini-batches
+     * \param float decay Corresponde al exponente del decaimiento del ritmo de aprendizaje
+     * \param long seed Corresponde a la semilla para escoger los usuarios
+     * \param KMeansSeedings seeding Corresponde a la forma de escoger los centroides iniciales
+     * \param int maxIterations Corresponde al máximo de iteraciones de Kmeans completo
+     * \param double minMovedFraction Corresponde a la fracción de usuarios movidos con la que Kmeans completo se para
+     * \param int maxIterationsWithoutProgress Corresponde a las iteraciones seguidas sin bajar el mínimo de usuarios movidos con las que Kmeans completo se para
+     * \param int maxCentroidItems Corresponde al número máximo de items de cada centroide (0 si no hay máximo)
+     * \pre <em>Cierto</em>
+     * \post Se crea la configuración
+     */
+    private KMeansOptions(KMeansModes mode, int batchSize, int iterations, float decay, long seed, KMeansSeedings seeding, int maxIterations, double minMovedFraction,
+                          int maxIterationsWithoutProgress, int maxCentroidItems) {
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.iterations = iterations;
+        this.decay = decay;
+        this.seed = seed;
+        this.seeding = seeding;
+        this.maxIterations = maxIterations;
+        this.minMovedFraction = minMovedFraction;
+        this.maxIterationsWithoutProgress = maxIterationsWithoutProgress;
+        this.maxCentroidItems = maxCentroidItems;
+    }
+
+    /** \brief Devuelve la configuración de Kmeans completo (iterar con todos los usuarios hasta que ninguno cambie de grupo, empezando por los primeros K usuarios)
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve una configuración en modo FULL_BATCH
+     */
+    public static KMeansOptions FullBatch() {
+        return FullBatch(KMeansSeedings.FIRST_USERS, Integer.MAX_VALUE, 0.0, DEFAULT_SEED);
+    }
+
+    /** \brief Devuelve una configuración de Kmeans completo con control de la convergencia y la semilla por defecto
+     *
+     * \param KMeansSeedings seeding Corresponde a la forma de escoger los centroides iniciales
+     * \param int maxIterations Corresponde al máximo de iteraciones
+     * \param double minMovedFraction Corresponde a la fracción de usuarios que cambian de grupo con la que se considera que ha convergido
+     * \pre \a maxIterations >= 1 y 0 <= \a minMovedFraction < 1
+     * \post Devuelve una configuración en modo FULL_BATCH
+     */
+    public static KMeansOptions FullBatch(KMeansSeedings seeding, int maxIterations, double minMovedFraction) {
+        return FullBatch(seeding, maxIterations, minMovedFraction, DEFAULT_SEED);
+    }
+
+    /** \brief Devuelve una configuración de Kmeans completo con control de la convergencia
+     *
+     * \param KMeansSeedings seeding Corresponde a la forma de escoger los centroides iniciales
+     * \param int maxIterations Corresponde al máximo de iteraciones
+     * \param double minMovedFraction Corresponde a la fracción de usuarios que cambian de grupo con la que se considera que ha convergido:
+     * se para en cuanto en una iteración cambian de grupo como mucho minMovedFraction * (número de usuarios). Con 0 se para cuando no cambia ninguno
+     * \param long seed Corresponde a la semilla de KMeans++
+     * \pre \a maxIterations >= 1 y 0 <= \a minMovedFraction < 1
+     * \post Devuelve una configuración en modo FULL_BATCH
+     */
+    public static KMeansOptions FullBatch(KMeansSeedings seeding, int maxIterations, double minMovedFraction, long seed) {
+        return new KMeansOptions(KMeansModes.FULL_BATCH, 0, 0, 1.0f, seed, seeding, maxIterations, minMovedFraction, Integer.MAX_VALUE, 0);
+    }
+
+    /** \brief Devuelve una configuración de Kmeans por mini-batches con la semilla por defecto
+     *
+     * \param int batchSize Corresponde al número de usuarios de cada mini-batch
+     * \param int iterations Corresponde al número de mini-batches
+     * \param float decay Corresponde al exponente del decaimiento del ritmo de aprendizaje
+     * \pre \a batchSize >= 1, \a iterations >= 0 y 0 < \a decay <= 1
+     * \post Devuelve una configuración en modo MINI_BATCH
+     */
+    public static KMeansOptions MiniBatch(int batchSize, int iterations, float decay) {
+        return MiniBatch(batchSize, iterations, decay, DEFAULT_SEED);
+    }
+
+    /** \brief Devuelve una configuración de Kmeans por mini-batches
+     *
+     * \param int batchSize Corresponde al número de usuarios de cada mini-batch
+     * \param int iterations Corresponde al número de mini-batches
+     * \param float decay Corresponde al exponente del decaimiento del ritmo de aprendizaje: cada vez que un usuario del mini-batch mueve
+     * la nota de un item de su centroide, el ritmo es 1 / n^decay, donde n es el número de veces que se ha movido esa nota. Con 1 la nota
+     * es exactamente la media de los usuarios que la han movido; con valores menores los últimos mini-batches pesan más
+     * \param long seed Corresponde a la semilla para escoger los usuarios
+     * \pre \a batchSize >= 1, \a iterations >= 0 y 0 < \a decay <= 1
+     * \post Devuelve una configuración en modo MINI_BATCH
+     */
+    public static KMeansOptions MiniBatch(int batchSize, int iterations, float decay, long seed) {
+        return MiniBatch(batchSize, iterations, decay, seed, KMeansSeedings.FIRST_USERS);
+    }
+
+    /** \brief Devuelve una configuración de Kmeans por mini-batches indicando cómo se escogen los centroides iniciales
+     *
+     * \param int batchSize Corresponde al número de usuarios de cada mini-batch
+     * \param int iterations Corresponde al número de mini-batches
+     * \param float decay Corresponde al exponente del decaimiento del ritmo de aprendizaje (ver MiniBatch(int, int, float, long))
+     * \param long seed Corresponde a la semilla para escoger los usuarios y los centroides iniciales
+     * \param KMeansSeedings seeding Corresponde a la forma de escoger los centroides iniciales
+     * \pre \a batchSize >= 1, \a iterations >= 0 y 0 < \a decay <= 1
+     * \post Devuelve una configuración en modo MINI_BATCH
+     */
+    public static KMeansOptions MiniBatch(int batchSize, int iterations, float decay, long seed, KMeansSeedings seeding) {
+        return new KMeansOptions(KMeansModes.MINI_BATCH, batchSize, iterations, decay, seed, seeding, iterations, 0.0, Integer.MAX_VALUE, 0);
+    }
+
+    /** \brief Devuelve la misma configuración con un máximo de items por centroide
+     *
+     * \param int maxItems Corresponde al número máximo de items de cada centroide: al recalcular un centroide en Kmeans completo solo se quedan
+     * los \a maxItems items que han valorado más usuarios de su cluster (en caso de empate, los que aparecen antes). Con 0 no hay máximo
+     * \pre \a maxItems >= 0
+     * \post Devuelve una configuración igual a esta pero con \a maxItems como máximo de items por centroide. El error que introduce queda en KMeansStats.
+     * Con centroides recortados Kmeans puede no converger: la distancia solo cuenta los items en común, así que un centroide recortado que comparte
+     * menos items con un usuario le parece más cercano, y muchos usuarios cambian de grupo en cada iteración. Por eso, si no se había pedido ni máximo
+     * de iteraciones ni fracción de usuarios movidos, se para cuando cambian de grupo como mucho \a DEFAULT_MIN_MOVED_FRACTION_WITH_TRUNCATION de los usuarios,
+     * cuando en \a DEFAULT_MAX_ITERATIONS_WITHOUT_PROGRESS_WITH_TRUNCATION iteraciones seguidas no baja el mínimo de usuarios movidos, o como mucho
+     * a las \a DEFAULT_MAX_ITERATIONS_WITH_TRUNCATION iteraciones (el motivo queda en KMeansStats)
+     */
+    public KMeansOptions WithMaxCentroidItems(int maxItems) {
+        if (maxItems > 0 && maxIterations == Integer.MAX_VALUE && minMovedFraction == 0.0) {
+            return new KMeansOptions(mode, batchSize, iterations, decay, seed, seeding, DEFAULT_MAX_ITERATIONS_WITH_TRUNCATION, DEFAULT_MIN_MOVED_FRACTION_WITH_TRUNCATION,
+                    DEFAULT_MAX_ITERATIONS_WITHOUT_PROGRESS_WITH_TRUNCATION, maxItems);
+        }
+        return new KMeansOptions(mode, batchSize, iterations, decay, seed, seeding, maxIterations, minMovedFraction, maxIterationsWithoutProgress, maxItems);
+    }
+
+    /** \brief Devuelve el modo de entrenamiento
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve FULL_BATCH o MINI_BATCH
+     */
+    public KMeansModes GetMode() {
+        return mode;
+    }
+
+    /** \brief Devuelve el número de usuarios de cada mini-batch
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de usuarios de cada mini-batch (0 en modo FULL_BATCH)
+     */
+    public int GetBatchSize() {
+        return batchSize;
+    }
+
+    /** \brief Devuelve el número de mini-batches
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de mini-batches (0 en modo FULL_BATCH)
+     */
+    public int GetIterations() {
+        return iterations;
+    }
+
+    /** \brief Devuelve el exponente del decaimiento del ritmo de aprendizaje
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el exponente del decaimiento del ritmo de aprendizaje
+     */
+    public float GetDecay() {
+        return decay;
+    }
+
+    /** \brief Devuelve la semilla para escoger los usuarios de cada mini-batch y los centroides iniciales de KMeans++
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve la semilla
+     */
+    public long GetSeed() {
+        return seed;
+    }
+
+    /** \brief Indica si es la configuración por defecto, FullBatch()
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve true si es Kmeans completo empezando por los primeros usuarios, sin máximo de iteraciones y hasta que no cambie ningún usuario.
+     * y sin máximo de items por centroide. Es la única configuración cuyo resultado se guarda en el fichero de kmeans, que solo distingue K y los Rating
+     */
+    public boolean IsDefault() {
+        return mode == KMeansModes.FULL_BATCH && seeding == KMeansSeedings.FIRST_USERS && maxIterations == Integer.MAX_VALUE && minMovedFraction == 0.0
+                && maxIterationsWithoutProgress == Integer.MAX_VALUE && maxCentroidItems == 0;
+    }
+
+    /** \brief Devuelve la forma de escoger los centroides iniciales
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve FIRST_USERS o KMEANS_PLUS_PLUS
+     */
+    public KMeansSeedings GetSeeding() {
+        return seeding;
+    }
+
+    /** \brief Devuelve el máximo de iteraciones de Kmeans completo
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el máximo de iteraciones (Integer.MAX_VALUE si no hay máximo)
+     */
+    public int GetMaxIterations() {
+        return maxIterations;
+    }
+
+    /** \brief Devuelve la fracción de usuarios que cambian de grupo con la que Kmeans completo se para
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve la fracción (0 si solo se para cuando no cambia ninguno)
+     */
+    public double GetMinMovedFraction() {
+        return minMovedFraction;
+    }
+
+    /** \brief Devuelve las iteraciones seguidas sin bajar el mínimo de usuarios movidos con las que Kmeans completo se para
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de iteraciones (Integer.MAX_VALUE si no hay límite)
+     */
+    public int GetMaxIterationsWithoutProgress() {
+        return maxIterationsWithoutProgress;
+    }
+
+    /** \brief Devuelve el número máximo de items de cada centroide de Kmeans completo
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el máximo (0 si no hay máximo)
+     */
+    public int GetMaxCentroidItems() {
+        return maxCentroidItems;
+    }
+}
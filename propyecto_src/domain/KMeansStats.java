@@ -0,0 +1,266 @@
+/** @file KMeansStats.java
+ *  @brief Contiene la clase KMeansStats
+ */
+
+package fxsrc.propyecto.domain;
+
+import fxsrc.propyecto.enums.KMeansStopReasons;
+
+import java.util.ArrayList;
+
+/** \class KMeansStats
+ *   \brief Estadísticas de un entrenamiento de Kmeans: cuántas iteraciones ha hecho, cuánto ha tardado cada una, cuántos usuarios han cambiado de grupo en cada una
+ *   y cuántas distancias usuario-centroide se han calculado y cuántas se han podido saltar gracias a las cotas.
+ *
+ *   Sirve para saber cuánto tarda el entrenamiento, por qué se ha parado (por converger, por dejar de mejorar o por llegar al máximo de iteraciones) y cuánto ahorran las cotas.
+ *   Si los centroides tienen un máximo de items, también guarda cuántos items se han quitado de los últimos centroides y el error que introduce.
+ */
+public class KMeansStats {
+
+    /** \brief Tiempo de cada iteración en nanosegundos
+     */
+    private final ArrayList<Long> iterationNanos = new ArrayList<>();
+
+    /** \brief Usuarios que han cambiado de grupo en cada iteración (-1 si no aplica, como en mini-batch)
+     */
+    private final ArrayList<Integer> movedUsers = new ArrayList<>();
+
+    /** \brief Distancias usuario-centroide calculadas en cada iteración
+     */
+    private final ArrayList<Long> evaluatedDistances = new ArrayList<>();
+
+    /** \brief Distancias usuario-centroide que no se han calculado en cada iteración porque las cotas aseguraban que el usuario no cambiaba de grupo
+     */
+    private final ArrayList<Long> skippedDistances = new ArrayList<>();
+
+    /** \brief Tiempo en nanosegundos de escoger los centroides iniciales
+     */
+    private long seedingNanos;
+
+    /** \brief Motivo por el que ha terminado el entrenamiento
+     */
+    private KMeansStopReasons stopReason = KMeansStopReasons.MAX_ITERATIONS;
+
+    /** \brief Items que se han quitado de los últimos centroides calculados por pasar del máximo de items por centroide
+     */
+    private long droppedCentroidItems;
+
+    /** \brief Valoraciones de los usuarios de cada cluster que caen en items que se han quitado de su centroide (en los últimos centroides calculados)
+     */
+    private long droppedCentroidRatings;
+
+    /** \brief Valoraciones de los usuarios de cada cluster, contando también las de los items quitados (en los últimos centroides calculados)
+     */
+    private long centroidRatings;
+
+    /** \brief Añade una iteración
+     *
+     * \param long nanos Corresponde al tiempo de la iteración en nanosegundos
+     * \param int moved Corresponde a los usuarios que han cambiado de grupo (-1 si no aplica)
+     * \param long evaluated Corresponde a las distancias usuario-centroide calculadas
+     * \param long skipped Corresponde a las distancias usuario-centroide que se han saltado
+     * \pre <em>Cierto</em>
+     * \post Se añade la iteración al final
+     */
+    public void AddIteration(long nanos, int moved, long evaluated, long skipped) {
+        iterationNanos.add(nanos);
+        movedUsers.add(moved);
+        evaluatedDistances.add(evaluated);
+        skippedDistances.add(skipped);
+    }
+
+    /** \brief Asigna el tiempo de escoger los centroides iniciales
+     *
+     * \param long nanos Corresponde al tiempo en nanosegundos
+     * \pre <em>Cierto</em>
+     * \post Se guarda el tiempo
+     */
+    public void SetSeedingNanos(long nanos) {
+        seedingNanos = nanos;
+    }
+
+    /** \brief Asigna el motivo por el que ha terminado el entrenamiento
+     *
+     * \param KMeansStopReasons stopReason Corresponde al motivo
+     * \pre <em>Cierto</em>
+     * \post Se guarda el motivo
+     */
+    public void SetStopReason(KMeansStopReasons stopReason) {
+        this.stopReason = stopReason;
+    }
+
+    /** \brief Asigna cuánto se han recortado los últimos centroides calculados
+     *
+     * \param long droppedItems Corresponde a los items quitados de los centroides
+     * \param long droppedRatings Corresponde a las valoraciones de los usuarios de cada cluster a items quitados de su centroide
+     * \param long totalRatings Corresponde a todas las valoraciones de los usuarios de cada cluster
+     * \pre 0 <= \a droppedRatings <= \a totalRatings
+     * \post Se guarda el recorte (sustituye al de los centroides anteriores)
+     */
+    public void SetCentroidTruncation(long droppedItems, long droppedRatings, long totalRatings) {
+        droppedCentroidItems = droppedItems;
+        droppedCentroidRatings = droppedRatings;
+        centroidRatings = totalRatings;
+    }
+
+    /** \brief Devuelve los items quitados de los últimos centroides por pasar del máximo de items por centroide
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve la suma, para todos los centroides, de los items quitados (0 si no hay máximo o no se ha llegado a él)
+     */
+    public long GetDroppedCentroidItems() {
+        return droppedCentroidItems;
+    }
+
+    /** \brief Devuelve el error que introduce el máximo de items por centroide
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve la fracción de las valoraciones de los usuarios de cada cluster que caen en items quitados de su centroide, es decir,
+     * la fracción de términos que dejan de contar en las distancias entre los usuarios y su centroide (0 si no se ha quitado nada)
+     */
+    public double GetTruncationError() {
+        return centroidRatings == 0 ? 0.0 : (double) droppedCentroidRatings / centroidRatings;
+    }
+
+    /** \brief Devuelve el número de iteraciones
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de iteraciones hechas
+     */
+    public int GetIterations() {
+        return iterationNanos.size();
+    }
+
+    /** \brief Devuelve el tiempo de la iteración \a i
+     *
+     * \param int i Corresponde a la iteración
+     * \pre 0 <= \a i < GetIterations()
+     * \post Devuelve el tiempo de la iteración en nanosegundos
+     */
+    public long GetIterationNanos(int i) {
+        return iterationNanos.get(i);
+    }
+
+    /** \brief Devuelve los usuarios que han cambiado de grupo en la iteración \a i
+     *
+     * \param int i Corresponde a la iteración
+     * \pre 0 <= \a i < GetIterations()
+     * \post Devuelve los usuarios que han cambiado de grupo, o -1 si no aplica
+     */
+    public int GetMovedUsers(int i) {
+        return movedUsers.get(i);
+    }
+
+    /** \brief Devuelve las distancias usuario-centroide calculadas en la iteración \a i
+     *
+     * \param int i Corresponde a la iteración
+     * \pre 0 <= \a i < GetIterations()
+     * \post Devuelve el número de distancias calculadas
+     */
+    public long GetEvaluatedDistances(int i) {
+        return evaluatedDistances.get(i);
+    }
+
+    /** \brief Devuelve las distancias usuario-centroide que se han saltado en la iteración \a i
+     *
+     * \param int i Corresponde a la iteración
+     * \pre 0 <= \a i < GetIterations()
+     * \post Devuelve el número de distancias saltadas
+     */
+    public long GetSkippedDistances(int i) {
+        return skippedDistances.get(i);
+    }
+
+    /** \brief Devuelve las distancias usuario-centroide calculadas en todo el entrenamiento
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve la suma de las distancias calculadas en todas las iteraciones
+     */
+    public long GetTotalEvaluatedDistances() {
+        long total = 0;
+        for(long evaluated : evaluatedDistances) {
+            total += evaluated;
+        }
+        return total;
+    }
+
+    /** \brief Devuelve las distancias usuario-centroide saltadas en todo el entrenamiento
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve la suma de las distancias saltadas en todas las iteraciones
+     */
+    public long GetTotalSkippedDistances() {
+        long total = 0;
+        for(long skipped : skippedDistances) {
+            total += skipped;
+        }
+        return total;
+    }
+
+    /** \brief Devuelve el tiempo de escoger los centroides iniciales
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el tiempo en nanosegundos
+     */
+    public long GetSeedingNanos() {
+        return seedingNanos;
+    }
+
+    /** \brief Devuelve el tiempo total del entrenamiento
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve la suma del tiempo de escoger los centroides iniciales y de todas las iteraciones, en nanosegundos
+     */
+    public long GetTotalNanos() {
+        long total = seedingNanos;
+        for(long nanos : iterationNanos) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    /** \brief Devuelve el motivo por el que ha terminado el entrenamiento
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve CONVERGED si han cambiado de grupo pocos usuarios, NO_PROGRESS si los usuarios que cambian de grupo han dejado de bajar
+     * o MAX_ITERATIONS si se ha llegado al máximo de iteraciones (en mini-batch, siempre)
+     */
+    public KMeansStopReasons GetStopReason() {
+        return stopReason;
+    }
+
+    /** \brief Indica si el entrenamiento ha convergido
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve true si ha terminado por converger y false si ha terminado por otro motivo
+     */
+    public boolean HasConverged() {
+        return stopReason == KMeansStopReasons.CONVERGED;
+    }
+
+    /** \brief Devuelve un resumen de las estadísticas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve una línea con el total y una por iteración
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Kmeans: ").append(GetIterations()).append(" iteraciones, ").append(GetTotalNanos() / 1000000).append(" ms")
+                .append(stopReason == KMeansStopReasons.CONVERGED ? " (convergido)" : stopReason == KMeansStopReasons.NO_PROGRESS ? " (sin mejora)" : " (maximo de iteraciones)")
+                .append(", ").append(GetTotalEvaluatedDistances()).append(" distancias calculadas y ").append(GetTotalSkippedDistances()).append(" saltadas").append('\n');
+        sb.append("  centroides iniciales: ").append(seedingNanos / 1000000).append(" ms").append('\n');
+        if(droppedCentroidItems > 0) {
+            sb.append("  centroides recortados: ").append(droppedCentroidItems).append(" items quitados, error ").append(GetTruncationError()).append('\n');
+        }
+        for(int i = 0; i < GetIterations(); ++i) {
+            sb.append("  iteracion ").append(i + 1).append(": ").append(iterationNanos.get(i) / 1000000).append(" ms");
+            if(movedUsers.get(i) >= 0) {
+                sb.append(", ").append(movedUsers.get(i)).append(" usuarios cambian de grupo");
+            }
+            sb.append(", ").append(evaluatedDistances.get(i)).append(" distancias calculadas y ").append(skippedDistances.get(i)).append(" saltadas");
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
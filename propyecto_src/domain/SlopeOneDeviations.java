@@ -0,0 +1,222 @@
+/** @file SlopeOneDeviations.java
+ *  @brief Contiene la clase SlopeOneDeviations
+ */
+
+package fxsrc.propyecto.domain;
+
+import fxsrc.propyecto.data.RatingMatrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/** \class SlopeOneDeviations
+ *   \brief Tabla dispersa de desviaciones item-item de SlopeOne de un grupo de usuarios.
+ *
+ *   Para cada par de items (j, i) que ha valorado a la vez algún usuario del grupo guarda la desviación media (la media de r_i - r_j
+ *   sobre esos usuarios) y cuántos usuarios los han valorado a la vez. Se calcula una vez por grupo, así que una predicción de SlopeOne
+ *   solo tiene que recorrer las filas de los items que ha valorado el usuario en lugar de volver a mirar las notas de todo el grupo.
+ *   Los items se identifican por su columna en la RatingMatrix con la que se ha calculado. Las filas (items j) están ordenadas por columna
+ *   y se guardan en arrays primitivos (formato CSR), con las entradas de cada fila (items i) también ordenadas por columna.
+ */
+public class SlopeOneDeviations {
+
+    /** \brief Columna de cada fila (item j), ordenadas de forma estrictamente creciente
+     */
+    private final int[] rowColumns;
+
+    /** \brief Posición de cada fila en los arrays de entradas (la fila r va de rowStart[r] a rowStart[r + 1])
+     */
+    private final int[] rowStart;
+
+    /** \brief Columna del item i de cada entrada
+     */
+    private final int[] columns;
+
+    /** \brief Desviación media entre el item i y el item j de cada entrada
+     */
+    private final float[] deviations;
+
+    /** \brief Número de usuarios del grupo que han valorado a la vez el item i y el item j de cada entrada
+     */
+    private final int[] counts;
+
+    /** \brief Constructor de SlopeOneDeviations
+     *
+     * \param ArrayList<Integer> users Corresponde a los usuarios del grupo
+     * \param RatingMatrix ratingMatrix Corresponde a las valoraciones de los usuarios
+     * \pre Ningún usuario está repetido en \a users
+     * \post Se calculan las desviaciones del grupo. Cada suma se hace en el orden de \a users, así que cada desviación es exactamente la que se obtiene
+     * sumando en float las diferencias de los usuarios en ese orden y dividiendo por su número. Los usuarios sin valoraciones en \a ratingMatrix no cuentan
+     */
+    public SlopeOneDeviations(ArrayList<Integer> users, RatingMatrix ratingMatrix) {
+        int[] matrixColumns = ratingMatrix.GetRowColumns();
+        float[] matrixValues = ratingMatrix.GetRowValues();
+
+        int[] memberRows = new int[users.size()];
+        int numberOfMembers = 0;
+        int numberOfRatings = 0;
+        for(int userID : users) {
+            int row = ratingMatrix.GetUserRow(userID);
+            if(row != -1) {
+                memberRows[numberOfMembers++] = row;
+                numberOfRatings += ratingMatrix.GetRowSize(row);
+            }
+        }
+
+        //cada valoración del grupo es (columna, posición al recorrer los usuarios en orden) en un long; al ordenar quedan agrupadas por item
+        //y, dentro de cada item, en el orden de los usuarios
+        long[] packed = new long[numberOfRatings];
+        int[] memberOfPosition = new int[numberOfRatings];
+        float[] valueOfPosition = new float[numberOfRatings];
+        int position = 0;
+        for(int m = 0; m < numberOfMembers; ++m) {
+            int row = memberRows[m];
+            for(int p = ratingMatrix.GetRowStart(row); p < ratingMatrix.GetRowEnd(row); ++p) {
+                packed[position] = ((long) matrixColumns[p] << 32) | position;
+                memberOfPosition[position] = m;
+                valueOfPosition[position] = matrixValues[p];
+                ++position;
+            }
+        }
+        Arrays.sort(packed);
+
+        int numberOfItems = ratingMatrix.GetNumberOfItems();
+        float[] sums = new float[numberOfItems];
+        int[] pairCounts = new int[numberOfItems];
+        int[] touched = new int[numberOfItems];
+        int[] rows = new int[numberOfRatings];
+        int[] starts = new int[numberOfRatings + 1];
+        int[] entryColumns = new int[Math.max(16, numberOfRatings)];
+        float[] entryDeviations = new float[entryColumns.length];
+        int[] entryCounts = new int[entryColumns.length];
+        int numberOfRows = 0;
+        int numberOfEntries = 0;
+        int from = 0;
+        while(from < numberOfRatings) {
+            int columnJ = (int) (packed[from] >> 32);
+            int to = from;
+            int numberOfTouched = 0;
+            for(; to < numberOfRatings && (int) (packed[to] >> 32) == columnJ; ++to) {
+                int ratingPosition = (int) packed[to];
+                int row = memberRows[memberOfPosition[ratingPosition]];
+                int rowEnd = ratingMatrix.GetRowEnd(row);
+                float ratingJ = valueOfPosition[ratingPosition];
+                for(int p = ratingMatrix.GetRowStart(row); p < rowEnd; ++p) {
+                    int columnI = matrixColumns[p];
+                    if(columnI == columnJ) {
+                        continue;
+                    }
+                    if(pairCounts[columnI]++ == 0) {
+                        touched[numberOfTouched++] = columnI;
+                    }
+                    sums[columnI] += (matrixValues[p] - ratingJ);
+                }
+            }
+            from = to;
+            if(numberOfTouched == 0) {
+                continue;
+            }
+
+            Arrays.sort(touched, 0, numberOfTouched);
+            if(numberOfEntries + numberOfTouched > entryColumns.length) {
+                int newLength = Math.max(numberOfEntries + numberOfTouched, entryColumns.length * 2);
+                entryColumns = Arrays.copyOf(entryColumns, newLength);
+                entryDeviations = Arrays.copyOf(entryDeviations, newLength);
+                entryCounts = Arrays.copyOf(entryCounts, newLength);
+            }
+            rows[numberOfRows] = columnJ;
+            starts[numberOfRows] = numberOfEntries;
+            ++numberOfRows;
+            for(int t = 0; t < numberOfTouched; ++t) {
+                int columnI = touched[t];
+                entryColumns[numberOfEntries] = columnI;
+                entryDeviations[numberOfEntries] = sums[columnI] / (float) pairCounts[columnI];
+                entryCounts[numberOfEntries] = pairCounts[columnI];
+                ++numberOfEntries;
+                sums[columnI] = 0.0f;
+                pairCounts[columnI] = 0;
+            }
+        }
+        starts[numberOfRows] = numberOfEntries;
+
+        rowColumns = Arrays.copyOf(rows, numberOfRows);
+        rowStart = Arrays.copyOf(starts, numberOfRows + 1);
+        columns = Arrays.copyOf(entryColumns, numberOfEntries);
+        deviations = Arrays.copyOf(entryDeviations, numberOfEntries);
+        counts = Arrays.copyOf(entryCounts, numberOfEntries);
+    }
+
+    /** \brief Devuelve la fila de un item
+     *
+     * \param int column Corresponde a la columna del item en la RatingMatrix
+     * \pre <em>Cierto</em>
+     * \post Devuelve la fila del item (búsqueda binaria), o -1 si ningún usuario del grupo lo ha valorado junto con otro item
+     */
+    public int FindRow(int column) {
+        int row = Arrays.binarySearch(rowColumns, column);
+        return row < 0 ? -1 : row;
+    }
+
+    /** \brief Devuelve la primera posición de la fila \a row
+     *
+     * \pre 0 <= \a row < GetNumberOfRows()
+     * \post Devuelve la primera posición de la fila dentro de los arrays de entradas
+     */
+    public int GetRowStart(int row) {
+        return rowStart[row];
+    }
+
+    /** \brief Devuelve la posición siguiente a la última de la fila \a row
+     *
+     * \pre 0 <= \a row < GetNumberOfRows()
+     * \post Devuelve la posición siguiente a la última de la fila dentro de los arrays de entradas
+     */
+    public int GetRowEnd(int row) {
+        return rowStart[row + 1];
+    }
+
+    /** \brief Devuelve el número de filas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de items que tienen alguna desviación
+     */
+    public int GetNumberOfRows() {
+        return rowColumns.length;
+    }
+
+    /** \brief Devuelve el número de entradas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de pares de items (j, i) con desviación
+     */
+    public int GetNumberOfEntries() {
+        return columns.length;
+    }
+
+    /** \brief Devuelve la columna del item i de cada entrada
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con la columna del item i de cada entrada, agrupadas por fila
+     */
+    public int[] GetColumns() {
+        return columns;
+    }
+
+    /** \brief Devuelve la desviación de cada entrada
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con la desviación media entre el item i y el item j de cada entrada
+     */
+    public float[] GetDeviations() {
+        return deviations;
+    }
+
+    /** \brief Devuelve el número de usuarios de cada entrada
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con el número de usuarios que han valorado a la vez el item i y el item j de cada entrada
+     */
+    public int[] GetCounts() {
+        return counts;
+    }
+}
@@ -0,0 +1,239 @@
+/** @file SlopeOneKernel.java
+ *  @brief Contiene la clase SlopeOneKernel
+ */
+
+package fxsrc.propyecto.domain;
+
+import fxsrc.propyecto.data.IdDictionary;
+import fxsrc.propyecto.data.RatingMatrix;
+
+import java.util.ArrayList;
+
+/** \class SlopeOneKernel
+ *   \brief Cálculo de las predicciones de SlopeOne de un usuario sobre arrays primitivos reutilizables.
+ *
+ *   Cada hilo tiene su propio kernel (ForCurrentThread) con los acumuladores indexados por el índice interno del item (el de IdDictionary),
+ *   así que una predicción no crea objetos: los items valorados por el usuario y los items con predicción se marcan en máscaras de bits
+ *   (un long por cada 64 items), y solo se recorren y limpian los items tocados. Los items del sistema que no tienen ninguna desviación
+ *   con los valorados no se guardan: solo se cuentan (GetNumberOfUnpredictable).
+ *   El resultado es el mismo que el de SlopeOne sobre las listas de Rating: para cada item i no valorado, la media en float de
+ *   (valoración del usuario a j + desviación entre i y j), sumando en el orden de las valoraciones del usuario.
+ */
+public class SlopeOneKernel {
+
+    /** \brief Kernel de cada hilo
+     */
+    private static final ThreadLocal<SlopeOneKernel> kernels = ThreadLocal.withInitial(SlopeOneKernel::new);
+
+    /** \brief Suma de (valoración del usuario a j + desviación entre i y j) de cada item i, por índice interno
+     */
+    private float[] sums;
+
+    /** \brief Número de términos de la suma de cada item i, por índice interno
+     */
+    private int[] terms;
+
+    /** \brief Máscara de los items valorados por el usuario, por índice interno
+     */
+    private long[] ratedMask;
+
+    /** \brief Máscara de los items con alguna desviación (los que tienen predicción), por índice interno
+     */
+    private long[] predictedMask;
+
+    /** \brief Índice interno de cada item con predicción, en el orden en el que se han encontrado (después de SelectBest, las mejores de mayor a menor predicción)
+     */
+    private int[] predictedItems;
+
+    /** \brief Predicción de cada item de \a predictedItems
+     */
+    private float[] predictedValues;
+
+    /** \brief Selector de las mejores predicciones
+     */
+    private final TopKSelector selector;
+
+    /** \brief Número de items con predicción de la última llamada a Predict
+     */
+    private int numberOfPredicted;
+
+    /** \brief Número de items del sistema no valorados por el usuario de la última llamada a Predict
+     */
+    private int numberOfCandidates;
+
+    /** \brief Constructor de SlopeOneKernel
+     *
+     * \pre <em>Cierto</em>
+     * \post Se crea un kernel sin memoria reservada (se reserva en la primera predicción)
+     */
+    private SlopeOneKernel() {
+        sums = new float[0];
+        terms = new int[0];
+        ratedMask = new long[0];
+        predictedMask = new long[0];
+        predictedItems = new int[0];
+        predictedValues = new float[0];
+        selector = new TopKSelector(0, true);
+    }
+
+    /** \brief Devuelve el kernel del hilo actual
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el kernel del hilo que llama (siempre el mismo para cada hilo)
+     */
+    public static SlopeOneKernel ForCurrentThread() {
+        return kernels.get();
+    }
+
+    /** \brief Calcula las predicciones de SlopeOne de un usuario
+     *
+     * \param ArrayList<Rating> ratingsOfUser Corresponde a las valoraciones del usuario
+     * \param SlopeOneDeviations deviations Corresponde a las desviaciones del grupo de usuarios similares
+     * \param RatingMatrix ratingMatrix Corresponde a la matriz con la que se han calculado las desviaciones
+     * \param int[] itemIndexOfColumn Corresponde al índice interno del item de cada columna de \a ratingMatrix
+     * \param IdDictionary itemsDictionary Corresponde al diccionario de items
+     * \param int numberOfItemsInTheSystem Corresponde al número de items del sistema (los que tienen índice interno menor que este número)
+     * \pre El usuario no ha valorado (en \a ratingMatrix) ningún item que no esté en \a ratingsOfUser
+     * \post Se calcula la predicción de cada item del sistema no valorado que tiene alguna desviación con los valorados (GetPredictedItems y GetPredictedValues)
+     * y se devuelve cuántos son. Los demás items del sistema no valorados no tienen predicción. El kernel queda listo para otra predicción
+     */
+    public int Predict(ArrayList<Rating> ratingsOfUser, SlopeOneDeviations deviations, RatingMatrix ratingMatrix, int[] itemIndexOfColumn,
+                       IdDictionary itemsDictionary, int numberOfItemsInTheSystem) {
+        Reserve(numberOfItemsInTheSystem);
+
+        int numberOfRated = 0;
+        for (Rating rating : ratingsOfUser) {
+            int itemIndex = itemsDictionary.GetIndex(rating.GetItemID());
+            if (itemIndex < 0 || itemIndex >= numberOfItemsInTheSystem || IsSet(ratedMask, itemIndex)) continue;
+            ratedMask[itemIndex >>> 6] |= 1L << itemIndex;
+            ++numberOfRated;
+        }
+        numberOfCandidates = numberOfItemsInTheSystem - numberOfRated;
+
+        int[] columns = deviations.GetColumns();
+        float[] deviationsIandJ = deviations.GetDeviations();
+        numberOfPredicted = 0;
+        for (Rating ratingJ : ratingsOfUser) {
+            int row = deviations.FindRow(ratingMatrix.GetItemColumn(ratingJ.GetItemID()));
+            if (row == -1) continue;
+            float ratingOfUserToJ = ratingJ.GetRating();
+            int end = deviations.GetRowEnd(row);
+            for (int e = deviations.GetRowStart(row); e < end; ++e) {
+                int itemIndex = itemIndexOfColumn[columns[e]];
+                //Float.MIN_VALUE era la marca de "sin desviación" de la versión con listas: una desviación que valga exactamente eso no se usaba
+                if (itemIndex < 0 || itemIndex >= numberOfItemsInTheSystem || IsSet(ratedMask, itemIndex) || deviationsIandJ[e] == Float.MIN_VALUE) continue;
+                if (!IsSet(predictedMask, itemIndex)) {
+                    predictedMask[itemIndex >>> 6] |= 1L << itemIndex;
+                    predictedItems[numberOfPredicted++] = itemIndex;
+                    sums[itemIndex] = 0.0f;
+                    terms[itemIndex] = 0;
+                }
+                sums[itemIndex] += ratingOfUserToJ + deviationsIandJ[e];
+                ++terms[itemIndex];
+            }
+        }
+
+        for (int p = 0; p < numberOfPredicted; ++p) {
+            int itemIndex = predictedItems[p];
+            predictedValues[p] = sums[itemIndex] / terms[itemIndex];
+            predictedMask[itemIndex >>> 6] &= ~(1L << itemIndex);
+        }
+        for (Rating rating : ratingsOfUser) {
+            int itemIndex = itemsDictionary.GetIndex(rating.GetItemID());
+            if (itemIndex >= 0 && itemIndex < numberOfItemsInTheSystem) ratedMask[itemIndex >>> 6] &= ~(1L << itemIndex);
+        }
+        return numberOfPredicted;
+    }
+
+    /** \brief Deja al principio las mejores predicciones de la última llamada a Predict
+     *
+     * \param int n Corresponde al número de predicciones que se quieren
+     * \pre \a n >= 0
+     * \post Las primeras posiciones de GetPredictedItems() y GetPredictedValues() tienen las min(\a n, GetNumberOfPredicted()) mejores predicciones, de mayor a menor
+     * (con el orden de Float.compare) y, a igual predicción, por índice interno creciente, que es el orden en que quedaban al ordenar de forma estable la
+     * lista de predicciones de todos los items del sistema. Se devuelve cuántas son. Cuesta O(GetNumberOfPredicted() * log(n))
+     */
+    public int SelectBest(int n) {
+        selector.Reset(Math.min(n, numberOfPredicted));
+        for (int p = 0; p < numberOfPredicted; ++p) {
+            selector.Offer(predictedItems[p], predictedValues[p]);
+        }
+        selector.Sort();
+        int selected = selector.Size();
+        System.arraycopy(selector.GetKeys(), 0, predictedItems, 0, selected);
+        System.arraycopy(selector.GetValues(), 0, predictedValues, 0, selected);
+        return selected;
+    }
+
+    /** \brief Devuelve los items con predicción
+     *
+     * \pre Se ha llamado a Predict
+     * \post Devuelve el array interno (solo lectura) con el índice interno de cada item con predicción en sus primeras GetNumberOfPredicted() posiciones
+     */
+    public int[] GetPredictedItems() {
+        return predictedItems;
+    }
+
+    /** \brief Devuelve las predicciones
+     *
+     * \pre Se ha llamado a Predict
+     * \post Devuelve el array interno (solo lectura) con la predicción de cada item de GetPredictedItems()
+     */
+    public float[] GetPredictedValues() {
+        return predictedValues;
+    }
+
+    /** \brief Devuelve el número de items con predicción
+     *
+     * \pre Se ha llamado a Predict
+     * \post Devuelve el número de items del sistema no valorados por el usuario que tienen predicción
+     */
+    public int GetNumberOfPredicted() {
+        return numberOfPredicted;
+    }
+
+    /** \brief Devuelve el número de items del sistema no valorados por el usuario
+     *
+     * \pre Se ha llamado a Predict
+     * \post Devuelve el número de items del sistema no valorados, tengan predicción o no
+     */
+    public int GetNumberOfCandidates() {
+        return numberOfCandidates;
+    }
+
+    /** \brief Devuelve el número de items del sistema no valorados por el usuario que no tienen predicción
+     *
+     * \pre Se ha llamado a Predict
+     * \post Devuelve GetNumberOfCandidates() - GetNumberOfPredicted()
+     */
+    public int GetNumberOfUnpredictable() {
+        return numberOfCandidates - numberOfPredicted;
+    }
+
+    /** \brief Amplía los arrays si hace falta
+     *
+     * \param int numberOfItems Corresponde al número de items que deben caber
+     * \pre <em>Cierto</em>
+     * \post Los arrays tienen sitio para \a numberOfItems items y las máscaras siguen vacías
+     */
+    private void Reserve(int numberOfItems) {
+        if (numberOfItems <= sums.length) return;
+        sums = new float[numberOfItems];
+        terms = new int[numberOfItems];
+        ratedMask = new long[(numberOfItems + 63) >>> 6];
+        predictedMask = new long[ratedMask.length];
+        predictedItems = new int[numberOfItems];
+        predictedValues = new float[numberOfItems];
+    }
+
+    /** \brief Indica si un bit de una máscara está a 1
+     *
+     * \param long[] mask Corresponde a la máscara
+     * \param int index Corresponde a la posición del bit
+     * \pre 0 <= \a index < 64 * \a mask.length
+     * \post Devuelve si el bit \a index de \a mask está a 1
+     */
+    private static boolean IsSet(long[] mask, int index) {
+        return (mask[index >>> 6] & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,141 @@
+/** @file SparseDistance.java
+ *  @brief Contiene la clase SparseDistance
+ */
+
+package fxsrc.propyecto.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/** \class SparseDistance
+ *   \brief Distancia euclídea entre dos vectores dispersos de valoraciones (usuarios o centroides) guardados como arrays primitivos ordenados por itemID.
+ *
+ *   Solo cuentan los items valorados en los dos vectores. Como los dos están ordenados, los items en común se encuentran con una sola pasada
+ *   (merge) en tiempo O(|a| + |b|), en lugar de comparar cada valoración de uno con todas las del otro. Si un vector es mucho más corto que el otro,
+ *   para cada item del corto se busca en el largo con búsqueda exponencial (galloping), en tiempo O(|corto| * log(|largo|)).
+ */
+public class SparseDistance {
+
+    /** \brief A partir de esta proporción entre el tamaño del vector largo y el del corto se usa galloping en lugar del merge lineal
+     */
+    private static final int GALLOPING_RATIO = 16;
+
+    /** \brief Constructor privado: la clase solo tiene funciones estáticas
+     */
+    private SparseDistance() {
+    }
+
+    /** \brief Devuelve la suma de los cuadrados de las diferencias de valoración sobre los items en común
+     *
+     * \param int[] itemsA Corresponde a los itemID del vector a
+     * \param float[] valuesA Corresponde a las valoraciones del vector a
+     * \param int startA Corresponde a la primera posición del vector a dentro de los arrays
+     * \param int endA Corresponde a la posición siguiente a la última del vector a
+     * \param int[] itemsB Corresponde a los itemID del vector b
+     * \param float[] valuesB Corresponde a las valoraciones del vector b
+     * \param int startB Corresponde a la primera posición del vector b dentro de los arrays
+     * \param int endB Corresponde a la posición siguiente a la última del vector b
+     * \pre Los itemID de cada vector están ordenados de forma estrictamente creciente
+     * \post Devuelve la suma de (valor en a - valor en b)^2 para los items que están en los dos vectores, sumando en orden de itemID, o -1.0 si no tienen ningún item en común
+     */
+    public static double SquaredDistance(int[] itemsA, float[] valuesA, int startA, int endA, int[] itemsB, float[] valuesB, int startB, int endB) {
+        int sizeA = endA - startA;
+        int sizeB = endB - startB;
+        if(sizeA == 0 || sizeB == 0) {
+            return -1.0;
+        }
+        if(sizeB / sizeA >= GALLOPING_RATIO) {
+            return Galloping(itemsA, valuesA, startA, endA, itemsB, valuesB, startB, endB, false);
+        }
+        if(sizeA / sizeB >= GALLOPING_RATIO) {
+            return Galloping(itemsB, valuesB, startB, endB, itemsA, valuesA, startA, endA, true);
+        }
+
+        double sum = 0;
+        boolean itemsInCommon = false;
+        int i = startA;
+        int j = startB;
+        while(i < endA && j < endB) {
+            int itemA = itemsA[i];
+            int itemB = itemsB[j];
+            if(itemA < itemB) {
+                ++i;
+            }
+            else if(itemA > itemB) {
+                ++j;
+            }
+            else {
+                double difference = valuesA[i] - valuesB[j];
+                sum += difference * difference;
+                itemsInCommon = true;
+                ++i;
+                ++j;
+            }
+        }
+        return itemsInCommon ? sum : -1.0;
+    }
+
+    /** \brief Igual que SquaredDistance, buscando cada item del vector corto en el largo con búsqueda exponencial
+     *
+     * \param int[] itemsS Corresponde a los itemID del vector corto
+     * \param float[] valuesS Corresponde a las valoraciones del vector corto
+     * \param int startS Corresponde a la primera posición del vector corto
+     * \param int endS Corresponde a la posición siguiente a la última del vector corto
+     * \param int[] itemsL Corresponde a los itemID del vector largo
+     * \param float[] valuesL Corresponde a las valoraciones del vector largo
+     * \param int startL Corresponde a la primera posición del vector largo
+     * \param int endL Corresponde a la posición siguiente a la última del vector largo
+     * \param boolean swapped Indica si el vector corto es el b (para restar siempre a - b)
+     * \pre Los itemID de cada vector están ordenados de forma estrictamente creciente
+     * \post Devuelve lo mismo que SquaredDistance
+     */
+    private static double Galloping(int[] itemsS, float[] valuesS, int startS, int endS, int[] itemsL, float[] valuesL, int startL, int endL, boolean swapped) {
+        double sum = 0;
+        boolean itemsInCommon = false;
+        int low = startL;
+        for(int i = startS; i < endS && low < endL; ++i) {
+            int item = itemsS[i];
+            //buscamos el primer hueco de tamaño 2^k donde ya se pasa del item y luego búsqueda binaria dentro de él
+            int step = 1;
+            int high = low;
+            while(high < endL && itemsL[high] < item) {
+                low = high + 1;
+                high = low + step;
+                step <<= 1;
+            }
+            int position = Arrays.binarySearch(itemsL, low, Math.min(high + 1, endL), item);
+            if(position >= 0) {
+                double difference = swapped ? valuesL[position] - valuesS[i] : valuesS[i] - valuesL[position];
+                sum += difference * difference;
+                itemsInCommon = true;
+                low = position + 1;
+            }
+            else {
+                low = -position - 1;
+            }
+        }
+        return itemsInCommon ? sum : -1.0;
+    }
+
+    /** \brief Pasa una lista de Rating a arrays primitivos ordenados por itemID
+     *
+     * \param ArrayList<Rating> ratings Corresponde a la lista de valoraciones (de un usuario o de un centroide)
+     * \param int[] itemIDs Corresponde al array donde se guardan los itemID
+     * \param float[] values Corresponde al array donde se guardan las valoraciones
+     * \pre \a itemIDs y \a values tienen almenos el tamaño de \a ratings y \a ratings no tiene dos Rating del mismo item
+     * \post Las primeras ratings.size() posiciones de \a itemIDs y \a values contienen las valoraciones de \a ratings ordenadas por itemID
+     */
+    public static void SortByItem(ArrayList<Rating> ratings, int[] itemIDs, float[] values) {
+        int size = ratings.size();
+        long[] packed = new long[size];
+        for(int i = 0; i < size; ++i) {
+            Rating rating = ratings.get(i);
+            packed[i] = ((long) rating.GetItemID() << 32) | (Float.floatToRawIntBits(rating.GetRating()) & 0xffffffffL);
+        }
+        Arrays.sort(packed);
+        for(int i = 0; i < size; ++i) {
+            itemIDs[i] = (int) (packed[i] >> 32);
+            values[i] = Float.intBitsToFloat((int) packed[i]);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/** @file TokenizerCSV.java
+ *  @brief Contiene la clase TokenizerCSV
+ */
+
+package fxsrc.propyecto.domain;
+
+import java.util.Arrays;
+
+/** \class TokenizerCSV
+ *   \brief Separa un texto en celdas guardando solo donde empieza y acaba cada una.
+ *
+ *   Recorre el texto una sola vez y guarda las posiciones de cada celda en arrays que se reutilizan de una línea a otra, así que separar una línea
+ *   no crea ningún objeto. Cada celda solo se convierte (a int, float o String) cuando se pide.
+ *   Si se respetan las comillas, un separador entre comillas no corta la celda y las comillas se quedan dentro de la celda (como hacía CutCSVInParts).
+ *   Si no, se separa igual que String.split: si hay algún separador se quitan las celdas vacías del final.
+ *   No se puede usar la misma instancia desde varios hilos a la vez.
+ */
+public class TokenizerCSV {
+
+    /** \brief Número inicial de celdas que caben en los arrays
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** \brief Potencias de 10 que son exactas en float (hasta 10^10)
+     */
+    private static final float[] FLOAT_POW10 = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    /** \brief Mayor mantisa que se puede representar exactamente en float (2^24)
+     */
+    private static final int MAX_EXACT_FLOAT_MANTISSA = 1 << 24;
+
+    /** \brief Carácter que separa las celdas
+     */
+    private final char separator;
+
+    /** \brief Indica si un separador entre comillas forma parte de la celda
+     */
+    private final boolean quoted;
+
+    /** \brief Texto que se está separando
+     */
+    private CharSequence text;
+
+    /** \brief Posición del primer carácter de cada celda
+     */
+    private int[] cellStart;
+
+    /** \brief Posición siguiente al último carácter de cada celda
+     */
+    private int[] cellEnd;
+
+    /** \brief Número de celdas del texto actual
+     */
+    private int size;
+
+    /** \brief Constructor de TokenizerCSV
+     *
+     * \param char separator Corresponde al carácter que separa las celdas
+     * \param boolean quoted Indica si se respetan las comillas (para las columnas de una línea CSV) o se separa como String.split (para los valores de una celda)
+     * \pre <em>Cierto</em>
+     * \post Se crea un TokenizerCSV sin texto
+     */
+    public TokenizerCSV(char separator, boolean quoted) {
+        this.separator = separator;
+        this.quoted = quoted;
+        cellStart = new int[INITIAL_CAPACITY];
+        cellEnd = new int[INITIAL_CAPACITY];
+    }
+
+    /** \brief Separa todo el texto \a text en celdas
+     *
+     * \param CharSequence text Corresponde al texto a separar
+     * \pre \a text no es null
+     * \post Las celdas pasan a ser las de \a text
+     */
+    public void Reset(CharSequence text) {
+        Reset(text, 0, text.length());
+    }
+
+    /** \brief Separa en celdas la parte de \a text entre \a start y \a end
+     *
+     * \param CharSequence text Corresponde al texto a separar
+     * \param int start Corresponde a la primera posición a separar
+     * \param int end Corresponde a la posición siguiente a la última a separar
+     * \pre 0 <= \a start <= \a end <= text.length()
+     * \post Las celdas pasan a ser las de esa parte de \a text (sus posiciones son posiciones de \a text)
+     */
+    public void Reset(CharSequence text, int start, int end) {
+        this.text = text;
+        size = 0;
+        boolean quote = false;
+        int begin = start;
+        for(int i = start; i < end; ++i) {
+            char c = text.charAt(i);
+            if(quoted && c == '"') {
+                quote = !quote;
+            }
+            else if(c == separator && !quote) {
+                AddCell(begin, i);
+                begin = i + 1;
+            }
+        }
+        AddCell(begin, end);
+        if(!quoted && size > 1) {
+            while(size > 0 && cellStart[size - 1] == cellEnd[size - 1]) {
+                --size;
+            }
+        }
+    }
+
+    /** \brief Añade una celda
+     *
+     * \param int start Corresponde a la primera posición de la celda
+     * \param int end Corresponde a la posición siguiente a la última de la celda
+     * \pre <em>Cierto</em>
+     * \post Se añade la celda, ampliando los arrays si hace falta
+     */
+    private void AddCell(int start, int end) {
+        if(size == cellStart.length) {
+            cellStart = Arrays.copyOf(cellStart, size * 2);
+            cellEnd = Arrays.copyOf(cellEnd, size * 2);
+        }
+        cellStart[size] = start;
+        cellEnd[size] = end;
+        ++size;
+    }
+
+    /** \brief Devuelve el número de celdas
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el número de celdas del texto actual
+     */
+    public int GetNumberOfCells() {
+        return size;
+    }
+
+    /** \brief Devuelve la posición donde empieza la celda \a i
+     *
+     * \param int i Corresponde a la celda
+     * \pre 0 <= \a i < GetNumberOfCells()
+     * \post Devuelve la posición en el texto del primer carácter de la celda
+     */
+    public int GetCellStart(int i) {
+        return cellStart[i];
+    }
+
+    /** \brief Devuelve la posición donde acaba la celda \a i
+     *
+     * \param int i Corresponde a la celda
+     * \pre 0 <= \a i < GetNumberOfCells()
+     * \post Devuelve la posición en el texto siguiente al último carácter de la celda
+     */
+    public int GetCellEnd(int i) {
+        return cellEnd[i];
+    }
+
+    /** \brief Indica si la celda \a i está vacía
+     *
+     * \param int i Corresponde a la celda
+     * \pre 0 <= \a i < GetNumberOfCells()
+     * \post Devuelve true si la celda no tiene ningún carácter
+     */
+    public boolean IsEmpty(int i) {
+        return cellStart[i] == cellEnd[i];
+    }
+
+    /** \brief Devuelve el contenido de la celda \a i
+     *
+     * \param int i Corresponde a la celda
+     * \pre 0 <= \a i < GetNumberOfCells()
+     * \post Devuelve un String nuevo con el contenido de la celda
+     */
+    public String GetString(int i) {
+        return text.subSequence(cellStart[i], cellEnd[i]).toString();
+    }
+
+    /** \brief Indica si la celda \a i es igual a \a value sin mirar mayúsculas
+     *
+     * \param int i Corresponde a la celda
+     * \param String value Corresponde al valor en mayúsculas
+     * \pre 0 <= \a i < GetNumberOfCells() y \a value está en mayúsculas
+     * \post Devuelve true si la celda pasada a mayúsculas es igual a \a value
+     */
+    public boolean EqualsUpperCase(int i, String value) {
+        int start = cellStart[i];
+        if(cellEnd[i] - start != value.length()) {
+            return false;
+        }
+        for(int j = 0; j < value.length(); ++j) {
+            if(Character.toUpperCase(text.charAt(start + j)) != value.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** \brief Indica si la celda \a i se puede leer como int
+     *
+     * \param int i Corresponde a la celda
+     * \pre 0 <= \a i < GetNumberOfCells()
+     * \post Devuelve true si Integer.parseInt aceptaría la celda
+     */
+    public boolean IsInt(int i) {
+        return ParseInt(cellStart[i], cellEnd[i]) != Long.MIN_VALUE;
+    }
+
+    /** \brief Devuelve la celda \a i leída como int
+     *
+     * \param int i Corresponde a la celda
+     * \pre 0 <= \a i < GetNumberOfCells()
+     * \post Devuelve el valor de la celda, o lanza NumberFormatException igual que Integer.parseInt si no es un int
+     */
+    public int GetInt(int i) {
+        long value = ParseInt(cellStart[i], cellEnd[i]);
+        if(value == Long.MIN_VALUE) {
+            throw new NumberFormatException("For input string: \"" + GetString(i) + "\"");
+        }
+        return (int) value;
+    }
+
+    /** \brief Lee un int entre \a start y \a end sin crear objetos
+     *
+     * \param int start Corresponde a la primera posición
+     * \param int end Corresponde a la posición siguiente a la última
+     * \pre <em>Cierto</em>
+     * \post Devuelve el valor (acepta lo mismo que Integer.parseInt) o Long.MIN_VALUE si no es un int válido
+     */
+    private long ParseInt(int start, int end) {
+        if(start == end) {
+            return Long.MIN_VALUE;
+        }
+        boolean negative = false;
+        char first = text.charAt(start);
+        if(first == '-' || first == '+') {
+            negative = first == '-';
+            if(++start == end) {
+                return Long.MIN_VALUE;
+            }
+        }
+        long value = 0;
+        for(int j = start; j < end; ++j) {
+            int digit = Character.digit(text.charAt(j), 10);
+            if(digit < 0) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+            if(value > (long) Integer.MAX_VALUE + 1) {
+                return Long.MIN_VALUE;
+            }
+        }
+        if(negative) {
+            return -value;
+        }
+        return value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+    }
+
+    /** \brief Indica si la celda \a i se puede leer como float
+     *
+     * \param int i Corresponde a la celda
+     * \pre 0 <= \a i < GetNumberOfCells()
+     * \post Devuelve true si Float.parseFloat aceptaría la celda. Las celdas que no pueden ser un número se descartan sin crear objetos
+     */
+    public boolean IsFloat(int i) {
+        int start = cellStart[i];
+        int end = cellEnd[i];
+        while(start < end && text.charAt(start) <= ' ') { //Float.parseFloat ignora los espacios de los extremos
+            ++start;
+        }
+        if(start == end) {
+            return false;
+        }
+        char first = text.charAt(start);
+        if(!(first >= '0' && first <= '9') && first != '.' && first != '-' && first != '+' && first != 'N' && first != 'I') {
+            return false;
+        }
+        try {
+            Float.parseFloat(GetString(i));
+            return true;
+        }
+        catch(NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /** \brief Devuelve la celda \a i leída como float
+     *
+     * \param int i Corresponde a la celda
+     * \pre 0 <= \a i < GetNumberOfCells()
+     * \post Devuelve el valor de la celda, o lanza NumberFormatException igual que Float.parseFloat si no es un float.
+     * Los decimales simples (como "4.5" o "-3") se leen sin crear objetos y dan exactamente el mismo valor que Float.parseFloat
+     */
+    public float GetFloat(int i) {
+        int start = cellStart[i];
+        int end = cellEnd[i];
+        if(start < end) {
+            boolean negative = false;
+            char first = text.charAt(start);
+            if(first == '-' || first == '+') {
+                negative = first == '-';
+                ++start;
+            }
+            int mantissa = 0;
+            int digits = 0;
+            int decimals = -1; //-1 mientras no se haya visto el punto
+            int j = start;
+            for(; j < end; ++j) {
+                char c = text.charAt(j);
+                if(c >= '0' && c <= '9') {
+                    if(mantissa > (MAX_EXACT_FLOAT_MANTISSA - 9) / 10) {
+                        break;
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                    ++digits;
+                    if(decimals >= 0) ++decimals;
+                }
+                else if(c == '.' && decimals < 0) {
+                    decimals = 0;
+                }
+                else {
+                    break;
+                }
+            }
+            //con la mantisa y la potencia de 10 exactas en float, una sola división da el float más cercano, igual que Float.parseFloat
+            if(j == end && digits > 0 && decimals < FLOAT_POW10.length) {
+                float value = decimals > 0 ? mantissa / FLOAT_POW10[decimals] : mantissa;
+                return negative ? -value : value;
+            }
+        }
+        return Float.parseFloat(GetString(i));
+    }
+}
@@ -0,0 +1,184 @@
+/** @file TopKSelector.java
+ *  @brief Contiene la clase TopKSelector
+ */
+
+package fxsrc.propyecto.domain;
+
+/** \class TopKSelector
+ *   \brief Selección de los K mejores candidatos (un identificador y una nota) sin ordenar todos los candidatos.
+ *
+ *   Guarda los K mejores vistos hasta ahora en un min-heap (el peor de ellos en la raíz) sobre dos arrays paralelos, int[] para los identificadores
+ *   y float[] para las notas, así que elegir los K mejores de n candidatos cuesta O(n log K) y no crea ningún objeto por candidato.
+ *   Un candidato es mejor que otro si tiene más nota (con el orden de Float.compare) y, a igual nota, según el identificador: el menor o el mayor,
+ *   según se indique al crear el selector. Los identificadores no se deben repetir, así que el resultado no depende del orden en que llegan los candidatos.
+ */
+public class TopKSelector {
+
+    /** \brief Identificadores de los candidatos del heap
+     */
+    private int[] keys;
+
+    /** \brief Notas de los candidatos del heap
+     */
+    private float[] values;
+
+    /** \brief Número de candidatos que se quieren quedar
+     */
+    private int k;
+
+    /** \brief Número de candidatos en el heap
+     */
+    private int size;
+
+    /** \brief Indica si, a igual nota, es mejor el identificador menor
+     */
+    private final boolean smallerKeyFirst;
+
+    /** \brief Constructor de TopKSelector
+     *
+     * \param int k Corresponde al número de candidatos que se quieren quedar
+     * \param boolean smallerKeyFirst Corresponde a si, a igual nota, es mejor el identificador menor (si no, es mejor el mayor)
+     * \pre \a k >= 0
+     * \post Se crea un selector vacío para los \a k mejores candidatos
+     */
+    public TopKSelector(int k, boolean smallerKeyFirst) {
+        this.smallerKeyFirst = smallerKeyFirst;
+        keys = new int[k];
+        values = new float[k];
+        Reset(k);
+    }
+
+    /** \brief Vacía el selector
+     *
+     * \param int k Corresponde al número de candidatos que se quieren quedar
+     * \pre \a k >= 0
+     * \post El selector queda vacío para los \a k mejores candidatos (solo se reservan arrays nuevos si no caben)
+     */
+    public void Reset(int k) {
+        if (k > keys.length) {
+            keys = new int[k];
+            values = new float[k];
+        }
+        this.k = k;
+        size = 0;
+    }
+
+    /** \brief Ofrece un candidato
+     *
+     * \param int key Corresponde al identificador del candidato
+     * \param float value Corresponde a la nota del candidato
+     * \pre \a key no se ha ofrecido desde el último Reset
+     * \post Si el candidato está entre los K mejores ofrecidos hasta ahora se queda (y sale el peor si ya había K)
+     */
+    public void Offer(int key, float value) {
+        if (size < k) {
+            keys[size] = key;
+            values[size] = value;
+            SiftUp(size++);
+        }
+        else if (k > 0 && Better(key, value, keys[0], values[0])) {
+            keys[0] = key;
+            values[0] = value;
+            SiftDown(0, size);
+        }
+    }
+
+    /** \brief Ordena los candidatos que se han quedado
+     *
+     * \pre <em>Cierto</em>
+     * \post Las primeras Size() posiciones de GetKeys() y GetValues() tienen los candidatos del mejor al peor. Hasta el siguiente Reset no se pueden ofrecer más
+     */
+    public void Sort() {
+        for (int end = size - 1; end > 0; --end) {
+            Swap(0, end); //el peor que queda pasa al final
+            SiftDown(0, end);
+        }
+    }
+
+    /** \brief Devuelve el número de candidatos que se han quedado
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el mínimo entre K y el número de candidatos ofrecidos desde el último Reset
+     */
+    public int Size() {
+        return size;
+    }
+
+    /** \brief Devuelve los identificadores de los candidatos
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con los identificadores en sus primeras Size() posiciones (ordenados del mejor al peor después de Sort)
+     */
+    public int[] GetKeys() {
+        return keys;
+    }
+
+    /** \brief Devuelve las notas de los candidatos
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve el array interno (solo lectura) con la nota de cada identificador de GetKeys()
+     */
+    public float[] GetValues() {
+        return values;
+    }
+
+    /** \brief Indica si un candidato es mejor que otro
+     *
+     * \pre <em>Cierto</em>
+     * \post Devuelve si (\a key, \a value) va antes que (\a otherKey, \a otherValue)
+     */
+    private boolean Better(int key, float value, int otherKey, float otherValue) {
+        int order = Float.compare(value, otherValue);
+        if (order != 0) return order > 0;
+        return smallerKeyFirst ? key < otherKey : key > otherKey;
+    }
+
+    /** \brief Sube un candidato mientras sea peor que su padre
+     *
+     * \param int i Corresponde a la posición del candidato
+     * \pre Las posiciones 0..i-1 forman un heap
+     * \post Las posiciones 0..i forman un heap
+     */
+    private void SiftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!Better(keys[parent], values[parent], keys[i], values[i])) break;
+            Swap(i, parent);
+            i = parent;
+        }
+    }
+
+    /** \brief Baja un candidato mientras alguno de sus hijos sea peor
+     *
+     * \param int i Corresponde a la posición del candidato
+     * \param int end Corresponde a la posición siguiente a la última del heap
+     * \pre Los subárboles de los hijos de \a i son heaps
+     * \post El subárbol de \a i es un heap
+     */
+    private void SiftDown(int i, int end) {
+        while (true) {
+            int worst = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < end && Better(keys[worst], values[worst], keys[left], values[left])) worst = left;
+            if (right < end && Better(keys[worst], values[worst], keys[right], values[right])) worst = right;
+            if (worst == i) return;
+            Swap(i, worst);
+            i = worst;
+        }
+    }
+
+    /** \brief Intercambia dos candidatos
+     *
+     * \pre 0 <= \a i, \a j < \a size
+     * \post Los candidatos de las posiciones \a i y \a j quedan intercambiados
+     */
+    private void Swap(int i, int j) {
+        int key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        float value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
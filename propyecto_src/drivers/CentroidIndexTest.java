@@ -0,0 +1,72 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.domain.CentroidIndex;
+import fxsrc.propyecto.domain.SparseDistance;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CentroidIndexTest {
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.CentroidIndexTest");
+    }
+
+    private static int[] RandomItems(Random r, int size, int range) {
+        int[] items = new int[size];
+        int last = -1;
+        for (int i = 0; i < size; i++) {
+            last += 1 + r.nextInt(range);
+            items[i] = last;
+        }
+        return items;
+    }
+
+    private static float[] RandomValues(Random r, int size) {
+        float[] values = new float[size];
+        for (int i = 0; i < size; i++) values[i] = r.nextInt(11) / 2.0f;
+        return values;
+    }
+
+    @Test
+    public void testSameAsSparseDistance() {
+        Random r = new Random(11);
+        int k = 12;
+        int[][] centroidItems = new int[k][];
+        float[][] centroidValues = new float[k][];
+        for (int c = 0; c < k; c++) {
+            int size = c == 3 ? 0 : 1 + r.nextInt(300);
+            centroidItems[c] = RandomItems(r, size, 6);
+            centroidValues[c] = RandomValues(r, size);
+        }
+        CentroidIndex index = new CentroidIndex(centroidItems, centroidValues);
+        assertEquals(k, index.GetNumberOfCentroids());
+        double[] squaredDistances = new double[k];
+        for (int t = 0; t < 50; t++) {
+            int size = r.nextInt(40);
+            int[] items = RandomItems(r, size, 30);
+            float[] values = RandomValues(r, size);
+            index.SquaredDistances(items, values, 0, size, squaredDistances);
+            for (int c = 0; c < k; c++) {
+                //mismo orden de suma, así que el resultado es exactamente el mismo
+                assertEquals(SparseDistance.SquaredDistance(items, values, 0, size, centroidItems[c], centroidValues[c], 0, centroidItems[c].length), squaredDistances[c], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testNoItemsInCommon() {
+        int[][] centroidItems = {{1, 3}, {3, 5}};
+        float[][] centroidValues = {{1.0f, 2.0f}, {4.0f, 5.0f}};
+        CentroidIndex index = new CentroidIndex(centroidItems, centroidValues);
+        double[] squaredDistances = new double[2];
+        index.SquaredDistances(new int[]{5, 9}, new float[]{3.0f, 1.0f}, 0, 2, squaredDistances);
+        assertEquals(-1.0, squaredDistances[0], 0.0);
+        assertEquals(4.0, squaredDistances[1], 0.0);
+        index.SquaredDistances(new int[]{3}, new float[]{2.0f}, 0, 1, squaredDistances);
+        assertEquals(0.0, squaredDistances[0], 0.0);
+        assertEquals(4.0, squaredDistances[1], 0.0);
+    }
+}
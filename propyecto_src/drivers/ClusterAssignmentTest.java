@@ -0,0 +1,81 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.data.ClusterAssignment;
+import fxsrc.propyecto.data.IdDictionary;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class ClusterAssignmentTest {
+
+    private ArrayList<ArrayList<Integer>> groups;
+    private ClusterAssignment assignment;
+
+    @Before
+    public void setUp() {
+        groups = new ArrayList<>();
+        groups.add(new ArrayList<>(Arrays.asList(10, 20, 30)));
+        groups.add(new ArrayList<>(Arrays.asList(-4)));
+        groups.add(new ArrayList<>());
+        assignment = new ClusterAssignment(groups, new IdDictionary());
+    }
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.ClusterAssignmentTest");
+    }
+
+    @Test
+    public void testGetCluster() {
+        assertEquals(3, assignment.GetNumberOfClusters());
+        assertEquals(0, assignment.GetCluster(20));
+        assertEquals(1, assignment.GetCluster(-4));
+        assertEquals(-1, assignment.GetCluster(99));
+    }
+
+    @Test
+    public void testMoveSwapsLastIntoPlace() {
+        assignment.Add(10, 2);
+        assertEquals(Arrays.asList(30, 20), groups.get(0));
+        assertEquals(Arrays.asList(10), groups.get(2));
+        assertEquals(2, assignment.GetCluster(10));
+
+        assignment.Add(30, 1);
+        assertEquals(Arrays.asList(20), groups.get(0));
+        assertEquals(Arrays.asList(-4, 30), groups.get(1));
+    }
+
+    @Test
+    public void testModificationCount() {
+        assertEquals(0, assignment.GetModificationCount(0));
+        assignment.Add(10, 0); //ya estaba en el grupo 0
+        assertEquals(0, assignment.GetModificationCount(0));
+        assignment.Add(10, 2);
+        assertEquals(1, assignment.GetModificationCount(0));
+        assertEquals(0, assignment.GetModificationCount(1));
+        assertEquals(1, assignment.GetModificationCount(2));
+        assignment.Remove(10);
+        assertEquals(2, assignment.GetModificationCount(2));
+    }
+
+    @Test
+    public void testRemoveAndAddNewUser() {
+        assertEquals(0, assignment.Remove(20));
+        assertEquals(-1, assignment.Remove(20));
+        assertEquals(-1, assignment.GetCluster(20));
+        assertEquals(Arrays.asList(10, 30), groups.get(0));
+
+        for (int userID = 1000; userID < 1100; userID++) {
+            assignment.Add(userID, userID % 3);
+        }
+        assertEquals(1, assignment.GetCluster(1000));
+        assertEquals(35, groups.get(1).size());
+        assignment.Remove(1000);
+        assertEquals(1099, (int) groups.get(1).get(1));
+        assignment.Remove(1099);
+        assertEquals(0, assignment.Remove(1002));
+    }
+}
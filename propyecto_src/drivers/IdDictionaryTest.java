@@ -0,0 +1,51 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.data.IdDictionary;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IdDictionaryTest {
+
+    private IdDictionary dictionary;
+
+    @Before
+    public void setUp() {
+        dictionary = new IdDictionary();
+        dictionary.Add(4050);
+        dictionary.Add(-2);
+        dictionary.Add(7);
+    }
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.IdDictionaryTest");
+    }
+
+    @Test
+    public void testIndicesInOrder() {
+        assertEquals(3, dictionary.Size());
+        assertEquals(0, dictionary.GetIndex(4050));
+        assertEquals(1, dictionary.GetIndex(-2));
+        assertEquals(2, dictionary.GetIndex(7));
+        assertEquals(-1, dictionary.GetIndex(8));
+    }
+
+    @Test
+    public void testAddExisting() {
+        assertEquals(1, dictionary.Add(-2));
+        assertEquals(3, dictionary.Size());
+    }
+
+    @Test
+    public void testReverse() {
+        for (int id = 1000; id < 3000; id++) {
+            dictionary.Add(id * 3 + 1);
+        }
+        assertEquals(2003, dictionary.Size());
+        for (int i = 0; i < dictionary.Size(); i++) {
+            assertEquals(i, dictionary.GetIndex(dictionary.GetID(i)));
+        }
+        assertEquals(-2, dictionary.GetID(1));
+    }
+}
@@ -0,0 +1,138 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.data.ClusterAssignment;
+import fxsrc.propyecto.data.IdDictionary;
+import fxsrc.propyecto.domain.KMeansMaintainer;
+import fxsrc.propyecto.domain.Rating;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class KMeansMaintainerTest {
+
+    private HashMap<Integer, ArrayList<Rating>> ratingsOfUsers;
+    private ClusterAssignment assignment;
+    private ArrayList<ArrayList<Rating>> centroids;
+    private KMeansMaintainer maintainer;
+
+    @Before
+    public void setUp() {
+        Random r = new Random(16);
+        ratingsOfUsers = new HashMap<>();
+        ArrayList<ArrayList<Integer>> groups = new ArrayList<>();
+        for (int c = 0; c < 3; c++) groups.add(new ArrayList<>());
+        for (int u = 0; u < 12; u++) {
+            ArrayList<Rating> ratings = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                if (r.nextInt(2) == 0) ratings.add(new Rating(u, i, r.nextInt(11) / 2.0f));
+            }
+            if (ratings.isEmpty()) ratings.add(new Rating(u, u % 10, 2.5f));
+            ratingsOfUsers.put(u, ratings);
+            groups.get(u % 3).add(u);
+        }
+        assignment = new ClusterAssignment(groups, new IdDictionary());
+        centroids = new ArrayList<>();
+        for (int c = 0; c < 3; c++) centroids.add(MeanOfGroup(c));
+        maintainer = new KMeansMaintainer(assignment, centroids, ratingsOfUsers);
+    }
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.KMeansMaintainerTest");
+    }
+
+    /** Nota media de cada item entre los usuarios del grupo que lo han valorado, como la calcula Kmeans */
+    private ArrayList<Rating> MeanOfGroup(int cluster) {
+        double[] sums = new double[11];
+        int[] counts = new int[11];
+        for (int userID : assignment.GetGroup(cluster)) {
+            for (Rating rating : ratingsOfUsers.get(userID)) {
+                sums[rating.GetItemID()] += rating.GetRating();
+                counts[rating.GetItemID()]++;
+            }
+        }
+        ArrayList<Rating> mean = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) mean.add(new Rating(-1, i, (float) (sums[i] / counts[i])));
+        }
+        return mean;
+    }
+
+    private void CheckCentroids() {
+        for (int c = 0; c < 3; c++) {
+            HashMap<Integer, Float> maintained = new HashMap<>();
+            for (Rating rating : centroids.get(c)) maintained.put(rating.GetItemID(), rating.GetRating());
+            ArrayList<Rating> expected = MeanOfGroup(c);
+            assertEquals(expected.size(), maintained.size());
+            for (Rating rating : expected) {
+                assertTrue(maintained.containsKey(rating.GetItemID()));
+                assertEquals(rating.GetRating(), maintained.get(rating.GetItemID()), 1e-4f);
+            }
+        }
+    }
+
+    /** Copia con las notas de antes del cambio, como la que devuelve DataRating.GetStoredUserRatings */
+    private static ArrayList<Rating> Stored(ArrayList<Rating> ratings) {
+        ArrayList<Rating> stored = new ArrayList<>();
+        for (Rating rating : ratings) stored.add(new Rating(rating.GetUserID(), rating.GetItemID(), rating.GetRating()));
+        return stored;
+    }
+
+    @Test
+    public void testCentroidsStayMeansOfTheirGroups() {
+        CheckCentroids();
+
+        //añadir una valoración
+        ArrayList<Rating> ratings = ratingsOfUsers.get(4);
+        ArrayList<Rating> before = Stored(ratings);
+        boolean[] rated = new boolean[11];
+        for (Rating rating : ratings) rated[rating.GetItemID()] = true;
+        int newItem = 0;
+        while (rated[newItem]) newItem++; //el item 10 no lo ha valorado nadie
+        ratings.add(new Rating(4, newItem, 5.0f));
+        assertEquals(1, KMeansMaintainer.CountChangedRatings(before, ratings));
+        maintainer.UpdateUser(4, before, ratings);
+        CheckCentroids();
+
+        //modificar una valoración cambiando el mismo objeto Rating, como hace User.ModifyItemRating
+        ratings = ratingsOfUsers.get(7);
+        before = Stored(ratings);
+        ratings.get(0).SetRating(ratings.get(0).GetRating() == 0.0f ? 4.5f : 0.0f);
+        assertEquals(1, KMeansMaintainer.CountChangedRatings(before, ratings));
+        maintainer.UpdateUser(7, before, ratings);
+        CheckCentroids();
+
+        //borrar una valoración
+        ratings = ratingsOfUsers.get(2);
+        before = Stored(ratings);
+        ratings.remove(ratings.size() - 1);
+        assertEquals(1, KMeansMaintainer.CountChangedRatings(before, ratings));
+        maintainer.UpdateUser(2, before, ratings);
+        CheckCentroids();
+
+        //borrar la cuenta: cuentan todas sus valoraciones
+        ratings = ratingsOfUsers.get(9);
+        before = Stored(ratings);
+        ratingsOfUsers.put(9, new ArrayList<>());
+        assertEquals(before.size(), KMeansMaintainer.CountChangedRatings(before, ratingsOfUsers.get(9)));
+        maintainer.UpdateUser(9, before, ratingsOfUsers.get(9));
+        assertEquals(-1, assignment.GetCluster(9));
+        CheckCentroids();
+    }
+
+    @Test
+    public void testCountChangedRatings() {
+        ArrayList<Rating> before = new ArrayList<>();
+        before.add(new Rating(1, 10, 3.0f));
+        before.add(new Rating(1, 20, 4.0f));
+        ArrayList<Rating> after = new ArrayList<>();
+        after.add(new Rating(1, 20, 4.0f)); //igual
+        after.add(new Rating(1, 30, 1.0f)); //nuevo
+        assertEquals(2, KMeansMaintainer.CountChangedRatings(before, after)); //el 10 se borra
+        assertEquals(0, KMeansMaintainer.CountChangedRatings(before, before));
+    }
+}
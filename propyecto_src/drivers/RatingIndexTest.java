@@ -0,0 +1,87 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.data.RatingIndex;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RatingIndexTest {
+
+    private RatingIndex index;
+
+    @Before
+    public void setUp() {
+        index = new RatingIndex();
+        index.Put(1, 10, 4.5f);
+        index.Put(-2, 10, 1.0f);
+        index.Put(1, -3, 2.0f);
+    }
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.RatingIndexTest");
+    }
+
+    @Test
+    public void testFind() {
+        assertEquals(3, index.Size());
+        assertEquals(4.5f, index.GetValue(index.Find(1, 10)), 0.0f);
+        assertEquals(1.0f, index.GetValue(index.Find(-2, 10)), 0.0f);
+        assertEquals(2.0f, index.GetValue(index.Find(1, -3)), 0.0f);
+        assertEquals(-1, index.Find(10, 1));
+    }
+
+    @Test
+    public void testPutReplaces() {
+        index.Put(1, 10, 3.0f);
+        assertEquals(3, index.Size());
+        assertEquals(3.0f, index.GetValue(index.Find(1, 10)), 0.0f);
+    }
+
+    @Test
+    public void testRemove() {
+        assertTrue(index.Remove(1, 10));
+        assertFalse(index.Remove(1, 10));
+        assertFalse(index.Contains(1, 10));
+        assertTrue(index.Contains(-2, 10));
+        assertEquals(2, index.Size());
+    }
+
+    @Test
+    public void testManyAgainstHashMap() {
+        HashMap<Long, Float> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            int user = random.nextInt(200);
+            int item = random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(RatingIndex.Key(user, item)) != null, index.Remove(user, item));
+            }
+            else {
+                expected.put(RatingIndex.Key(user, item), (float) i);
+                index.Put(user, item, i);
+            }
+        }
+        index.Remove(1, 10);
+        index.Remove(-2, 10);
+        index.Remove(1, -3);
+        expected.remove(RatingIndex.Key(1, 10));
+        expected.remove(RatingIndex.Key(1, -3));
+        assertEquals(expected.size(), index.Size());
+        for (int user = 0; user < 200; user++) {
+            for (int item = 0; item < 300; item++) {
+                Float value = expected.get(RatingIndex.Key(user, item));
+                int slot = index.Find(user, item);
+                if (value == null) {
+                    assertEquals(-1, slot);
+                }
+                else {
+                    assertEquals(value, index.GetValue(slot), 0.0f);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.data.RatingMatrix;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Scanner;
+
+import static org.junit.Assert.*;
+
+public class RatingMatrixTest {
+
+    private static RatingMatrix m;
+
+    @BeforeClass
+    public static void setUp() throws FileNotFoundException {
+        Scanner sc = new Scanner(new File("./src/main/java/fxsrc/propyecto/drivers/text/RatingMatrixTest.txt"));
+        int[] users = new int[10];
+        int[] items = new int[10];
+        float[] values = new float[10];
+        int size = 0;
+        while (sc.hasNextLine()) {
+            String[] s = sc.nextLine().split(",");
+            users[size] = Integer.parseInt(s[0]);
+            items[size] = Integer.parseInt(s[1]);
+            values[size] = Float.parseFloat(s[2]);
+            size++;
+        }
+        m = new RatingMatrix(users, items, values, size);
+    }
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.RatingMatrixTest");
+    }
+
+    @Test
+    public void testSizes() {
+        assertEquals(3, m.GetNumberOfUsers());
+        assertEquals(3, m.GetNumberOfItems());
+        assertEquals(5, m.GetNumberOfRatings());
+    }
+
+    @Test
+    public void testRowsSortedByItem() {
+        int row = m.GetUserRow(7);
+        assertEquals(2, m.GetRowSize(row));
+        assertEquals(10, m.GetRowItemIDs()[m.GetRowStart(row)]);
+        assertEquals(30, m.GetRowItemIDs()[m.GetRowStart(row) + 1]);
+        assertEquals(5.0f, m.GetRowValues()[m.GetRowStart(row)], 0.0f);
+        assertEquals(m.GetItemColumn(30), m.GetRowColumns()[m.GetRowStart(row) + 1]);
+    }
+
+    @Test
+    public void testColumnsSortedByUser() {
+        int col = m.GetItemColumn(30);
+        assertEquals(-2, m.GetColumnUserIDs()[m.GetColumnStart(col)]);
+        assertEquals(7, m.GetColumnUserIDs()[m.GetColumnEnd(col) - 1]);
+        assertEquals(4.5f, m.GetColumnValues()[m.GetColumnEnd(col) - 1], 0.0f);
+    }
+
+    @Test
+    public void testFind() {
+        int pos = m.FindInRow(m.GetUserRow(3), 20);
+        assertEquals(3.5f, m.GetRowValues()[pos], 0.0f);
+        assertEquals(-1, m.FindInRow(m.GetUserRow(3), 30));
+        assertEquals(-1, m.GetUserRow(99));
+        pos = m.FindInColumn(m.GetItemColumn(10), 3);
+        assertEquals(2.0f, m.GetColumnValues()[pos], 0.0f);
+    }
+}
@@ -0,0 +1,80 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.data.RatingSnapshot;
+import fxsrc.propyecto.domain.Rating;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+public class RatingSnapshotTest {
+
+    private File csv;
+    private ArrayList<Rating> ratings;
+
+    @Before
+    public void setUp() throws IOException {
+        csv = File.createTempFile("ratings", ".csv");
+        csv.deleteOnExit();
+        new File(csv.getPath() + ".bin").deleteOnExit();
+        FileWriter fw = new FileWriter(csv);
+        fw.write("userId,itemId,rating\n7,30,4.5\n3,10,2.0\n7,10,5.0\n");
+        fw.close();
+        ratings = new ArrayList<>();
+        ratings.add(new Rating(7, 30, 4.5f));
+        ratings.add(new Rating(3, 10, 2.0f));
+        ratings.add(new Rating(7, 10, 5.0f));
+    }
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.RatingSnapshotTest");
+    }
+
+    @Test
+    public void testStoreAndOpen() {
+        new RatingSnapshot(csv.getPath()).Store("userId,itemId,rating", ratings);
+        RatingSnapshot snapshot = new RatingSnapshot(csv.getPath());
+        assertTrue(snapshot.Open());
+        assertEquals("userId,itemId,rating", snapshot.GetHeader());
+        assertEquals(3, snapshot.GetNumberOfRatings());
+        assertEquals(3, snapshot.GetUserID(1));
+        assertEquals(10, snapshot.GetItemID(2));
+        assertEquals(4.5f, snapshot.GetRating(0), 0.0f);
+
+        int[] users = new int[3];
+        int[] items = new int[3];
+        float[] values = new float[3];
+        snapshot.GetColumns(users, items, values);
+        assertArrayEquals(new int[]{7, 3, 7}, users);
+        assertArrayEquals(new int[]{30, 10, 10}, items);
+        assertArrayEquals(new float[]{4.5f, 2.0f, 5.0f}, values, 0.0f);
+        assertEquals(3, snapshot.GetUserID(1)); //GetColumns no mueve las columnas
+    }
+
+    @Test
+    public void testUserIndex() {
+        new RatingSnapshot(csv.getPath()).Store("userId,itemId,rating", ratings);
+        RatingSnapshot snapshot = new RatingSnapshot(csv.getPath());
+        assertTrue(snapshot.Open());
+        assertEquals(2, snapshot.GetNumberOfUsers());
+        assertEquals(7, snapshot.GetUserIDByPosition(0));
+        assertEquals(2, snapshot.GetUserNumberOfRatings(0));
+        assertEquals(0, snapshot.GetUserRatingPosition(0, 0));
+        assertEquals(2, snapshot.GetUserRatingPosition(0, 1));
+        assertEquals(1, snapshot.GetUserRatingPosition(1, 0));
+    }
+
+    @Test
+    public void testStaleWhenCsvChanges() throws IOException {
+        new RatingSnapshot(csv.getPath()).Store("userId,itemId,rating", ratings);
+        FileWriter fw = new FileWriter(csv, true);
+        fw.write("3,20,3.5\n");
+        fw.close();
+        assertFalse(new RatingSnapshot(csv.getPath()).Open());
+    }
+}
@@ -0,0 +1,106 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.data.RatingMatrix;
+import fxsrc.propyecto.domain.SlopeOneDeviations;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SlopeOneDeviationsTest {
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.SlopeOneDeviationsTest");
+    }
+
+    @Test
+    public void testSameAsPairwiseSums() {
+        Random r = new Random(23);
+        int numberOfUsers = 40, numberOfItems = 25;
+        float[][] dense = new float[numberOfUsers][numberOfItems];
+        int[] users = new int[numberOfUsers * numberOfItems];
+        int[] items = new int[users.length];
+        float[] values = new float[users.length];
+        int size = 0;
+        for (int u = 0; u < numberOfUsers; u++) {
+            Arrays.fill(dense[u], -1.0f);
+            for (int i = 0; i < numberOfItems; i++) {
+                if (r.nextInt(3) != 0) continue;
+                dense[u][i] = r.nextInt(11) / 2.0f;
+                users[size] = u * 7;
+                items[size] = i * 3;
+                values[size] = dense[u][i];
+                size++;
+            }
+        }
+        RatingMatrix matrix = new RatingMatrix(users, items, values, size);
+
+        //grupo desordenado y con un usuario que no tiene valoraciones
+        ArrayList<Integer> group = new ArrayList<>();
+        for (int u = numberOfUsers - 1; u >= 0; u -= 2) group.add(u * 7);
+        group.add(1000);
+        SlopeOneDeviations deviations = new SlopeOneDeviations(group, matrix);
+
+        int entries = 0;
+        for (int j = 0; j < numberOfItems; j++) {
+            int row = deviations.FindRow(matrix.GetItemColumn(j * 3));
+            for (int i = 0; i < numberOfItems; i++) {
+                if (i == j) continue;
+                float sum = 0.0f;
+                int count = 0;
+                for (int userID : group) {
+                    if (userID == 1000) continue;
+                    float ratingI = dense[userID / 7][i], ratingJ = dense[userID / 7][j];
+                    if (ratingI != -1.0f && ratingJ != -1.0f) {
+                        sum += (ratingI - ratingJ);
+                        count++;
+                    }
+                }
+                int found = -1;
+                if (row != -1) {
+                    for (int e = deviations.GetRowStart(row); e < deviations.GetRowEnd(row); e++) {
+                        if (matrix.GetItemID(deviations.GetColumns()[e]) == i * 3) found = e;
+                    }
+                }
+                if (count == 0) {
+                    assertEquals(-1, found);
+                }
+                else {
+                    assertTrue(found != -1);
+                    //mismo orden de suma, así que la desviación es exactamente la misma
+                    assertEquals(sum / (float) count, deviations.GetDeviations()[found], 0.0f);
+                    assertEquals(count, deviations.GetCounts()[found]);
+                    entries++;
+                }
+            }
+        }
+        assertEquals(entries, deviations.GetNumberOfEntries());
+    }
+
+    @Test
+    public void testRowsAndColumnsSorted() {
+        int[] users = {1, 1, 1, 2, 2, 3};
+        int[] items = {30, 10, 20, 20, 30, 40};
+        float[] values = {1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 1.0f};
+        RatingMatrix matrix = new RatingMatrix(users, items, values, users.length);
+        ArrayList<Integer> group = new ArrayList<>(Arrays.asList(2, 1, 3));
+        SlopeOneDeviations deviations = new SlopeOneDeviations(group, matrix);
+
+        //el item 40 solo lo ha valorado el usuario 3, que no tiene ningún otro item
+        assertEquals(-1, deviations.FindRow(matrix.GetItemColumn(40)));
+        assertEquals(3, deviations.GetNumberOfRows());
+        int row = deviations.FindRow(matrix.GetItemColumn(20));
+        assertEquals(2, deviations.GetRowEnd(row) - deviations.GetRowStart(row));
+        int first = deviations.GetRowStart(row);
+        assertEquals(10, matrix.GetItemID(deviations.GetColumns()[first]));
+        assertEquals(-1.0f, deviations.GetDeviations()[first], 0.0f);
+        assertEquals(1, deviations.GetCounts()[first]);
+        assertEquals(30, matrix.GetItemID(deviations.GetColumns()[first + 1]));
+        //((5 - 4) + (1 - 3)) / 2
+        assertEquals(-0.5f, deviations.GetDeviations()[first + 1], 0.0f);
+        assertEquals(2, deviations.GetCounts()[first + 1]);
+    }
+}
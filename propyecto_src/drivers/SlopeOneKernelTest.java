@@ -0,0 +1,131 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.data.IdDictionary;
+import fxsrc.propyecto.data.RatingMatrix;
+import fxsrc.propyecto.domain.Rating;
+import fxsrc.propyecto.domain.SlopeOneDeviations;
+import fxsrc.propyecto.domain.SlopeOneKernel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SlopeOneKernelTest {
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.SlopeOneKernelTest");
+    }
+
+    @Test
+    public void testSameAsNaiveSlopeOne() {
+        Random r = new Random(24);
+        int numberOfUsers = 30, numberOfItems = 70;
+        float[][] dense = new float[numberOfUsers][numberOfItems];
+        int[] users = new int[numberOfUsers * numberOfItems];
+        int[] items = new int[users.length];
+        float[] values = new float[users.length];
+        int size = 0;
+        for (int u = 0; u < numberOfUsers; u++) {
+            for (int i = 0; i < numberOfItems; i++) {
+                dense[u][i] = -1.0f;
+                if (r.nextInt(4) != 0) continue;
+                dense[u][i] = r.nextInt(11) / 2.0f;
+                users[size] = u;
+                items[size] = 1000 - i; //los itemID no siguen el orden de los índices internos
+                values[size] = dense[u][i];
+                size++;
+            }
+        }
+        RatingMatrix matrix = new RatingMatrix(users, items, values, size);
+        IdDictionary dictionary = new IdDictionary();
+        for (int i = 0; i < numberOfItems; i++) dictionary.Add(1000 - i);
+        int[] itemIndexOfColumn = new int[matrix.GetNumberOfItems()];
+        for (int c = 0; c < itemIndexOfColumn.length; c++) itemIndexOfColumn[c] = dictionary.GetIndex(matrix.GetItemID(c));
+        ArrayList<Integer> group = new ArrayList<>();
+        for (int u = 1; u < numberOfUsers; u++) group.add(u);
+        SlopeOneDeviations deviations = new SlopeOneDeviations(group, matrix);
+
+        //el usuario 0 no es del grupo; los ultimos 10 items no son del sistema
+        int numberOfItemsInTheSystem = numberOfItems - 10;
+        ArrayList<Rating> ratingsOfUser = new ArrayList<>();
+        for (int i = 0; i < numberOfItems; i++) {
+            if (dense[0][i] != -1.0f) ratingsOfUser.add(new Rating(0, 1000 - i, dense[0][i]));
+        }
+        SlopeOneKernel kernel = SlopeOneKernel.ForCurrentThread();
+        for (int repetition = 0; repetition < 2; repetition++) { //la segunda vez reutiliza los arrays
+            int predicted = kernel.Predict(ratingsOfUser, deviations, matrix, itemIndexOfColumn, dictionary, numberOfItemsInTheSystem);
+            kernel.SelectBest(predicted);
+
+            int expectedCandidates = 0, expectedPredicted = 0;
+            for (int i = 0; i < numberOfItemsInTheSystem; i++) {
+                if (dense[0][i] != -1.0f) continue;
+                expectedCandidates++;
+                float sum = 0.0f;
+                int terms = 0;
+                for (Rating ratingJ : ratingsOfUser) {
+                    int j = 1000 - ratingJ.GetItemID();
+                    float sumOfDifferences = 0.0f;
+                    int count = 0;
+                    for (int u : group) {
+                        if (dense[u][i] != -1.0f && dense[u][j] != -1.0f) {
+                            sumOfDifferences += (dense[u][i] - dense[u][j]);
+                            count++;
+                        }
+                    }
+                    if (count > 0) {
+                        sum += ratingJ.GetRating() + sumOfDifferences / (float) count;
+                        terms++;
+                    }
+                }
+                int found = -1;
+                for (int p = 0; p < predicted; p++) {
+                    if (kernel.GetPredictedItems()[p] == i) found = p;
+                }
+                if (terms == 0) {
+                    assertEquals(-1, found);
+                }
+                else {
+                    expectedPredicted++;
+                    assertEquals(sum / terms, kernel.GetPredictedValues()[found], 0.0f);
+                }
+            }
+            assertEquals(expectedPredicted, predicted);
+            assertEquals(expectedCandidates, kernel.GetNumberOfCandidates());
+            assertEquals(expectedCandidates - expectedPredicted, kernel.GetNumberOfUnpredictable());
+            for (int p = 1; p < predicted; p++) {
+                int order = Float.compare(kernel.GetPredictedValues()[p - 1], kernel.GetPredictedValues()[p]);
+                assertTrue(order > 0 || (order == 0 && kernel.GetPredictedItems()[p - 1] < kernel.GetPredictedItems()[p]));
+            }
+        }
+    }
+
+    @Test
+    public void testNegativePredictionsSorted() {
+        //el usuario 1 da a los items 1 y 2 mucho menos que al item 0
+        int[] users = {1, 1, 1, 2, 2};
+        int[] items = {0, 1, 2, 0, 2};
+        float[] values = {5.0f, 0.0f, 0.5f, 1.0f, 0.0f};
+        RatingMatrix matrix = new RatingMatrix(users, items, values, users.length);
+        IdDictionary dictionary = new IdDictionary();
+        for (int i = 0; i < 3; i++) dictionary.Add(i);
+        int[] itemIndexOfColumn = {0, 1, 2};
+        ArrayList<Integer> group = new ArrayList<>();
+        group.add(1);
+        group.add(2);
+        SlopeOneDeviations deviations = new SlopeOneDeviations(group, matrix);
+
+        ArrayList<Rating> ratingsOfUser = new ArrayList<>();
+        ratingsOfUser.add(new Rating(3, 0, 1.0f));
+        SlopeOneKernel kernel = SlopeOneKernel.ForCurrentThread();
+        assertEquals(2, kernel.Predict(ratingsOfUser, deviations, matrix, itemIndexOfColumn, dictionary, 3));
+        assertEquals(2, kernel.SelectBest(5));
+        assertEquals(0, kernel.GetNumberOfUnpredictable());
+        //item 2: 1 + ((0.5 - 5) + (0 - 1)) / 2 = -1.75; item 1: 1 + (0 - 5) = -4
+        assertEquals(2, kernel.GetPredictedItems()[0]);
+        assertEquals(-1.75f, kernel.GetPredictedValues()[0], 0.0f);
+        assertEquals(1, kernel.GetPredictedItems()[1]);
+        assertEquals(-4.0f, kernel.GetPredictedValues()[1], 0.0f);
+    }
+}
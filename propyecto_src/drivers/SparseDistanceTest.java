@@ -0,0 +1,84 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.domain.Rating;
+import fxsrc.propyecto.domain.SparseDistance;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SparseDistanceTest {
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.SparseDistanceTest");
+    }
+
+    private static double Naive(int[] itemsA, float[] valuesA, int[] itemsB, float[] valuesB) {
+        double sum = 0;
+        boolean common = false;
+        for (int i = 0; i < itemsA.length; i++) {
+            for (int j = 0; j < itemsB.length; j++) {
+                if (itemsA[i] == itemsB[j]) {
+                    double d = valuesA[i] - valuesB[j];
+                    sum += d * d;
+                    common = true;
+                }
+            }
+        }
+        return common ? sum : -1.0;
+    }
+
+    private static int[] RandomItems(Random r, int size, int range) {
+        int[] items = new int[size];
+        int last = -1;
+        for (int i = 0; i < size; i++) {
+            last += 1 + r.nextInt(range);
+            items[i] = last;
+        }
+        return items;
+    }
+
+    private static float[] RandomValues(Random r, int size) {
+        float[] values = new float[size];
+        for (int i = 0; i < size; i++) values[i] = r.nextInt(11) / 2.0f;
+        return values;
+    }
+
+    @Test
+    public void testMergeAndGalloping() {
+        Random r = new Random(7);
+        int[][] sizes = {{20, 25}, {3, 400}, {400, 3}, {1, 1}, {50, 1000}};
+        for (int[] size : sizes) {
+            int[] itemsA = RandomItems(r, size[0], 4);
+            int[] itemsB = RandomItems(r, size[1], 4);
+            float[] valuesA = RandomValues(r, size[0]);
+            float[] valuesB = RandomValues(r, size[1]);
+            assertEquals(Naive(itemsA, valuesA, itemsB, valuesB),
+                    SparseDistance.SquaredDistance(itemsA, valuesA, 0, itemsA.length, itemsB, valuesB, 0, itemsB.length), 1e-9);
+        }
+    }
+
+    @Test
+    public void testNoItemsInCommon() {
+        int[] itemsA = {1, 3, 5};
+        int[] itemsB = {2, 4, 6, 8};
+        assertEquals(-1.0, SparseDistance.SquaredDistance(itemsA, new float[3], 0, 3, itemsB, new float[4], 0, 4), 0.0);
+        assertEquals(-1.0, SparseDistance.SquaredDistance(itemsA, new float[3], 0, 0, itemsB, new float[4], 0, 4), 0.0);
+    }
+
+    @Test
+    public void testSortByItem() {
+        ArrayList<Rating> ratings = new ArrayList<>();
+        ratings.add(new Rating(-1, 30, 2.5f));
+        ratings.add(new Rating(-1, -4, 1.0f));
+        ratings.add(new Rating(-1, 12, 4.0f));
+        int[] items = new int[3];
+        float[] values = new float[3];
+        SparseDistance.SortByItem(ratings, items, values);
+        assertArrayEquals(new int[]{-4, 12, 30}, items);
+        assertEquals(4.0f, values[1], 0.0f);
+        assertEquals(2.5f, values[2], 0.0f);
+    }
+}
@@ -0,0 +1,67 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.domain.TokenizerCSV;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TokenizerCSVTest {
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.TokenizerCSVTest");
+    }
+
+    @Test
+    public void testQuotedCells() {
+        TokenizerCSV t = new TokenizerCSV(',', true);
+        t.Reset("12,\"Some, text\",,4.5");
+        assertEquals(4, t.GetNumberOfCells());
+        assertEquals(12, t.GetInt(0));
+        assertEquals("\"Some, text\"", t.GetString(1));
+        assertTrue(t.IsEmpty(2));
+        assertEquals(4.5f, t.GetFloat(3), 0.0f);
+    }
+
+    @Test
+    public void testSplitLikeValues() {
+        TokenizerCSV t = new TokenizerCSV(';', false);
+        String line = "x,1;2;;,y";
+        t.Reset(line, 2, 7);
+        assertEquals(2, t.GetNumberOfCells());
+        assertEquals(2, t.GetInt(1));
+        t.Reset("");
+        assertEquals(1, t.GetNumberOfCells());
+        assertTrue(t.IsEmpty(0));
+    }
+
+    @Test
+    public void testNumbers() {
+        TokenizerCSV t = new TokenizerCSV(',', true);
+        t.Reset("-2147483648,2147483648,+7,-,1.45f,Title,TrUe");
+        assertEquals(Integer.MIN_VALUE, t.GetInt(0));
+        assertFalse(t.IsInt(1));
+        assertEquals(7, t.GetInt(2));
+        assertFalse(t.IsInt(3));
+        assertFalse(t.IsInt(4));
+        assertTrue(t.IsFloat(4));
+        assertFalse(t.IsFloat(5));
+        assertTrue(t.EqualsUpperCase(6, "TRUE"));
+    }
+
+    @Test
+    public void testFastFloatMatchesParseFloat() {
+        TokenizerCSV t = new TokenizerCSV(',', true);
+        String[] values = {"4.5", "-0.0", "3", "0.1", ".7", "5.", "16777215.0", "123456789.123", "1e3", "0.00000000001"};
+        for(String v : values) {
+            t.Reset(v);
+            assertEquals(Float.floatToIntBits(Float.parseFloat(v)), Float.floatToIntBits(t.GetFloat(0)));
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testBadInt() {
+        TokenizerCSV t = new TokenizerCSV(',', true);
+        t.Reset("12a");
+        t.GetInt(0);
+    }
+}
@@ -0,0 +1,66 @@
+package fxsrc.propyecto.drivers;
+
+import fxsrc.propyecto.domain.TopKSelector;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TopKSelectorTest {
+
+    public static void main(String args[]) {
+        org.junit.runner.JUnitCore.main("fxsrc.propyecto.drivers.TopKSelectorTest");
+    }
+
+    private static void CheckAgainstSort(TopKSelector selector, int k, boolean smallerKeyFirst, int[] keys, float[] values) {
+        selector.Reset(k);
+        for (int i = 0; i < keys.length; i++) selector.Offer(keys[i], values[i]);
+        selector.Sort();
+
+        ArrayList<Integer> order = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) order.add(i);
+        Collections.sort(order, (a, b) -> {
+            int byValue = Float.compare(values[b], values[a]);
+            if (byValue != 0) return byValue;
+            return smallerKeyFirst ? Integer.compare(keys[a], keys[b]) : Integer.compare(keys[b], keys[a]);
+        });
+        assertEquals(Math.min(k, keys.length), selector.Size());
+        for (int i = 0; i < selector.Size(); i++) {
+            assertEquals(keys[order.get(i)], selector.GetKeys()[i]);
+            assertEquals(values[order.get(i)], selector.GetValues()[i], 0.0f);
+        }
+    }
+
+    @Test
+    public void testSameAsFullSort() {
+        Random r = new Random(25);
+        for (boolean smallerKeyFirst : new boolean[]{true, false}) {
+            TopKSelector selector = new TopKSelector(4, smallerKeyFirst);
+            for (int t = 0; t < 40; t++) {
+                int n = r.nextInt(200);
+                int[] keys = new int[n];
+                float[] values = new float[n];
+                for (int i = 0; i < n; i++) {
+                    keys[i] = n - 1 - 2 * i; //sin repetir y en orden decreciente
+                    values[i] = r.nextInt(9) / 2.0f; //muchos empates
+                }
+                CheckAgainstSort(selector, r.nextInt(20), smallerKeyFirst, keys, values);
+            }
+        }
+    }
+
+    @Test
+    public void testSpecialValues() {
+        TopKSelector selector = new TopKSelector(0, true);
+        int[] keys = {1, 2, 3, 4, 5, 6};
+        float[] values = {Float.MIN_VALUE, 0.0f, -0.0f, -3.0f, Float.NaN, 5.0f};
+        CheckAgainstSort(selector, 4, true, keys, values);
+        assertEquals(5, selector.GetKeys()[0]); //NaN es el mayor para Float.compare
+        assertEquals(6, selector.GetKeys()[1]);
+        CheckAgainstSort(selector, 0, true, keys, values);
+        CheckAgainstSort(selector, 10, true, keys, values);
+    }
+}
@@ -0,0 +1,5 @@
+package fxsrc.propyecto.enums;
+
+public enum KMeansModes {
+    FULL_BATCH, MINI_BATCH;
+}
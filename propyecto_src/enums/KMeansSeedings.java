@@ -0,0 +1,5 @@
+package fxsrc.propyecto.enums;
+
+public enum KMeansSeedings {
+    FIRST_USERS, KMEANS_PLUS_PLUS;
+}
@@ -0,0 +1,5 @@
+package fxsrc.propyecto.enums;
+
+public enum KMeansStopReasons {
+    CONVERGED, NO_PROGRESS, MAX_ITERATIONS;
+}
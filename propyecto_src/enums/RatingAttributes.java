@@ -1,5 +1,5 @@
-package fxsrc.propyecto.enums;
-
-public enum RatingAttributes {
-    USER_ID, ITEM_ID, RATING;
-}
+package fxsrc.propyecto.enums;
+
+public enum RatingAttributes {
+    USER_ID, ITEM_ID, RATING;
+}